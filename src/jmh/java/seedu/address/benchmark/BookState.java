@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.DatasetGenerator;
+
+/**
+ * An address book shared by the benchmarks that read or write one, generated by {@link DatasetGenerator} for each
+ * combination of book size and link density.
+ */
+@State(Scope.Benchmark)
+public class BookState {
+    private static final long SEED = 2103;
+
+    /** The number of persons in the address book. */
+    @Param({"1000", "10000"})
+    private int bookSize;
+
+    /** The average number of links each person makes. */
+    @Param({"0", "2"})
+    private double linkDensity;
+
+    private AddressBook addressBook;
+
+    /**
+     * Generates the address book for the current parameters.
+     */
+    @Setup(Level.Trial)
+    public void generate() {
+        addressBook = new DatasetGenerator(SEED)
+                .withPersonCount(bookSize)
+                .withLinks(linkDensity, DatasetGenerator.DEFAULT_LINK_SKEW)
+                .withInfoLength(100)
+                .generate();
+    }
+
+    /**
+     * Returns the generated address book. Benchmarks that modify it must work on a copy.
+     */
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BookState;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.exceptions.AssemblyException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures executing a command end to end with {@link LogicManager#execute(String)}, from parsing the command text to
+ * saving the address book if the command changed it.
+ * <p>
+ * Commands that change the address book are paired with one that reverts the change, so that every invocation does
+ * the same work. {@code link} is left out as there is no command that removes a link.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogicManagerBenchmark {
+    @Param({
+        "list",
+        "find Zachary /name",
+        "sort -phone",
+        "add \"Bench Person\" 91234567 \"1 Bench Road\" \"bench@example.com\"; find Bench /name; delete 1",
+        "edit 1 /phone:91234567; edit 1 /phone:81234567",
+        "tag 1-10 +bench; tag 1-10 -bench",
+        "field 1-10 /bench:yes; field 1-10 /bench",
+        // Edit every person, so the time per person stays flat across book sizes only if each edit is O(log n)
+        "tag all +bench; tag all -bench",
+        "field all /bench:yes; field all /bench"
+    })
+    private String commandText;
+
+    private Path directory;
+    private LogicManager logic;
+
+    /**
+     * Creates a logic manager over a copy of the generated address book, saving to a new directory.
+     */
+    @Setup(Level.Iteration)
+    public void setUp(BookState book) throws IOException {
+        directory = Files.createTempDirectory("logic-benchmark");
+        ModelManager model = new ModelManager(new AddressBook(book.getAddressBook()), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(directory.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")),
+                new JsonCommandHistoryStorage(directory.resolve("commandhistory.json")),
+                new JsonSessionStorage(directory.resolve("sessions")));
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Deletes the directory saved to.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> deepestFirst = paths.sorted(Comparator.reverseOrder()).toList();
+            for (Path path : deepestFirst) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Executes the command.
+     */
+    @Benchmark
+    public CommandResult execute() throws CommandException, AssemblyException {
+        return logic.execute(commandText);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands.decoder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.ResolutionException;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.LexerException;
+import seedu.address.logic.grammars.command.parser.ParserException;
+
+/**
+ * Measures decoding an already parsed command of each type into a {@link Command} with {@link Decoder#decode}, which
+ * resolves its imperative and validates its parameters and options.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoderBenchmark {
+    @Param({
+        "list",
+        "find alice /name /email",
+        "sort -tags name +phone",
+        "add \"Alice Tan\" 91234567 \"12 Kent Ridge Road\" \"alice@example.com\" /tag:friend /tag:colleague",
+        "edit 1 /phone:98765432 /address:\"12 Kent Ridge Road\"",
+        "tag 1,3-5,9 +friend +neighbour -colleague",
+        "link 1 mentor 2",
+        "delete 1,3-5"
+    })
+    private String commandString;
+
+    private BareCommand bareCommand;
+
+    /**
+     * Parses the command once, so that only decoding is measured.
+     */
+    @Setup(Level.Trial)
+    public void parse() throws LexerException, ParserException {
+        bareCommand = BareCommand.parse(commandString);
+    }
+
+    /**
+     * Decodes the parsed command.
+     */
+    @Benchmark
+    public Command decode() throws ResolutionException, ValidationException {
+        return Decoder.decode(bareCommand);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.grammars.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.grammars.command.lexer.CommandLexer;
+import seedu.address.logic.grammars.command.lexer.LexerException;
+import seedu.address.logic.grammars.command.lexer.TokenisedCommand;
+import seedu.address.logic.grammars.command.parser.CommandParser;
+import seedu.address.logic.grammars.command.parser.FastCommandParser;
+import seedu.address.logic.grammars.command.parser.ParserException;
+import seedu.address.logic.grammars.command.parser.ast.visitors.CommandExtractor;
+
+/**
+ * Compares the single-pass {@link FastCommandParser} against building and walking an AST with {@link CommandParser},
+ * on well-formed commands of increasing length. Both paths lex the command first, as {@link BareCommand#parse} does,
+ * which is measured as a whole for comparison.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({
+        "list",
+        "find alice /tag:friend",
+        "add /name:\"Alice Tan\" /phone:91234567 /email:\"alice@example.com\" /address:\"12 Kent Ridge Road\" "
+                + "/tag:friend /tag:colleague",
+        "tag 1,3-5,9 +friend +neighbour -colleague; field 2 /github:\"alicetan\" /office:\"COM2 03-12\"; list"
+    })
+    private String commandString;
+
+    /**
+     * Parses the command in a single pass, as {@link BareCommand#parse} does for well-formed input.
+     */
+    @Benchmark
+    public Object fastPath() throws LexerException {
+        TokenisedCommand tokenisedCommand = CommandLexer.lexCommand(commandString);
+        return FastCommandParser.tryParseCommandSequence(tokenisedCommand).orElseThrow();
+    }
+
+    /**
+     * Parses the command into ASTs, then extracts each command from its AST.
+     */
+    @Benchmark
+    public Object astPath() throws LexerException, ParserException {
+        TokenisedCommand tokenisedCommand = CommandLexer.lexCommand(commandString);
+        return CommandParser.parseCommandSequence(tokenisedCommand).stream()
+                .map(root -> new CommandExtractor().extract(root))
+                .toList();
+    }
+
+    /**
+     * Parses the command sequence through {@link BareCommand#parseSequence}, which tries the single pass first.
+     */
+    @Benchmark
+    public Object parseSequence() throws LexerException, ParserException {
+        return BareCommand.parseSequence(commandString);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.grammars.command.lexer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures lexing well-formed commands of increasing length with {@link CommandLexer#lexCommand}.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+    @Param({
+        "list",
+        "find alice /tag:friend",
+        "add /name:\"Alice Tan\" /phone:91234567 /email:\"alice@example.com\" /address:\"12 Kent Ridge Road\" "
+                + "/tag:friend /tag:colleague",
+        "tag 1,3-5,9 +friend +neighbour -colleague; field 2 /github:\"alicetan\" /office:\"COM2 03-12\"; list"
+    })
+    private String commandString;
+
+    /**
+     * Lexes the command into tokens.
+     */
+    @Benchmark
+    public TokenisedCommand lexCommand() throws LexerException {
+        return CommandLexer.lexCommand(commandString);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BookState;
+
+/**
+ * Measures testing every person in an address book against a {@link FieldContainsKeywordsPredicate}, as the
+ * {@code find} command does when it filters the person list.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark {
+    private List<Person> persons;
+    private FieldContainsKeywordsPredicate defaultFields;
+    private FieldContainsKeywordsPredicate allFields;
+
+    /**
+     * Builds the predicates, searching for keywords that match few persons so that most fields of most persons are
+     * tested.
+     */
+    @Setup(Level.Trial)
+    public void setUp(BookState book) {
+        persons = List.copyOf(book.getAddressBook().getPersonList());
+        List<String> keywords = List.of("Zachary", "vip", "Punggol");
+        defaultFields = new FieldContainsKeywordsPredicate(keywords);
+        allFields = new FieldContainsKeywordsPredicate(keywords, true, true, true, true, true, true, true,
+                Set.of("company"));
+    }
+
+    /**
+     * Counts the persons matching on the fields {@code find} searches by default.
+     */
+    @Benchmark
+    public int findDefaultFields() {
+        return count(defaultFields);
+    }
+
+    /**
+     * Counts the persons matching on every field, including links and a custom field.
+     */
+    @Benchmark
+    public int findAllFields() {
+        return count(allFields);
+    }
+
+    private int count(FieldContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares validating the fields of a person with the value classes' validators against running their validation
+ * regular expressions with {@code String.matches}, which compiles each expression on every call.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final String LINK_VALIDATION_REGEX = "[A-Za-z0-9][A-Za-z0-9 _#&/().-]*";
+
+    private final String name = "Alice Pauline Tan";
+    private final String phone = "94351253";
+    private final String email = "alice.tan@example.com";
+    private final String address = "123, Jurong West Ave 6, #08-111";
+    private final String tag = "friends";
+    private final String linkName = "lawyer (family)";
+
+    /**
+     * Validates one person's fields with the value classes' validators.
+     */
+    @Benchmark
+    public boolean validators() {
+        return Name.isValidName(name)
+                & Phone.isValidPhone(phone)
+                & Email.isValidEmail(email)
+                & Address.isValidAddress(address)
+                & Tag.isValidTagName(tag)
+                & Link.isValidLinkName(linkName);
+    }
+
+    /**
+     * Validates one person's fields by matching each against its validation regular expression.
+     */
+    @Benchmark
+    public boolean stringMatches() {
+        return name.matches(Name.VALIDATION_REGEX)
+                & phone.matches(Phone.VALIDATION_REGEX)
+                & email.matches(Email.VALIDATION_REGEX)
+                & address.matches(Address.VALIDATION_REGEX)
+                & tag.matches(Tag.VALIDATION_REGEX)
+                & linkName.matches(LINK_VALIDATION_REGEX);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BookState;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures the two halves of saving and loading an address book: converting between the model and its JSON adapted
+ * form, and writing that form to a file.
+ * Run with {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageBenchmark {
+    private JsonSerializableAddressBook serializableAddressBook;
+    private Path directory;
+    private Path filePath;
+
+    /**
+     * Converts the generated address book to its JSON adapted form and creates a directory to save it in.
+     */
+    @Setup(Level.Trial)
+    public void setUp(BookState book) throws IOException {
+        serializableAddressBook = new JsonSerializableAddressBook(book.getAddressBook());
+        directory = Files.createTempDirectory("storage-benchmark");
+        filePath = directory.resolve("addressbook.json");
+    }
+
+    /**
+     * Deletes the saved file and its directory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(directory);
+    }
+
+    /**
+     * Converts the JSON adapted address book into the model's, validating every field and resolving every link, as
+     * loading does once the file is read.
+     */
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+    /**
+     * Serializes the JSON adapted address book and writes it to a file.
+     */
+    @Benchmark
+    public long saveJsonFile() throws IOException {
+        JsonUtil.saveJsonFile(serializableAddressBook, filePath);
+        return Files.size(filePath);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.DatasetGenerator;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Entry point that generates a synthetic address book with {@link DatasetGenerator} and saves it as a data file, so
+ * that load tests and benchmarks can be run against the same large address book.
+ * <p>
+ * Usage: {@code java -cp assetsphere.jar seedu.address.DatasetMain [--persons=<count>] [--seed=<seed>]
+ * [--links=<links per person>] [--skew=<linkee skew>] [--tags=<distinct tags>] [--info=<info length>] <file>}.
+ * Settings that are not given take the defaults of {@link DatasetGenerator}, and the seed defaults to {@code 0}.
+ * <p>
+ * The process exits with {@value #EXIT_SUCCESS} if the address book was saved, {@value #EXIT_SAVE_FAILED} if it could
+ * not be saved, and {@value #EXIT_USAGE_ERROR} if the arguments are invalid.
+ */
+public class DatasetMain {
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_SAVE_FAILED = 1;
+    public static final int EXIT_USAGE_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: DatasetMain [--persons=<count>] [--seed=<seed>] "
+            + "[--links=<links per person>] [--skew=<linkee skew>] [--tags=<distinct tags>] [--info=<info length>] "
+            + "<file>";
+
+    private static final Set<String> PARAMETERS = Set.of("persons", "seed", "links", "skew", "tags", "info");
+
+    public static void main(String[] args) {
+        System.exit(new DatasetMain().run(args, System.out));
+    }
+
+    /**
+     * Generates the address book described by {@code args} and saves it, printing to {@code out}.
+     *
+     * @return The exit status of the run.
+     */
+    int run(String[] args, PrintStream out) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> files = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                files.add(arg);
+            }
+        }
+        if (files.size() != 1 || !FileUtil.isValidPath(files.get(0))
+                || !PARAMETERS.containsAll(namedParameters.keySet())) {
+            out.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        DatasetGenerator generator;
+        try {
+            generator = createGenerator(namedParameters);
+        } catch (IllegalArgumentException e) {
+            out.println("Invalid setting: " + e.getMessage());
+            out.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        AddressBook addressBook = generator.generate();
+        AddressBookStorage storage = new JsonAddressBookStorage(Path.of(files.get(0)));
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            out.println("Could not save the address book: " + StringUtil.getDetails(e));
+            return EXIT_SAVE_FAILED;
+        }
+
+        long linkCount = addressBook.getPersonList().stream().mapToLong(person -> person.getLinks().size()).sum() / 2;
+        out.println(String.format("Saved %d persons and %d links to %s", addressBook.getPersonList().size(),
+                linkCount, storage.getAddressBookFilePath()));
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Creates a generator with the settings in {@code namedParameters}.
+     *
+     * @throws IllegalArgumentException if a setting is not a number or is out of range.
+     */
+    private static DatasetGenerator createGenerator(Map<String, String> namedParameters) {
+        DatasetGenerator generator = new DatasetGenerator(Long.parseLong(namedParameters.getOrDefault("seed", "0")))
+                .withPersonCount(Integer.parseInt(namedParameters.getOrDefault("persons",
+                        String.valueOf(DatasetGenerator.DEFAULT_PERSON_COUNT))))
+                .withLinks(Double.parseDouble(namedParameters.getOrDefault("links",
+                                String.valueOf(DatasetGenerator.DEFAULT_LINK_DENSITY))),
+                        Double.parseDouble(namedParameters.getOrDefault("skew",
+                                String.valueOf(DatasetGenerator.DEFAULT_LINK_SKEW))))
+                .withInfoLength(Integer.parseInt(namedParameters.getOrDefault("info",
+                        String.valueOf(DatasetGenerator.DEFAULT_INFO_LENGTH))));
+        if (namedParameters.containsKey("tags")) {
+            generator.withTags(Integer.parseInt(namedParameters.get("tags")), DatasetGenerator.DEFAULT_TAG_EXPONENT,
+                    DatasetGenerator.DEFAULT_MAX_TAGS_PER_PERSON);
+        }
+        return generator;
+    }
+}
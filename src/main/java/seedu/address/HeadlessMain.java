@@ -0,0 +1,139 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SessionStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Entry point that runs a script of commands against the address book without starting the UI.
+ * <p>
+ * Usage: {@code java -Djava.awt.headless=true -cp assetsphere.jar seedu.address.HeadlessMain [--config=<file>]
+ * [<script>]}. The script is read from standard input if it is omitted or given as {@code -}. Each command and its
+ * result is printed to standard output, followed by a summary of throughput, latency and saves. The same config,
+ * preferences, data file, command history and session snapshots as {@link MainApp} are used, so changes made by a
+ * script are seen by the next run of the application.
+ * <p>
+ * The process exits with {@value #EXIT_SUCCESS} if every command succeeded, {@value #EXIT_COMMAND_FAILED} if any
+ * command failed, and {@value #EXIT_USAGE_ERROR} if the script could not be read.
+ */
+public class HeadlessMain {
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE_ERROR = 2;
+
+    public static final String STDIN_SCRIPT = "-";
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--config=<file>] [<script>|-]";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    private final MainAppLifecycleManager lifecycleManager = new MainAppLifecycleManager(logger);
+
+    public static void main(String[] args) {
+        System.exit(new HeadlessMain().run(args, System.out));
+    }
+
+    /**
+     * Runs the script named by {@code args}, printing to {@code out}.
+     *
+     * @return The exit status of the run.
+     */
+    int run(String[] args, PrintStream out) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> scripts = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                scripts.add(arg);
+            }
+        }
+        if (scripts.size() > 1 || (scripts.size() == 1 && !scripts.get(0).equals(STDIN_SCRIPT)
+                && !FileUtil.isValidPath(scripts.get(0)))) {
+            out.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        logger.info("=========================[ Running AddressBook headless ]=========================");
+        Config config = lifecycleManager.initConfig(AppParameters.parse(namedParameters).getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = lifecycleManager.initPrefs(userPrefsStorage);
+        Path addressBookPath = userPrefs.getAddressBookFilePath();
+        CountingStorageManager storage = new CountingStorageManager(new JsonAddressBookStorage(addressBookPath),
+                userPrefsStorage, lifecycleManager.createCommandHistoryStorage(userPrefs.getCommandHistoryFilePath()),
+                lifecycleManager.createSessionStorage(addressBookPath));
+
+        Logic logic = new StartupLoader(lifecycleManager, ForkJoinPool.commonPool()).load(storage, userPrefs).join();
+
+        ScriptRunner.Report report;
+        try (BufferedReader script = openScript(scripts.isEmpty() ? STDIN_SCRIPT : scripts.get(0))) {
+            report = new ScriptRunner(logic, storage::getSaveCount, out, ForkJoinPool.commonPool(),
+                    ScriptRunner.DEFAULT_LOOKAHEAD).run(script);
+        } catch (IOException e) {
+            out.println("Could not read script: " + StringUtil.getDetails(e));
+            return EXIT_USAGE_ERROR;
+        } finally {
+            lifecycleManager.persistOnStop(storage, logic);
+            storage.closeCommandHistory();
+        }
+
+        out.println(report.getSummary());
+        return report.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    private static BufferedReader openScript(String script) throws IOException {
+        if (script.equals(STDIN_SCRIPT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times the address book is saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private long saveCount;
+
+        CountingStorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                               CommandHistoryStorage commandHistoryStorage, SessionStorage sessionStorage) {
+            super(addressBookStorage, userPrefsStorage, commandHistoryStorage, sessionStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            super.saveAddressBook(addressBook, filePath);
+            saveCount++;
+        }
+
+        long getSaveCount() {
+            return saveCount;
+        }
+    }
+}
@@ -2,24 +2,24 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import jdk.jfr.Recording;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
-import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.InfoCommand;
+import seedu.address.logic.stats.CommandStats;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
-import seedu.address.session.SessionData;
+import seedu.address.server.CommandServer;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -39,11 +39,21 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 5, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int STARTUP_THREAD_COUNT = 3;
+
     protected Ui ui;
-    protected Logic logic;
+    // Set by the startup thread once loaded, and read by the JavaFX application thread
+    protected volatile Logic logic;
     protected Storage storage;
-    protected Model model;
+    protected volatile Model model;
     protected Config config;
+    protected volatile CommandServer commandServer;
+    protected Recording flightRecording;
+
+    // Guards isStopped, so that the startup thread either starts the command server before stop() closes it, or not
+    // at all
+    private final Object startupLock = new Object();
+    private boolean isStopped;
 
     private final MainAppLifecycleManager lifecycleManager = new MainAppLifecycleManager(logger);
 
@@ -55,6 +65,10 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         this.config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        if (config.getFlightRecordingFile() != null) {
+            flightRecording = lifecycleManager.startFlightRecording(config.getFlightRecordingFile(),
+                    config.getFlightRecordingMaxMegabytes()).orElse(null);
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
@@ -65,25 +79,45 @@ public class MainApp extends Application {
         SessionStorage sessionStorage = lifecycleManager.createSessionStorage(addressBookPath);
         this.storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage, sessionStorage);
 
-        Optional<SessionData> restoredSession = lifecycleManager.loadSession(storage);
-
-        this.model = initModelManager(storage, userPrefs, restoredSession);
-
-        logic = new LogicManager(model, storage, restoredSession);
+        // The rest is loaded in the background, so that the main window is shown without waiting for it
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<Logic> logicLoading = new StartupLoader(lifecycleManager, startupExecutor)
+                .load(storage, userPrefs)
+                .thenApply(this::initLogic);
+        logicLoading.whenComplete((loadedLogic, error) -> startupExecutor.shutdown());
 
         // Create UiManager and set it up with InfoEditCommand
-        ui = new UiManager(logic);
+        ui = new UiManager(logicLoading, userPrefs.getGuiSettings(), addressBookPath);
         InfoCommand.setUiManager((UiManager) ui);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br> The
-     * data from the sample address book will be used instead if {@code storage}'s address book is not found, or an
-     * empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Starts the parts of the application that need {@code loadedLogic}, once it has been loaded, unless the
+     * application has already been stopped, as it may be if the window is closed while loading.
+     *
+     * @return {@code loadedLogic}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
-                                   Optional<SessionData> restoredSession) {
-        return lifecycleManager.initModel(storage, userPrefs, restoredSession);
+    Logic initLogic(Logic loadedLogic) {
+        synchronized (startupLock) {
+            if (isStopped) {
+                logger.info("Stopped while loading, so the command server and statistics are not started");
+                return loadedLogic;
+            }
+            // The model is set first, as the logic being set is taken to mean that both are
+            this.model = loadedLogic.getModel();
+            this.logic = loadedLogic;
+            CommandStats.getInstance().registerMBean();
+
+            if (config.getCommandServerPort() != null) {
+                commandServer = lifecycleManager.startCommandServer(logic, config.getCommandServerPort())
+                        .orElse(null);
+            }
+        }
+        return loadedLogic;
     }
 
     private void initLogging(Config config) {
@@ -95,37 +129,7 @@ public class MainApp extends Application {
      * {@code Config#DEFAULT_CONFIG_FILE} will be used instead if {@code configFilePath} is null.
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return lifecycleManager.initConfig(configFilePath);
     }
 
     /**
@@ -133,30 +137,7 @@ public class MainApp extends Application {
      * with default configuration if errors occur when reading from the file.
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return lifecycleManager.initPrefs(storage);
     }
 
     @Override
@@ -168,11 +149,36 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        synchronized (startupLock) {
+            isStopped = true;
+        }
+        // Lets a running export finish writing its file before the application exits
+        if (ui != null) {
+            ui.stop();
+        }
+        if (commandServer != null) {
+            try {
+                commandServer.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop command server " + StringUtil.getDetails(e));
+            }
+        }
+        // Nothing can have changed if the app is stopped before the address book is loaded
+        if (logic != null) {
+            try {
+                storage.saveUserPrefs(model.getUserPrefs());
+            } catch (IOException e) {
+                logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            }
+            lifecycleManager.persistOnStop(storage, logic);
+        }
+        if (storage != null) {
+            storage.closeCommandHistory();
+        }
+        if (flightRecording != null) {
+            // Stopping the recording writes it to its file
+            flightRecording.stop();
+            flightRecording.close();
         }
-        lifecycleManager.persistOnStop(storage, logic);
     }
 }
@@ -3,11 +3,21 @@ package seedu.address;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.model.AddressBook;
@@ -15,19 +25,30 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.CommandServer;
 import seedu.address.session.SessionData;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonCommandHistoryStorage;
 import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.RingFileCommandHistoryStorage;
 import seedu.address.storage.SessionStorage;
 import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
 
 /**
  * Encapsulates the lifecycle-specific behaviour that {@link MainApp} cannot easily test in isolation.
  */
 public class MainAppLifecycleManager {
 
+    public static final String FLIGHT_RECORDING_NAME = "AssetSphere";
+
+    private static final String FLIGHT_RECORDING_SETTINGS = "default";
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final String RING_FILE_EXTENSION = ".ring";
+    private static final String JSON_FILE_EXTENSION = ".json";
+
     private final Logger logger;
 
     /**
@@ -39,16 +60,105 @@ public class MainAppLifecycleManager {
         this.logger = requireNonNull(logger);
     }
 
+    /**
+     * Reads the {@link Config} at {@code configFilePath}, or at {@link Config#DEFAULT_CONFIG_FILE} if it is null.
+     * Default config properties are used if the file is missing or cannot be read, and the file is then rewritten so
+     * that it contains every current property.
+     *
+     * @param configFilePath path to the config file, or null to use the default path
+     * @return the config to run with
+     */
+    public Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Reads the {@link UserPrefs} from {@code storage}, using default preferences if the file is missing or cannot be
+     * read. The file is then rewritten so that it contains every current preference.
+     *
+     * @param storage storage to read user preferences from
+     * @return the user preferences to run with
+     */
+    public UserPrefs initPrefs(UserPrefsStorage storage) {
+        requireNonNull(storage);
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
     /**
      * Creates a {@link CommandHistoryStorage} instance that will persist the command history
-     * to the given {@code commandHistoryPath}.
+     * to a ring file named like the given {@code commandHistoryPath}, with a {@value #RING_FILE_EXTENSION}
+     * extension. A command history file with a {@value #JSON_FILE_EXTENSION} extension, written by earlier versions,
+     * is imported when the ring file is first created.
      *
      * @param commandHistoryPath path to the command history file
      * @return a new {@link CommandHistoryStorage}
      */
     public CommandHistoryStorage createCommandHistoryStorage(Path commandHistoryPath) {
         requireNonNull(commandHistoryPath);
-        return new JsonCommandHistoryStorage(commandHistoryPath);
+        CommandHistoryStorage legacyStorage =
+                new JsonCommandHistoryStorage(withExtension(commandHistoryPath, JSON_FILE_EXTENSION));
+        return new RingFileCommandHistoryStorage(withExtension(commandHistoryPath, RING_FILE_EXTENSION),
+                RingFileCommandHistoryStorage.DEFAULT_CAPACITY, Optional.of(legacyStorage));
+    }
+
+    private static Path withExtension(Path path, String extension) {
+        String fileName = path.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return path.resolveSibling(baseName + extension);
     }
 
     /**
@@ -80,16 +190,31 @@ public class MainAppLifecycleManager {
     }
 
     /**
-     * Attempts to load the most recent session snapshot from {@code storage}. Any
-     * {@link DataLoadingException} is caught and logged and an empty optional is returned.
+     * Attempts to load the most recent session snapshot from {@code storage}, if it was saved no earlier than the
+     * address book data file was last modified. Otherwise the data file holds the latest address book, so older
+     * snapshots are not read. Any {@link DataLoadingException} is caught and logged and an empty optional is returned.
      *
      * @param storage storage instance to read session data from
-     * @return optional session data if present and readable
+     * @return optional session data if present, readable and at least as recent as the data file
      */
     public Optional<SessionData> loadSession(Storage storage) {
         requireNonNull(storage);
+        Path addressBookPath = storage.getAddressBookFilePath();
+        Instant dataFileModifiedAt = Instant.MIN;
         try {
-            return storage.readSession();
+            if (FileUtil.isFileExists(addressBookPath)) {
+                dataFileModifiedAt = Files.getLastModifiedTime(addressBookPath).toInstant();
+            }
+        } catch (IOException e) {
+            logger.warning("Could not read when " + addressBookPath + " was modified: " + StringUtil.getDetails(e));
+        }
+
+        try {
+            Optional<SessionData> session = storage.readSessionSavedSince(dataFileModifiedAt);
+            if (session.isEmpty() && !dataFileModifiedAt.equals(Instant.MIN)) {
+                logger.info("No session snapshot is newer than " + addressBookPath + ", which will be loaded instead");
+            }
+            return session;
         } catch (DataLoadingException e) {
             logger.warning("Session files could not be read. Starting without restoring session. "
                     + e.getMessage());
@@ -114,19 +239,26 @@ public class MainAppLifecycleManager {
 
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
-        ReadOnlyAddressBook initialData;
-        if (restoredSession.isPresent()) {
-            SessionData sessionData = restoredSession.get();
-            logger.info("Restoring AddressBook from session snapshot saved at " + sessionData.getSavedAt());
-            initialData = sessionData.getAddressBook();
-        } else {
-            initialData = loadAddressBookFromStorage(storage);
-        }
-
+        ReadOnlyAddressBook initialData = restoredSession.map(this::restoreAddressBook)
+                .orElseGet(() -> loadAddressBook(storage));
         return new ModelManager(initialData, userPrefs);
     }
 
-    private ReadOnlyAddressBook loadAddressBookFromStorage(Storage storage) {
+    private ReadOnlyAddressBook restoreAddressBook(SessionData sessionData) {
+        logger.info("Restoring AddressBook from session snapshot saved at " + sessionData.getSavedAt());
+        return sessionData.getAddressBook();
+    }
+
+    /**
+     * Reads the address book from {@code storage}. The sample address book is used instead if the data file is
+     * missing. If it cannot be read, the address book of the latest readable session snapshot is used instead, or an
+     * empty address book if there is none.
+     *
+     * @param storage storage layer to read the address book from
+     * @return the address book to start with
+     */
+    public ReadOnlyAddressBook loadAddressBook(Storage storage) {
+        requireNonNull(storage);
         Optional<ReadOnlyAddressBook> addressBookOptional;
         try {
             addressBookOptional = storage.readAddressBook();
@@ -136,10 +268,82 @@ public class MainAppLifecycleManager {
             }
             return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            return new AddressBook();
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded.");
+        }
+
+        // Session snapshots older than the data file are only read if the data file cannot be
+        try {
+            Optional<SessionData> olderSession = storage.readSession();
+            if (olderSession.isPresent()) {
+                logger.warning("Will be starting with the AddressBook of the session snapshot saved at "
+                        + olderSession.get().getSavedAt());
+                return olderSession.get().getAddressBook();
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Session files could not be read. " + e.getMessage());
+        }
+        logger.warning("Will be starting with an empty AddressBook.");
+        return new AddressBook();
+    }
+
+    /**
+     * Starts a {@link CommandServer} on the loopback interface at {@code port}, executing commands that may change the
+     * model on the JavaFX application thread. Failure to start is logged, as the application works without it.
+     *
+     * @param logic logic component to execute commands with
+     * @param port port to listen on
+     * @return the started server, or an empty optional if it could not be started
+     */
+    public Optional<CommandServer> startCommandServer(Logic logic, int port) {
+        requireNonNull(logic);
+        try {
+            return Optional.of(CommandServer.start(logic, Platform::runLater, port));
+        } catch (IOException e) {
+            logger.warning("Command server could not be started on port " + port + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts a continuous Java Flight Recorder recording named {@value #FLIGHT_RECORDING_NAME} with the low-overhead
+     * {@code default} settings, which also record every AssetSphere event. At most {@code maxMegabytes} of the most
+     * recent events are kept, and they are written to {@code file} when the recording stops or the application exits.
+     * Failure to start is logged, as the application works without it.
+     *
+     * @param file file to write the recording to
+     * @param maxMegabytes most megabytes of events to keep
+     * @return the started recording, or an empty optional if it could not be started
+     */
+    public Optional<Recording> startFlightRecording(Path file, int maxMegabytes) {
+        requireNonNull(file);
+        if (maxMegabytes <= 0 || !FlightRecorder.isAvailable()) {
+            logger.warning("Flight recording could not be started: "
+                    + (maxMegabytes <= 0 ? "the size limit must be positive" : "the flight recorder is unavailable"));
+            return Optional.empty();
+        }
+
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration(FLIGHT_RECORDING_SETTINGS));
+        } catch (IOException | ParseException e) {
+            logger.warning("Flight recording settings could not be read: " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            recording.setName(FLIGHT_RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxSize(maxMegabytes * BYTES_PER_MEGABYTE);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+        } catch (IOException | IllegalStateException e) {
+            recording.close();
+            logger.warning("Flight recording could not be started to " + file + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
         }
+        logger.info("Flight recording to " + file);
+        return Optional.of(recording);
     }
 
     /**
@@ -160,7 +364,7 @@ public class MainAppLifecycleManager {
         requireNonNull(logic);
 
         try {
-            storage.saveCommandHistory(logic.getCommandHistorySnapshot());
+            storage.saveCommandHistory(logic.getCommandHistory());
         } catch (IOException e) {
             logger.severe("Failed to save command history " + StringUtil.getDetails(e));
         }
@@ -0,0 +1,294 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Logic;
+import seedu.address.logic.PreparedCommand;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.exceptions.AssemblyException;
+
+/**
+ * Executes a script of commands through a {@code Logic} without any UI, printing each command and its result.
+ * <p>
+ * A script holds one command line per line, so a line may itself be a {@code ;}-separated batch. Blank lines and
+ * lines starting with {@value #COMMENT_PREFIX} are skipped. A failing command is reported and the script carries on;
+ * an {@code exit} command ends the script early. Background tasks, such as exports, are run to completion before the
+ * next line is executed, so that every line sees the effects of the lines before it.
+ * <p>
+ * Lexing, parsing and decoding a line does not depend on the lines before it, so while one line executes, up to
+ * {@code lookahead} lines after it are prepared on a separate executor. Lines are still executed one at a time and in
+ * order, and a line that fails to parse, or whose preparation fails unexpectedly, is reported when its turn comes,
+ * without stopping the script. Only lines that can be read without blocking
+ * are prepared ahead, so a script typed on standard input is executed line by line as it is entered.
+ */
+public class ScriptRunner {
+    public static final String COMMENT_PREFIX = "#";
+    public static final String COMMAND_PREFIX = "> ";
+    public static final String FAILURE_PREFIX = "! ";
+    public static final int DEFAULT_LOOKAHEAD = 64;
+    public static final String MESSAGE_PREPARE_FAILED = "Line %1$d could not be prepared: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final LongSupplier saveCounter;
+    private final PrintStream out;
+    private final Executor preparer;
+    private final int lookahead;
+
+    /**
+     * Creates a runner that executes commands through {@code logic} and prints to {@code out}, preparing each line on
+     * the thread that runs the script.
+     *
+     * @param saveCounter Supplies the number of times the address book has been saved so far.
+     */
+    public ScriptRunner(Logic logic, LongSupplier saveCounter, PrintStream out) {
+        this(logic, saveCounter, out, Runnable::run, 1);
+    }
+
+    /**
+     * Creates a runner as in {@link #ScriptRunner(Logic, LongSupplier, PrintStream)}, which prepares up to
+     * {@code lookahead} lines ahead of the one executing on {@code preparer}.
+     */
+    public ScriptRunner(Logic logic, LongSupplier saveCounter, PrintStream out, Executor preparer, int lookahead) {
+        requireNonNull(logic);
+        requireNonNull(saveCounter);
+        requireNonNull(out);
+        requireNonNull(preparer);
+        if (lookahead < 1) {
+            throw new IllegalArgumentException("Lookahead must be positive: " + lookahead);
+        }
+        this.logic = logic;
+        this.saveCounter = saveCounter;
+        this.out = out;
+        this.preparer = preparer;
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Executes every command line in {@code script}, in order.
+     *
+     * @return A report of the commands executed.
+     * @throws IOException If {@code script} cannot be read.
+     */
+    public Report run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        long savesBefore = saveCounter.getAsLong();
+        long[] latencies = new long[16];
+        int commandCount = 0;
+        int failureCount = 0;
+        long start = System.nanoTime();
+
+        LineNumberReader lines = new LineNumberReader(script);
+        Deque<PendingLine> pending = new ArrayDeque<>();
+        while (true) {
+            readAhead(lines, pending);
+            PendingLine next = pending.poll();
+            if (next == null) {
+                break;
+            }
+
+            out.println(COMMAND_PREFIX + next.commandText);
+            long commandStart = System.nanoTime();
+            boolean isExit = false;
+            try {
+                isExit = execute(next.join());
+            } catch (CommandException | AssemblyException e) {
+                logger.info("Script command failed: " + next.commandText);
+                out.println(FAILURE_PREFIX + e.getMessage());
+                failureCount++;
+            }
+
+            if (commandCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, commandCount * 2);
+            }
+            latencies[commandCount++] = System.nanoTime() - commandStart;
+            if (isExit) {
+                break;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        return new Report(commandCount, failureCount, elapsed, Arrays.copyOf(latencies, commandCount),
+                saveCounter.getAsLong() - savesBefore);
+    }
+
+    /**
+     * Reads command lines from {@code script} and starts preparing them, until {@code lookahead} lines are pending or
+     * no more can be read without blocking. Reads at least one line if none is pending, unless the script has ended.
+     */
+    private void readAhead(LineNumberReader script, Deque<PendingLine> pending) throws IOException {
+        while (pending.size() < lookahead && (pending.isEmpty() || script.ready())) {
+            String line = script.readLine();
+            if (line == null) {
+                return;
+            }
+            String commandText = line.strip();
+            if (!commandText.isEmpty() && !commandText.startsWith(COMMENT_PREFIX)) {
+                pending.add(new PendingLine(commandText, script.getLineNumber(), CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return logic.prepare(commandText);
+                    } catch (AssemblyException e) {
+                        throw new CompletionException(e);
+                    }
+                }, preparer)));
+            }
+        }
+    }
+
+    /**
+     * Executes {@code command}, printing its feedback, and runs any background task it starts to completion.
+     *
+     * @return Whether the command asks for the application to exit.
+     */
+    private boolean execute(PreparedCommand command) throws CommandException {
+        CommandResult result = logic.execute(command);
+        out.println(result.getFeedbackToUser());
+        if (result.getBackgroundTask().isPresent()) {
+            BackgroundTask task = result.getBackgroundTask().get();
+            out.println(task.run(out::println));
+        }
+        return result.isExit();
+    }
+
+    /**
+     * A command line read from the script, whose preparation may still be in progress.
+     */
+    private static final class PendingLine {
+        private final String commandText;
+        private final int lineNumber;
+        private final CompletableFuture<PreparedCommand> prepared;
+
+        PendingLine(String commandText, int lineNumber, CompletableFuture<PreparedCommand> prepared) {
+            this.commandText = commandText;
+            this.lineNumber = lineNumber;
+            this.prepared = prepared;
+        }
+
+        /**
+         * Waits for the line to be prepared and returns it.
+         *
+         * @throws AssemblyException If the line could not be prepared, including when preparing it failed unexpectedly.
+         */
+        PreparedCommand join() throws AssemblyException {
+            try {
+                return prepared.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof AssemblyException) {
+                    throw (AssemblyException) cause;
+                }
+                if (!(cause instanceof RuntimeException)) {
+                    throw e;
+                }
+                logger.warning("Failed to prepare script line " + lineNumber + ": " + StringUtil.getDetails(cause));
+                throw new AssemblyException(String.format(MESSAGE_PREPARE_FAILED, lineNumber, cause));
+            }
+        }
+    }
+
+    /**
+     * Summarises a run of a script: how many commands were executed, how fast, and how often the address book was
+     * saved.
+     */
+    public static class Report {
+        public static final String MESSAGE_SUMMARY = "Executed %1$d commands (%2$d failed) in %3$.3f s: "
+                + "%4$.1f commands/s, p50 %5$.3f ms, p99 %6$.3f ms, %7$d saves.";
+
+        private static final double NANOS_PER_SECOND = 1e9;
+        private static final double NANOS_PER_MILLISECOND = 1e6;
+
+        private final int commandCount;
+        private final int failureCount;
+        private final long elapsedNanos;
+        private final long[] sortedLatencies;
+        private final long saveCount;
+
+        /**
+         * Creates a report of a run.
+         *
+         * @param latencies The time taken by each command, in nanoseconds.
+         */
+        Report(int commandCount, int failureCount, long elapsedNanos, long[] latencies, long saveCount) {
+            this.commandCount = commandCount;
+            this.failureCount = failureCount;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(sortedLatencies);
+            this.saveCount = saveCount;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public long getSaveCount() {
+            return saveCount;
+        }
+
+        /**
+         * Returns the number of commands executed per second over the whole run.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        /**
+         * Returns the latency, in nanoseconds, that {@code percentile} percent of commands took at most, using the
+         * nearest-rank method. Returns 0 if no commands were executed.
+         *
+         * @throws IllegalArgumentException if {@code percentile} is not in (0, 100].
+         */
+        public long getLatencyPercentile(double percentile) {
+            if (percentile <= 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+            }
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * sortedLatencies.length);
+            return sortedLatencies[Math.max(rank, 1) - 1];
+        }
+
+        /**
+         * Returns a one-line human-readable summary of this report.
+         */
+        public String getSummary() {
+            return String.format(MESSAGE_SUMMARY, commandCount, failureCount, elapsedNanos / NANOS_PER_SECOND,
+                    getThroughput(), getLatencyPercentile(50) / NANOS_PER_MILLISECOND,
+                    getLatencyPercentile(99) / NANOS_PER_MILLISECOND, saveCount);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("commandCount", commandCount)
+                    .add("failureCount", failureCount)
+                    .add("elapsedNanos", elapsedNanos)
+                    .add("saveCount", saveCount)
+                    .toString();
+        }
+    }
+}
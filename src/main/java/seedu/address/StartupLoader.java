@@ -0,0 +1,70 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.history.CommandHistory;
+import seedu.address.session.SessionData;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the data the application starts with and builds its {@link Logic} from it, reading independent files at the
+ * same time on a startup executor.
+ * <p>
+ * The user preferences name the other files, so they are read before loading starts. After that, the command history
+ * is read at the same time as the address book. The address book is read from the latest session snapshot if it is
+ * at least as recent as the data file, and from the data file otherwise, so only one of them is read in full. The
+ * logic is built when the model and the command history are ready.
+ */
+public class StartupLoader {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupLoader.class);
+
+    private final MainAppLifecycleManager lifecycleManager;
+    private final Executor executor;
+
+    /**
+     * Creates a {@code StartupLoader} that reads files on {@code executor}, handling any that cannot be read as
+     * {@code lifecycleManager} does.
+     */
+    public StartupLoader(MainAppLifecycleManager lifecycleManager, Executor executor) {
+        this.lifecycleManager = requireNonNull(lifecycleManager);
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Starts loading the data in {@code storage}, and returns the logic that will be built from it with
+     * {@code userPrefs}. Files that cannot be read are replaced as they are when the application starts one file at a
+     * time, so the logic is only not built if loading fails unexpectedly.
+     */
+    public CompletableFuture<Logic> load(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(storage);
+        requireNonNull(userPrefs);
+        long start = System.nanoTime();
+
+        CompletableFuture<CommandHistory> history =
+                CompletableFuture.supplyAsync(() -> LogicManager.loadCommandHistory(storage), executor);
+        CompletableFuture<Optional<SessionData>> session =
+                CompletableFuture.supplyAsync(() -> lifecycleManager.loadSession(storage), executor);
+        // The data file is only read if no session snapshot is at least as recent
+        CompletableFuture<Model> model = session.thenApply(restoredSession ->
+                lifecycleManager.initModel(storage, userPrefs, restoredSession));
+        return model.thenCombine(history, (initialModel, initialHistory) -> {
+            Logic logic = new LogicManager(initialModel, storage, session.join(), initialHistory,
+                    CommandStats.getInstance());
+            logger.info(() -> String.format("Loaded %d persons in %d ms", initialModel.getAddressBook()
+                    .getPersonList().size(), (System.nanoTime() - start) / 1_000_000));
+            return logic;
+        });
+    }
+}
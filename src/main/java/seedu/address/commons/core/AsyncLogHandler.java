@@ -0,0 +1,172 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that queues log records in a bounded ring buffer and publishes them to its target handlers on a
+ * dedicated flusher thread, so that logging threads never wait on console or file I/O.
+ * <p>
+ * When the buffer is full, new records are dropped rather than blocking the logging thread, and the number dropped is
+ * reported as a warning once the flusher catches up. {@link #flush()} waits until every record queued before it has
+ * been published, and {@link #close()} also publishes the remaining records before closing the targets.
+ */
+public class AsyncLogHandler extends Handler {
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final Thread flusher;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object deliveryMonitor = new Object();
+    private long deliveredCount = 0; // guarded by deliveryMonitor
+
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs an {@code AsyncLogHandler} publishing to {@code targets}, buffering up to
+     * {@value #DEFAULT_CAPACITY} records.
+     */
+    public AsyncLogHandler(Handler... targets) {
+        this(DEFAULT_CAPACITY, targets);
+    }
+
+    /**
+     * Constructs an {@code AsyncLogHandler} publishing to {@code targets}, buffering up to {@code capacity} records.
+     */
+    AsyncLogHandler(int capacity, Handler... targets) {
+        requireNonNull(targets);
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.targets = List.of(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.flusher = new Thread(this::runFlusher, "log-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The caller is inferred from the stack, so must be inferred on the logging thread
+        record.getSourceClassName();
+
+        if (buffer.offer(record)) {
+            queuedCount.incrementAndGet();
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits, for up to a second, until every record queued before this call has been published, then flushes the
+     * targets.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        if (Thread.currentThread() != flusher) {
+            awaitDelivery(target);
+        }
+
+        for (Handler handler : targets) {
+            handler.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        flush();
+        flusher.interrupt();
+
+        for (Handler handler : targets) {
+            handler.close();
+        }
+    }
+
+    private void awaitDelivery(long target) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (deliveryMonitor) {
+            while (deliveredCount < target && flusher.isAlive()) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    return;
+                }
+                try {
+                    deliveryMonitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runFlusher() {
+        List<LogRecord> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch);
+
+                for (LogRecord record : batch) {
+                    deliver(record);
+                }
+                reportDroppedRecords();
+
+                synchronized (deliveryMonitor) {
+                    deliveredCount += batch.size();
+                    deliveryMonitor.notifyAll();
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // closed
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord warning = new LogRecord(Level.WARNING,
+                    String.format("%d log records were dropped as the log buffer was full.", dropped));
+            warning.setSourceClassName(AsyncLogHandler.class.getName());
+            warning.setSourceMethodName("publish");
+            deliver(warning);
+        }
+    }
+
+    private void deliver(LogRecord record) {
+        for (Handler handler : targets) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
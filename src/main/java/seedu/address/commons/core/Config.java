@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("data", "preferences.json");
+    private Integer commandServerPort = null; // the local command server is off unless a port is set
+    private Path flightRecordingFile = null; // continuous flight recording is off unless a file is set
+    private int flightRecordingMaxMegabytes = 64;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Integer getCommandServerPort() {
+        return commandServerPort;
+    }
+
+    public void setCommandServerPort(Integer commandServerPort) {
+        this.commandServerPort = commandServerPort;
+    }
+
+    public Path getFlightRecordingFile() {
+        return flightRecordingFile;
+    }
+
+    public void setFlightRecordingFile(Path flightRecordingFile) {
+        this.flightRecordingFile = flightRecordingFile;
+    }
+
+    public int getFlightRecordingMaxMegabytes() {
+        return flightRecordingMaxMegabytes;
+    }
+
+    public void setFlightRecordingMaxMegabytes(int flightRecordingMaxMegabytes) {
+        this.flightRecordingMaxMegabytes = flightRecordingMaxMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +74,16 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(commandServerPort, otherConfig.commandServerPort)
+                && Objects.equals(flightRecordingFile, otherConfig.flightRecordingFile)
+                && flightRecordingMaxMegabytes == otherConfig.flightRecordingMaxMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, commandServerPort, flightRecordingFile,
+                flightRecordingMaxMegabytes);
     }
 
     @Override
@@ -60,6 +91,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("commandServerPort", commandServerPort)
+                .add("flightRecordingFile", flightRecordingFile)
+                .add("flightRecordingMaxMegabytes", flightRecordingMaxMegabytes)
                 .toString();
     }
 
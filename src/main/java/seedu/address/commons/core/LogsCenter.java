@@ -6,9 +6,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -19,6 +22,9 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Both outputs are written asynchronously by an {@link AsyncLogHandler}, so logging never blocks the calling thread
+ *   on I/O. Callers building expensive messages on hot paths should log through a {@code Supplier<String>}, which is
+ *   only evaluated if the level is enabled.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -79,13 +85,25 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Closes and removes all handlers from the {@code logger}.
+     */
+    private static void closeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(handler -> {
+                    handler.close();
+                    logger.removeHandler(handler);
+                });
+    }
+
+    /**
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler} and a
+     * {@code FileHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
         baseLogger.setUseParentHandlers(false);
-        removeHandlers(baseLogger);
+        closeHandlers(baseLogger);
+        List<Handler> handlers = new ArrayList<>();
 
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
@@ -93,7 +111,7 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
         // add a FileHandler to log to a file
         try {
@@ -103,11 +121,15 @@ public class LogsCenter {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
         } catch (IOException e) {
             logger.warning("Error adding file handler for logger.");
         }
-    }
 
+        // The LogManager closes the handlers of its loggers on shutdown, which publishes any records still buffered
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(handlers.toArray(Handler[]::new));
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+    }
 
 }
@@ -0,0 +1,169 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of indices: either every index of a list, or a union of inclusive ranges of indices.
+ * <p>
+ * Ranges are kept sorted and merged, so two selections covering the same indices are equal however they were written,
+ * and selecting from a list yields each element at most once, in list order.
+ */
+public class IndexSelection {
+    private static final IndexSelection ALL = new IndexSelection(null);
+
+    /** Sorted, disjoint and non-adjacent zero-based inclusive ranges, or null if every index is selected. */
+    private final int[][] ranges;
+
+    private IndexSelection(int[][] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Returns a selection of every index.
+     */
+    public static IndexSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a selection of the single {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRanges(List.of(new Range(index, index)));
+    }
+
+    /**
+     * Returns a selection of the indices covered by any of {@code ranges}.
+     *
+     * @throws IllegalArgumentException if {@code ranges} is empty.
+     */
+    public static IndexSelection ofRanges(List<Range> ranges) {
+        requireNonNull(ranges);
+        if (ranges.isEmpty()) {
+            throw new IllegalArgumentException("A selection needs at least one range.");
+        }
+
+        int[][] sorted = ranges.stream()
+                .map(range -> new int[] {range.first.getZeroBased(), range.last.getZeroBased()})
+                .sorted(Comparator.comparingInt(range -> range[0]))
+                .toArray(int[][]::new);
+        List<int[]> merged = new ArrayList<>();
+        for (int[] range : sorted) {
+            int[] previous = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (previous != null && (long) range[0] <= (long) previous[1] + 1) {
+                previous[1] = Math.max(previous[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return new IndexSelection(merged.toArray(int[][]::new));
+    }
+
+    public boolean isAll() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns the only selected index, if exactly one index is selected.
+     */
+    public Optional<Index> getSingleIndex() {
+        if (ranges == null || ranges.length != 1 || ranges[0][0] != ranges[0][1]) {
+            return Optional.empty();
+        }
+        return Optional.of(Index.fromZeroBased(ranges[0][0]));
+    }
+
+    /**
+     * Returns the elements of {@code list} at the selected indices, in list order.
+     *
+     * @return The selected elements, or an empty {@code Optional} if a selected index lies outside {@code list} or
+     *         nothing is selected.
+     */
+    public <T> Optional<List<T>> select(List<T> list) {
+        requireNonNull(list);
+        if (ranges == null) {
+            return list.isEmpty() ? Optional.empty() : Optional.of(new ArrayList<>(list));
+        }
+        if (ranges[ranges.length - 1][1] >= list.size()) {
+            return Optional.empty();
+        }
+
+        List<T> selected = new ArrayList<>();
+        for (int[] range : ranges) {
+            for (int i = range[0]; i <= range[1]; i++) {
+                selected.add(list.get(i));
+            }
+        }
+        return Optional.of(selected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        return Arrays.deepEquals(ranges, otherSelection.ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        if (ranges == null) {
+            return new ToStringBuilder(this).add("ranges", "all").toString();
+        }
+        StringBuilder oneBased = new StringBuilder();
+        for (int[] range : ranges) {
+            if (oneBased.length() > 0) {
+                oneBased.append(',');
+            }
+            oneBased.append(range[0] + 1);
+            if (range[1] != range[0]) {
+                oneBased.append('-').append(range[1] + 1);
+            }
+        }
+        return new ToStringBuilder(this).add("ranges", oneBased).toString();
+    }
+
+    /**
+     * An inclusive range of indices.
+     */
+    public static class Range {
+        private final Index first;
+        private final Index last;
+
+        /**
+         * Constructs a range from {@code first} to {@code last}, both inclusive.
+         *
+         * @throws IllegalArgumentException if {@code last} comes before {@code first}.
+         */
+        public Range(Index first, Index last) {
+            requireNonNull(first);
+            requireNonNull(last);
+            if (last.getZeroBased() < first.getZeroBased()) {
+                throw new IllegalArgumentException("A range cannot end before it starts.");
+            }
+            this.first = first;
+            this.last = last;
+        }
+    }
+}
@@ -65,6 +65,17 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the size of {@code file} in bytes, or 0 if it does not exist or cannot be read.
+     */
+    public static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
     /**
      * Assumes file exists
      */
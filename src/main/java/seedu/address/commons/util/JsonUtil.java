@@ -14,7 +14,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -81,6 +83,41 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the text of the top-level field {@code fieldName} of the JSON object in {@code filePath}, reading the
+     * file only as far as that field and skipping the values of the fields before it without deserialising them.
+     * Returns {@code Optional.empty()} if the file is not found, or if the field is missing or null.
+     *
+     * @param filePath cannot be null.
+     * @throws DataLoadingException if the file could not be read or is not a JSON object.
+     */
+    public static Optional<String> readJsonField(Path filePath, String fieldName) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(fieldName);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(filePath.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DataLoadingException(new IOException("Not a JSON object: " + filePath));
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentFieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (currentFieldName.equals(fieldName)) {
+                    return Optional.ofNullable(parser.getValueAsString());
+                }
+                parser.skipChildren();
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
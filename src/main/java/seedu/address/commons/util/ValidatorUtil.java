@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Helper functions for validating strings character by character, without the cost of compiling and running a regular
+ * expression on every call.
+ * <p>
+ * The character classes follow those of {@link java.util.regex.Pattern} in its default mode, so a validator written
+ * with them accepts exactly the strings its regular expression would.
+ */
+public class ValidatorUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isAsciiDigit(int c) {
+        return '0' <= c && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} or {@code [^\W_]}.
+     */
+    public static boolean isAsciiAlphanumeric(int c) {
+        return ('a' <= c && c <= 'z') || ('A' <= c && c <= 'Z') || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace, as matched by {@code \s}.
+     */
+    public static boolean isRegexWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} terminates a line, and so is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Returns true if {@code test} is at least {@code minLength} characters long, its first character satisfies
+     * {@code first} and every other character satisfies {@code rest}.
+     */
+    public static boolean matchesEvery(String test, int minLength, IntPredicate first, IntPredicate rest) {
+        requireNonNull(test);
+        int length = test.length();
+        if (length < Math.max(minLength, 1) || !first.test(test.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (!rest.test(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
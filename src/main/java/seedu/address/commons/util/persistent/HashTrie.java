@@ -0,0 +1,339 @@
+package seedu.address.commons.util.persistent;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable hash array mapped trie from keys to values, the shared structure behind {@link PersistentSet} and
+ * {@link PersistentMap}.
+ * <p>
+ * Each level of the trie consumes five bits of a key's hash and holds only the branches that are present, found
+ * through a 32-bit bitmap. Lookups, insertions and removals therefore cost O(log32 n), and an update copies only the
+ * nodes on the path to the changed key. Keys whose hashes are entirely equal share a collision node.
+ * <p>
+ * Neither keys nor values may be null.
+ */
+final class HashTrie<K, V> implements Iterable<HashTrie.Leaf<K, V>> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final HashTrie<?, ?> EMPTY = new HashTrie<>(null, 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private HashTrie(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, V> HashTrie<K, V> empty() {
+        return (HashTrie<K, V>) EMPTY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if it is absent.
+     */
+    V get(Object key) {
+        return root == null ? null : root.get(0, key.hashCode(), key);
+    }
+
+    /**
+     * Returns a trie mapping {@code key} to {@code value}, or this trie if it already does.
+     */
+    HashTrie<K, V> put(K key, V value) {
+        V previous = get(key);
+        if (previous == value) {
+            return this;
+        }
+        Leaf<K, V> leaf = new Leaf<>(key.hashCode(), key, value);
+        Node<K, V> newRoot = root == null ? leaf : root.put(0, leaf);
+        return new HashTrie<>(newRoot, previous == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a trie without {@code key}, or this trie if it is absent.
+     */
+    HashTrie<K, V> remove(Object key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Node<K, V> newRoot = root.remove(0, key.hashCode(), key);
+        return newRoot == null ? empty() : new HashTrie<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns the leaves of this trie in hash order.
+     */
+    @Override
+    public Iterator<Leaf<K, V>> iterator() {
+        return new LeafIterator<>(root);
+    }
+
+    private static int branch(int shift, int hash) {
+        return (hash >>> shift) & MASK;
+    }
+
+    /**
+     * Returns a node holding both {@code first} and {@code second}, whose hashes differ, at depth {@code shift}.
+     */
+    private static <K, V> Node<K, V> merge(int shift, Node<K, V> first, int firstHash,
+            Node<K, V> second, int secondHash) {
+        int firstBranch = branch(shift, firstHash);
+        int secondBranch = branch(shift, secondHash);
+        if (firstBranch == secondBranch) {
+            Node<K, V>[] children = newNodes(1);
+            children[0] = merge(shift + BITS, first, firstHash, second, secondHash);
+            return new BitmapNode<>(1 << firstBranch, children);
+        }
+        Node<K, V>[] children = newNodes(2);
+        children[0] = firstBranch < secondBranch ? first : second;
+        children[1] = firstBranch < secondBranch ? second : first;
+        return new BitmapNode<>((1 << firstBranch) | (1 << secondBranch), children);
+    }
+
+    /**
+     * Returns a new array of {@code length} nodes. Arrays of a generic type cannot be created directly, so arrays of
+     * nodes are only created here and in {@link #newLeaves(int)}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V>[] newNodes(int length) {
+        return (Node<K, V>[]) new Node<?, ?>[length];
+    }
+
+    /**
+     * Returns a new array of {@code length} leaves, as {@link #newNodes(int)} does for nodes.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, V> Leaf<K, V>[] newLeaves(int length) {
+        return (Leaf<K, V>[]) new Leaf<?, ?>[length];
+    }
+
+    /**
+     * A node of the trie. Every update returns a new node and leaves the original untouched.
+     */
+    private abstract static class Node<K, V> {
+        abstract V get(int shift, int hash, Object key);
+
+        abstract Node<K, V> put(int shift, Leaf<K, V> leaf);
+
+        /** Returns this node without {@code key}, which must be present, or null if nothing remains. */
+        abstract Node<K, V> remove(int shift, int hash, Object key);
+    }
+
+    /**
+     * A single key and its value.
+     */
+    static final class Leaf<K, V> extends Node<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        Leaf(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        K getKey() {
+            return key;
+        }
+
+        V getValue() {
+            return value;
+        }
+
+        @Override
+        V get(int shift, int hash, Object key) {
+            return this.hash == hash && this.key.equals(key) ? value : null;
+        }
+
+        @Override
+        Node<K, V> put(int shift, Leaf<K, V> leaf) {
+            if (hash != leaf.hash) {
+                return merge(shift, this, hash, leaf, leaf.hash);
+            }
+            if (key.equals(leaf.key)) {
+                return leaf;
+            }
+            Leaf<K, V>[] leaves = newLeaves(2);
+            leaves[0] = this;
+            leaves[1] = leaf;
+            return new CollisionNode<>(hash, leaves);
+        }
+
+        @Override
+        Node<K, V> remove(int shift, int hash, Object key) {
+            return null;
+        }
+    }
+
+    /**
+     * Leaves whose keys differ but whose hashes are equal.
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        private final int hash;
+        private final Leaf<K, V>[] leaves;
+
+        CollisionNode(int hash, Leaf<K, V>[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        @Override
+        V get(int shift, int hash, Object key) {
+            if (this.hash != hash) {
+                return null;
+            }
+            int index = indexOf(key);
+            return index >= 0 ? leaves[index].value : null;
+        }
+
+        @Override
+        Node<K, V> put(int shift, Leaf<K, V> leaf) {
+            if (hash != leaf.hash) {
+                return merge(shift, this, hash, leaf, leaf.hash);
+            }
+            int index = indexOf(leaf.key);
+            Leaf<K, V>[] newLeaves;
+            if (index >= 0) {
+                newLeaves = leaves.clone();
+                newLeaves[index] = leaf;
+            } else {
+                newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+                newLeaves[leaves.length] = leaf;
+            }
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        @Override
+        Node<K, V> remove(int shift, int hash, Object key) {
+            int index = indexOf(key);
+            if (leaves.length == 2) {
+                return leaves[1 - index];
+            }
+            Leaf<K, V>[] newLeaves = Arrays.copyOf(leaves, leaves.length - 1);
+            System.arraycopy(leaves, index + 1, newLeaves, index, leaves.length - index - 1);
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Up to 32 children, one for each value of the five bits of the hash consumed at this level.
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        private final int bitmap;
+        private final Node<K, V>[] children;
+
+        BitmapNode(int bitmap, Node<K, V>[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        @Override
+        V get(int shift, int hash, Object key) {
+            int bit = 1 << branch(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            return children[index(bit)].get(shift + BITS, hash, key);
+        }
+
+        @Override
+        Node<K, V> put(int shift, Leaf<K, V> leaf) {
+            int bit = 1 << branch(shift, leaf.hash);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                Node<K, V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                newChildren[index] = leaf;
+                return new BitmapNode<>(bitmap | bit, newChildren);
+            }
+            Node<K, V>[] newChildren = children.clone();
+            newChildren[index] = children[index].put(shift + BITS, leaf);
+            return new BitmapNode<>(bitmap, newChildren);
+        }
+
+        @Override
+        Node<K, V> remove(int shift, int hash, Object key) {
+            int bit = 1 << branch(shift, hash);
+            int index = index(bit);
+            Node<K, V> newChild = children[index].remove(shift + BITS, hash, key);
+            if (newChild != null) {
+                // A lone leaf or collision node needs no bitmap node above it
+                if (children.length == 1 && !(newChild instanceof BitmapNode)) {
+                    return newChild;
+                }
+                Node<K, V>[] newChildren = children.clone();
+                newChildren[index] = newChild;
+                return new BitmapNode<>(bitmap, newChildren);
+            }
+            if (children.length == 1) {
+                return null;
+            }
+            if (children.length == 2 && !(children[1 - index] instanceof BitmapNode)) {
+                return children[1 - index];
+            }
+            Node<K, V>[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new BitmapNode<>(bitmap & ~bit, newChildren);
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Iterates over the leaves of a trie depth first, holding the nodes still to be visited on a stack.
+     */
+    private static final class LeafIterator<K, V> implements Iterator<Leaf<K, V>> {
+        private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+
+        LeafIterator(Node<K, V> root) {
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public Leaf<K, V> next() {
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> node = pending.pop();
+            while (!(node instanceof Leaf)) {
+                Node<K, V>[] children = node instanceof BitmapNode
+                        ? ((BitmapNode<K, V>) node).children
+                        : ((CollisionNode<K, V>) node).leaves;
+                for (int i = children.length - 1; i > 0; i--) {
+                    pending.push(children[i]);
+                }
+                node = children[0];
+            }
+            return (Leaf<K, V>) node;
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package seedu.address.commons.util.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose updates return new lists that share all unchanged structure with the original.
+ * <p>
+ * Elements are held in a height-balanced binary tree ordered by position, in which every node knows the size of its
+ * subtree. Positional lookups, and replacing, inserting or removing an element, therefore cost O(log n), and an update
+ * copies only the O(log n) nodes on the path to the changed position. Iterating over the whole list costs O(n).
+ * <p>
+ * Null elements are not permitted. The list is safe to share between threads without synchronisation.
+ *
+ * @param <E> the type of elements in this list
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of {@code elements}, in iteration order. Costs O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    /**
+     * Returns a list holding {@code elements}, in order.
+     */
+    @SafeVarargs
+    public static <E> PersistentList<E> of(E... elements) {
+        PersistentList<E> list = empty();
+        for (E element : elements) {
+            list = list.plus(element);
+        }
+        return list;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements right.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list without the element at {@code index}, shifting later elements left.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node<E> newRoot = remove(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof List)) {
+            return false;
+        }
+        if (other instanceof PersistentList && ((PersistentList<?>) other).root == root) {
+            return true;
+        }
+
+        List<?> otherList = (List<?>) other;
+        if (otherList.size() != size()) {
+            return false;
+        }
+        Iterator<?> otherElements = otherList.iterator();
+        for (E element : this) {
+            if (!element.equals(otherElements.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    //// tree operations, each returning a new tree and leaving its arguments untouched
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the removed element by its successor, the first element of the right subtree
+            return balance(node.left, first(node.right), remove(node.right, 0));
+        }
+    }
+
+    private static <E> E first(Node<E> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.element;
+    }
+
+    /**
+     * Returns a node holding {@code left}, {@code element} and {@code right}, rotated so that its subtrees differ in
+     * height by at most one. The subtrees may differ in height by at most two.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over a tree in order, holding the path to the next element on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            descendLeft(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            descendLeft(node.right);
+            return node.element;
+        }
+
+        private void descendLeft(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.commons.util.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map that iterates in insertion order, like {@code LinkedHashMap}, and whose updates return new maps that
+ * share all unchanged structure with the original.
+ * <p>
+ * Entries are held in a hash array mapped trie, each knowing the keys inserted just before and after it. Lookups cost
+ * O(log32 n), which is effectively constant, and adding, replacing or removing an entry copies only the paths to it
+ * and to its neighbours. Replacing the value of a key keeps its position.
+ * <p>
+ * Null keys and values are not permitted. Every method inherited from {@code Map} that would modify the map throws
+ * {@code UnsupportedOperationException}. The map is safe to share between threads without synchronisation.
+ *
+ * @param <K> the type of keys in this map
+ * @param <V> the type of values in this map
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(HashTrie.empty(), null, null);
+
+    private final HashTrie<K, LinkedEntry<K, V>> trie;
+    private final K first;
+    private final K last;
+
+    private PersistentMap(HashTrie<K, LinkedEntry<K, V>> trie, K first, K last) {
+        this.trie = trie;
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map holding the entries of {@code map}, in its iteration order. Returns {@code map} itself if it is
+     * already a {@code PersistentMap}, and costs O(n) otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        requireNonNull(map);
+        if (map instanceof PersistentMap) {
+            return (PersistentMap<K, V>) map;
+        }
+        PersistentMap<K, V> copy = empty();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            copy = copy.plus(entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    @Override
+    public V get(Object key) {
+        LinkedEntry<K, V> entry = key == null ? null : trie.get(key);
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && trie.get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new InsertionOrderIterator();
+            }
+
+            @Override
+            public int size() {
+                return trie.size();
+            }
+        };
+    }
+
+    /**
+     * Returns a map that also maps {@code key} to {@code value}, or this map if it already does. A new key is placed
+     * last, while an existing key keeps its position.
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        LinkedEntry<K, V> existing = trie.get(key);
+        if (existing != null) {
+            if (existing.getValue().equals(value)) {
+                return this;
+            }
+            return new PersistentMap<>(trie.put(key, existing.withValue(value)), first, last);
+        }
+
+        HashTrie<K, LinkedEntry<K, V>> newTrie = trie.put(key, new LinkedEntry<>(key, value, last, null));
+        if (last == null) {
+            return new PersistentMap<>(newTrie, key, key);
+        }
+        LinkedEntry<K, V> previous = trie.get(last);
+        return new PersistentMap<>(newTrie.put(last, previous.withNext(key)), first, key);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not hold it.
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        requireNonNull(key);
+        LinkedEntry<K, V> removed = trie.get(key);
+        if (removed == null) {
+            return this;
+        }
+
+        HashTrie<K, LinkedEntry<K, V>> newTrie = trie.remove(key);
+        K newFirst = first;
+        K newLast = last;
+        if (removed.previous == null) {
+            newFirst = removed.next;
+        } else {
+            newTrie = newTrie.put(removed.previous, newTrie.get(removed.previous).withNext(removed.next));
+        }
+        if (removed.next == null) {
+            newLast = removed.previous;
+        } else {
+            newTrie = newTrie.put(removed.next, newTrie.get(removed.next).withPrevious(removed.previous));
+        }
+        return newTrie.size() == 0 ? empty() : new PersistentMap<>(newTrie, newFirst, newLast);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * An immutable entry, which also records the keys of its neighbours in insertion order.
+     */
+    private static final class LinkedEntry<K, V> extends AbstractMap.SimpleImmutableEntry<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final K previous;
+        private final K next;
+
+        LinkedEntry(K key, V value, K previous, K next) {
+            super(key, value);
+            this.previous = previous;
+            this.next = next;
+        }
+
+        LinkedEntry<K, V> withValue(V value) {
+            return new LinkedEntry<>(getKey(), value, previous, next);
+        }
+
+        LinkedEntry<K, V> withPrevious(K previous) {
+            return new LinkedEntry<>(getKey(), getValue(), previous, next);
+        }
+
+        LinkedEntry<K, V> withNext(K next) {
+            return new LinkedEntry<>(getKey(), getValue(), previous, next);
+        }
+    }
+
+    /**
+     * Iterates over the entries in insertion order by following each entry to the key after it.
+     */
+    private final class InsertionOrderIterator implements Iterator<Map.Entry<K, V>> {
+        private K nextKey = first;
+
+        @Override
+        public boolean hasNext() {
+            return nextKey != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (nextKey == null) {
+                throw new NoSuchElementException();
+            }
+            LinkedEntry<K, V> entry = trie.get(nextKey);
+            nextKey = entry.next;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.commons.util.persistent;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * An immutable hash set whose updates return new sets that share all unchanged structure with the original.
+ * <p>
+ * Elements are held in a hash array mapped trie, so membership tests, and adding or removing an element, cost
+ * O(log32 n), which is effectively constant, and an update copies only the few nodes on the path to the changed
+ * element. Iteration order is unspecified, as for {@code HashSet}.
+ * <p>
+ * Null elements are not permitted. Every method inherited from {@code Set} that would modify the set throws
+ * {@code UnsupportedOperationException}. The set is safe to share between threads without synchronisation.
+ *
+ * @param <E> the type of elements in this set
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+    private static final PersistentSet<?> EMPTY = new PersistentSet<>(HashTrie.empty());
+
+    private final HashTrie<E, E> trie;
+
+    private PersistentSet(HashTrie<E, E> trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> empty() {
+        return (PersistentSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set holding the elements of {@code elements}. Returns {@code elements} itself if it is already a
+     * {@code PersistentSet}, and costs O(n) otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentSet) {
+            return (PersistentSet<E>) elements;
+        }
+        return PersistentSet.<E>empty().plusAll(elements);
+    }
+
+    /**
+     * Returns a set holding {@code elements}.
+     */
+    @SafeVarargs
+    public static <E> PersistentSet<E> of(E... elements) {
+        HashTrie<E, E> trie = HashTrie.empty();
+        for (E element : elements) {
+            requireNonNull(element);
+            trie = trie.put(element, element);
+        }
+        return trie.size() == 0 ? empty() : new PersistentSet<>(trie);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element != null && trie.get(element) != null;
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<HashTrie.Leaf<E, E>> leaves = trie.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return leaves.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return leaves.next().getKey();
+            }
+        };
+    }
+
+    /**
+     * Returns a set that also holds {@code element}, or this set if it already does.
+     */
+    public PersistentSet<E> plus(E element) {
+        requireNonNull(element);
+        HashTrie<E, E> newTrie = trie.put(element, element);
+        return newTrie == trie ? this : new PersistentSet<>(newTrie);
+    }
+
+    /**
+     * Returns a set that also holds every element of {@code elements}.
+     */
+    public PersistentSet<E> plusAll(Collection<? extends E> elements) {
+        HashTrie<E, E> newTrie = trie;
+        for (E element : elements) {
+            requireNonNull(element);
+            newTrie = newTrie.put(element, element);
+        }
+        return newTrie == trie ? this : new PersistentSet<>(newTrie);
+    }
+
+    /**
+     * Returns a set without {@code element}, or this set if it does not hold it.
+     */
+    public PersistentSet<E> minus(Object element) {
+        requireNonNull(element);
+        HashTrie<E, E> newTrie = trie.remove(element);
+        return newTrie == trie ? this : new PersistentSet<>(newTrie);
+    }
+
+    /**
+     * Returns a set without any element of {@code elements}.
+     */
+    public PersistentSet<E> minusAll(Collection<?> elements) {
+        HashTrie<E, E> newTrie = trie;
+        for (Object element : elements) {
+            requireNonNull(element);
+            newTrie = newTrie.remove(element);
+        }
+        return newTrie == trie ? this : new PersistentSet<>(newTrie);
+    }
+
+    /**
+     * Returns a set without the elements that satisfy {@code filter}, or this set if none does.
+     */
+    public PersistentSet<E> minusIf(Predicate<? super E> filter) {
+        requireNonNull(filter);
+        HashTrie<E, E> newTrie = trie;
+        for (E element : this) {
+            if (filter.test(element)) {
+                newTrie = newTrie.remove(element);
+            }
+        }
+        return newTrie == trie ? this : new PersistentSet<>(newTrie);
+    }
+
+    @Override
+    public boolean add(E element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
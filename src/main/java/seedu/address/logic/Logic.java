@@ -19,7 +19,9 @@ import seedu.address.session.SessionData;
  */
 public interface Logic {
     /**
-     * Executes the command and returns the result.
+     * Executes the command and returns the result. {@code commandText} may hold several commands separated by
+     * semicolons, which are then decoded up front and executed as one batch: either all of them take effect, with the
+     * address book saved once, or none do.
      *
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
@@ -28,6 +30,44 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, AssemblyException;
 
+    /**
+     * Executes a command line prepared by {@link #prepare(String)}, exactly as {@link #execute(String)} would execute
+     * its text.
+     *
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(PreparedCommand command) throws CommandException;
+
+    /**
+     * Lexes, parses and decodes {@code commandText} without executing it. This reads no application state, so it may
+     * be called from any thread, e.g. to prepare later command lines of a script while an earlier one executes.
+     *
+     * @throws AssemblyException If an error occurs during command assembly.
+     */
+    PreparedCommand prepare(String commandText) throws AssemblyException;
+
+    /**
+     * Executes the command against the last committed snapshot of the address book and a copy of the command history,
+     * if every command in {@code commandText} is read-only. Neither the displayed list, the command history nor the
+     * data file is changed, and no lock is taken, so queries may run on any thread, concurrently with each other and
+     * with {@link #execute(String)}. A query never observes a command that is only partly executed.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the query, or an empty {@code Optional} without executing anything if some command is not
+     *     read-only.
+     * @throws CommandException  If an error occurs during command execution.
+     * @throws AssemblyException If an error occurs during command assembly.
+     */
+    Optional<QueryResult> query(String commandText) throws CommandException, AssemblyException;
+
+    /**
+     * Executes a command line prepared by {@link #prepare(String)} as a query, exactly as {@link #query(String)} would
+     * execute its text.
+     *
+     * @throws CommandException If an error occurs during command execution.
+     */
+    Optional<QueryResult> query(PreparedCommand command) throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -80,13 +120,20 @@ public interface Logic {
     void markSessionSnapshotPersisted();
 
     /**
-     * Returns the current command history snapshot for persistence.
+     * Returns a copy of the newest commands in the command history, which does not change as commands are executed
+     * (see {@link CommandHistory#copy()}).
      *
      * <p>Callers who only require the raw list of entries may use
      * {@code getCommandHistorySnapshot().getEntries()}.
      */
     CommandHistory getCommandHistorySnapshot();
 
+    /**
+     * Returns the command history, which grows as commands are executed, for persistence and for navigating without
+     * copying it.
+     */
+    CommandHistory getCommandHistory();
+
     /**
      * Marks the address book as modified so the session snapshot will be persisted.
      * This should be called when the model is modified outside normal command execution.
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -8,16 +10,24 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.decoder.Bindings;
 import seedu.address.logic.commands.decoder.Decoder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.exceptions.AssemblyException;
 import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.CommandLexer;
+import seedu.address.logic.grammars.command.lexer.TokenisedCommand;
 import seedu.address.logic.session.SessionRecorder;
-import seedu.address.model.AddressBook;
+import seedu.address.logic.stats.CommandStage;
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.logic.stats.StageTimer;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SnapshotModel;
 import seedu.address.model.history.CommandHistory;
 // session restoration of search keywords removed
 import seedu.address.model.person.Person;
@@ -29,11 +39,12 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
 
-    private final Logger logger = LogsCenter.getLogger(LogicManager.class);
+    private static final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final SessionRecorder sessionRecorder;
     private final Storage storage;
+    private final CommandStats stats;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -50,40 +61,180 @@ public class LogicManager implements Logic {
      * @param initialSession previously saved session data to restore, if any
      */
     public LogicManager(Model model, Storage storage, Optional<SessionData> initialSession) {
+        this(model, storage, initialSession, CommandStats.getInstance());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that records how long each stage of each command takes into {@code stats}.
+     */
+    public LogicManager(Model model, Storage storage, Optional<SessionData> initialSession, CommandStats stats) {
+        this(model, storage, initialSession, loadCommandHistory(storage), stats);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that starts with {@code initialHistory}, already read from {@code storage}
+     * with {@link #loadCommandHistory(Storage)}, and records how long each stage of each command takes into
+     * {@code stats}.
+     */
+    public LogicManager(Model model, Storage storage, Optional<SessionData> initialSession,
+                        CommandHistory initialHistory, CommandStats stats) {
         this.model = model;
         this.storage = storage;
+        this.stats = stats;
 
-        CommandHistory initialHistory = loadCommandHistory(storage);
         this.model.setCommandHistory(initialHistory);
         sessionRecorder = new SessionRecorder(model.getAddressBook(), model.getGuiSettings(), initialSession);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, AssemblyException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(prepare(commandText));
+    }
 
-        Command command = Decoder.decode(BareCommand.parse(commandText));
-        AddressBook beforeState = new AddressBook(model.getAddressBook());
-        CommandResult commandResult = command.execute(model);
-        AddressBook afterState = new AddressBook(model.getAddressBook());
-        boolean addressBookChanged = !beforeState.equals(afterState);
+    @Override
+    public CommandResult execute(PreparedCommand command) throws CommandException {
+        String commandText = command.getCommandText();
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        List<Command> commands = command.getCommands();
+        List<String> imperatives = command.getImperatives();
+        // Stages of the whole command line are timed as stages of its last command, whose result is shown
+        String lastImperative = imperatives.get(imperatives.size() - 1);
+
+        AddressBookSnapshot beforeState = model.getCommittedAddressBook();
+        CommandResult commandResult = executeInTransaction(commands, imperatives);
+        AddressBookSnapshot afterState = model.getCommittedAddressBook();
+        // Compared by identity rather than equals, which compares every person once anything has changed. A command
+        // that changed persons to equal ones is taken as a change, which only costs a redundant save.
+        boolean addressBookChanged = !afterState.isSameVersionAs(beforeState);
 
         model.getCommandHistory().add(commandText);
 
         //ensures links added persists in address book
         if (addressBookChanged) {
+            StageTimer saveTimer = StageTimer.start();
             try {
-                storage.saveAddressBook(model.getAddressBook());
+                storage.saveAddressBook(afterState);
             } catch (Exception e) {
                 throw new CommandException("Could not save data to file: " + e.getMessage(), e);
             }
+            saveTimer.record(stats, lastImperative, CommandStage.SAVE);
+            stats.recordSave(FileUtil.sizeOf(storage.getAddressBookFilePath()));
         }
 
-        sessionRecorder.afterSuccessfulCommand(command, addressBookChanged);
+        StageTimer sessionTimer = StageTimer.start();
+        sessionRecorder.afterSuccessfulCommand(commands.get(commands.size() - 1), addressBookChanged);
+        sessionTimer.record(stats, lastImperative, CommandStage.SESSION);
 
         return commandResult;
     }
 
+    @Override
+    public PreparedCommand prepare(String commandText) throws AssemblyException {
+        StageTimer lexTimer = StageTimer.start();
+        TokenisedCommand tokenisedCommand = CommandLexer.lexCommand(commandText);
+        lexTimer.stop();
+        StageTimer parseTimer = StageTimer.start();
+        List<BareCommand> bareCommands = BareCommand.parseSequence(tokenisedCommand);
+        parseTimer.stop();
+
+        // Every command is decoded before any is executed, so that none is executed unless all of them are valid
+        List<Command> commands = new ArrayList<>(bareCommands.size());
+        List<String> imperatives = new ArrayList<>(bareCommands.size());
+        for (BareCommand bareCommand : bareCommands) {
+            StageTimer decodeTimer = StageTimer.start();
+            commands.add(Decoder.decode(bareCommand));
+            decodeTimer.stop();
+            String imperative = Bindings.resolveExactImperative(bareCommand.getImperative());
+            imperatives.add(imperative);
+            decodeTimer.record(stats, imperative, CommandStage.DECODE);
+        }
+
+        String lastImperative = imperatives.get(imperatives.size() - 1);
+        lexTimer.record(stats, lastImperative, CommandStage.LEX);
+        parseTimer.record(stats, lastImperative, CommandStage.PARSE);
+        return new PreparedCommand(commandText, commands, imperatives);
+    }
+
+    @Override
+    public Optional<QueryResult> query(String commandText) throws CommandException, AssemblyException {
+        return query(prepare(commandText));
+    }
+
+    @Override
+    public Optional<QueryResult> query(PreparedCommand command) throws CommandException {
+        logger.fine(() -> "----------------[QUERY][" + command.getCommandText() + "]");
+
+        if (!command.isReadOnly()) {
+            return Optional.empty();
+        }
+
+        // The last committed snapshot never changes, so queries need not wait for commands being executed. The
+        // history is safe to read while commands are added to it, so it is shared rather than copied.
+        Model view = new SnapshotModel(model.getCommittedAddressBook(), model.getCommandHistory());
+
+        List<String> feedback = new ArrayList<>();
+        CommandResult commandResult = null;
+        for (Command each : command.getCommands()) {
+            commandResult = each.execute(view);
+            feedback.add(commandResult.getFeedbackToUser());
+        }
+        return Optional.of(new QueryResult(commandResult.withFeedbackToUser(String.join("\n", feedback)),
+                view.getFilteredPersonList()));
+    }
+
+    /**
+     * Executes {@code commands} in order within a single model transaction, so that listeners observe all of their
+     * changes at once and a failing command leaves the model as it found it, undoing any commands before it.
+     */
+    private CommandResult executeInTransaction(List<Command> commands, List<String> imperatives)
+            throws CommandException {
+        model.beginTransaction();
+        try {
+            CommandResult commandResult = commands.size() == 1
+                    ? executeTimed(commands.get(0), imperatives.get(0))
+                    : executeBatch(commands, imperatives);
+            model.commit();
+            return commandResult;
+        } catch (CommandException | RuntimeException e) {
+            model.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes {@code commands} in order, returning the result of the last command with the feedback of all of them.
+     * Only the last command may ask for more than showing its feedback, e.g. to exit.
+     */
+    private CommandResult executeBatch(List<Command> commands, List<String> imperatives) throws CommandException {
+        List<String> feedback = new ArrayList<>(commands.size());
+        CommandResult commandResult = null;
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commandResult = executeTimed(commands.get(i), imperatives.get(i));
+            } catch (CommandException e) {
+                throw new CommandException(String.format(Messages.MESSAGE_BATCH_COMMAND_FAILED,
+                        i + 1, commands.size(), e.getMessage()), e);
+            }
+            if (i < commands.size() - 1 && !commandResult.isFeedbackOnly()) {
+                throw new CommandException(String.format(Messages.MESSAGE_BATCH_COMMAND_NOT_LAST,
+                        i + 1, commands.size()));
+            }
+            feedback.add(commandResult.getFeedbackToUser());
+        }
+        return commandResult.withFeedbackToUser(String.join("\n", feedback));
+    }
+
+    /**
+     * Executes {@code command}, recording how long it took if it succeeded.
+     */
+    private CommandResult executeTimed(Command command, String imperative) throws CommandException {
+        StageTimer executeTimer = StageTimer.start();
+        CommandResult commandResult = command.execute(model);
+        executeTimer.record(stats, imperative, CommandStage.EXECUTE);
+        return commandResult;
+    }
+
     @Override
     public void markAddressBookDirty() {
         Command dummyCommand = new seedu.address.logic.commands.InfoCommand(
@@ -102,8 +253,10 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
-
-    private CommandHistory loadCommandHistory(Storage storage) {
+    /**
+     * Reads the command history from {@code storage}, or returns an empty history if it cannot be read.
+     */
+    public static CommandHistory loadCommandHistory(Storage storage) {
         try {
             return storage.readCommandHistory().orElseGet(CommandHistory::new);
         } catch (DataLoadingException e) {
@@ -158,7 +311,12 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandHistory getCommandHistorySnapshot() {
-        return new CommandHistory(model.getCommandHistory().getEntries());
+        return model.getCommandHistory().copy();
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return model.getCommandHistory();
     }
 
     // Intentionally do not restore transient session attributes such as search keywords.
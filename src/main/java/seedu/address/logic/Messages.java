@@ -10,6 +10,10 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String MESSAGE_BATCH_COMMAND_FAILED =
+            "Command %1$d of %2$d failed, so none of the commands were applied: %3$s";
+    public static final String MESSAGE_BATCH_COMMAND_NOT_LAST =
+            "Command %1$d of %2$d opens a window, exits or runs in the background, so it must come last.";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
 
@@ -0,0 +1,62 @@
+package seedu.address.logic;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Represents a command line that has been lexed, parsed and decoded, but not yet executed.
+ * <p>
+ * Preparing a command line reads no application state, so it may be done on any thread, ahead of the commands before
+ * it; see {@link Logic#prepare(String)}.
+ */
+public final class PreparedCommand {
+    private final String commandText;
+    private final List<Command> commands;
+    private final List<String> imperatives;
+
+    /**
+     * Constructs a {@code PreparedCommand} for {@code commandText}, which decodes to {@code commands} with the given
+     * full {@code imperatives}.
+     */
+    PreparedCommand(String commandText, List<Command> commands, List<String> imperatives) {
+        assert !commands.isEmpty() && commands.size() == imperatives.size();
+        this.commandText = commandText;
+        this.commands = List.copyOf(commands);
+        this.imperatives = List.copyOf(imperatives);
+    }
+
+    public String getCommandText() {
+        return commandText;
+    }
+
+    /**
+     * Returns the commands of the command line, in order.
+     */
+    List<Command> getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the full imperatives of the commands of the command line, in order.
+     */
+    List<String> getImperatives() {
+        return imperatives;
+    }
+
+    /**
+     * Returns true if no command of the command line can change the address book or the displayed list.
+     */
+    public boolean isReadOnly() {
+        return commands.stream().allMatch(Command::isReadOnly);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandText", commandText)
+                .add("commands", commands)
+                .toString();
+    }
+}
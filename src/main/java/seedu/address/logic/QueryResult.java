@@ -0,0 +1,67 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the outcome of a read-only query: the result of its command and the persons it listed.
+ */
+public class QueryResult {
+    private final CommandResult commandResult;
+    private final List<Person> persons;
+
+    /**
+     * Constructs a {@code QueryResult} with the specified fields.
+     */
+    public QueryResult(CommandResult commandResult, List<Person> persons) {
+        requireNonNull(commandResult);
+        requireNonNull(persons);
+        this.commandResult = commandResult;
+        this.persons = List.copyOf(persons);
+    }
+
+    public CommandResult getCommandResult() {
+        return commandResult;
+    }
+
+    /**
+     * Returns the persons listed after the query, in display order.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryResult)) {
+            return false;
+        }
+
+        QueryResult otherQueryResult = (QueryResult) other;
+        return commandResult.equals(otherQueryResult.commandResult)
+                && persons.equals(otherQueryResult.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return commandResult.hashCode() * 31 + persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandResult", commandResult)
+                .add("persons", persons)
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Long-running work handed back by a command to be run off the UI thread after the command itself has returned.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Runs the task.
+     *
+     * @param progressListener Receives progress messages to be shown to the user while the task runs.
+     * @return The feedback to be shown to the user once the task has completed.
+     * @throws CommandException if the task fails.
+     */
+    String run(Consumer<String> progressListener) throws CommandException;
+}
@@ -17,4 +17,11 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command never changes the address book or the command history, so that it may
+     * be executed against a private view of the model, e.g. to answer a query without disturbing the displayed list.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
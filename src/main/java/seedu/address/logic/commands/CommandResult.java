@@ -27,6 +27,9 @@ public class CommandResult {
     /** The person whose info is to be edited. */
     private final Person personToEdit;
 
+    /** Work to be continued in the background once the command has returned. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -36,6 +39,7 @@ public class CommandResult {
         this.exit = exit;
         this.showInfoEditor = false;
         this.personToEdit = null;
+        this.backgroundTask = null;
     }
 
     /**
@@ -47,6 +51,28 @@ public class CommandResult {
         this.exit = false;
         this.showInfoEditor = true;
         this.personToEdit = requireNonNull(personToEdit);
+        this.backgroundTask = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} whose {@code backgroundTask} is to be run after it is shown.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showInfoEditor = false;
+        this.personToEdit = null;
+        this.backgroundTask = requireNonNull(backgroundTask);
+    }
+
+    private CommandResult(CommandResult source, String feedbackToUser) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = source.showHelp;
+        this.exit = source.exit;
+        this.showInfoEditor = source.showInfoEditor;
+        this.personToEdit = source.personToEdit;
+        this.backgroundTask = source.backgroundTask;
     }
 
     /**
@@ -77,6 +103,24 @@ public class CommandResult {
         return Optional.ofNullable(personToEdit);
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
+    /**
+     * Returns true if this result asks for nothing beyond showing its feedback to the user.
+     */
+    public boolean isFeedbackOnly() {
+        return !showHelp && !exit && !showInfoEditor && backgroundTask == null;
+    }
+
+    /**
+     * Returns a copy of this result that shows {@code feedbackToUser} instead.
+     */
+    public CommandResult withFeedbackToUser(String feedbackToUser) {
+        return new CommandResult(this, feedbackToUser);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -93,12 +137,13 @@ public class CommandResult {
                 && showHelp == otherCommandResult.showHelp
                 && exit == otherCommandResult.exit
                 && showInfoEditor == otherCommandResult.showInfoEditor
-                && Objects.equals(personToEdit, otherCommandResult.personToEdit);
+                && Objects.equals(personToEdit, otherCommandResult.personToEdit)
+                && Objects.equals(backgroundTask, otherCommandResult.backgroundTask);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit, showInfoEditor, personToEdit);
+        return Objects.hash(feedbackToUser, showHelp, exit, showInfoEditor, personToEdit, backgroundTask);
     }
 
     @Override
@@ -109,6 +154,7 @@ public class CommandResult {
                 .add("exit", exit)
                 .add("showInfoEditor", showInfoEditor)
                 .add("personToEdit", personToEdit)
+                .add("backgroundTask", backgroundTask)
                 .toString();
     }
 
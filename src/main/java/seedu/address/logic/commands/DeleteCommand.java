@@ -2,74 +2,83 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.persistent.PersistentSet;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Link;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.builder.PersonBuilder;
 
 /**
- * Deletes a person identified using it's displayed index from the address book.
+ * Deletes the persons identified using their displayed indices from the address book.
  */
 public class DeleteCommand extends Command {
 
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the person identified by the index number used in the displayed person list.\n"
-            + "Format: delete <index>\n"
-            + "Parameters: <index> (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the persons identified by the index numbers used in the displayed person list.\n"
+            + "Format: delete <indices>\n"
+            + "Parameters: <indices> (positive integers and ranges separated by commas, or all)\n"
+            + "Example: " + COMMAND_WORD + " 1,4,10-12";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_DELETE_PERSONS_SUCCESS = "Deleted %1$d persons.";
 
-    private final Index targetIndex;
+    private final IndexSelection targetIndices;
 
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(IndexSelection.of(targetIndex));
+    }
+
+    public DeleteCommand(IndexSelection targetIndices) {
+        this.targetIndices = targetIndices;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-
-        Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-
-        // Iterate through all persons in full list
-        List<Person> currentList = model.getAddressBook().getPersonList();
-        for (Person p : currentList) {
-            if (p.isSamePerson(personToDelete)) {
+        List<Person> personsToDelete = targetIndices.select(model.getFilteredPersonList())
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        Set<Name> namesToDelete = personsToDelete.stream().map(Person::getName).collect(Collectors.toSet());
+
+        // Iterate through all persons in full list once, whatever the number of persons deleted
+        // An immutable snapshot, so the persons updated below need not be copied out first
+        for (Person p : model.getAddressBookSnapshot().getPersons()) {
+            if (namesToDelete.contains(p.getName())) {
                 continue;
             }
 
-            Set<Link> originalLinks = p.getLinks(); // Current links of person being checked
-            Set<Link> cleanedLinks = originalLinks.stream() // keep all links which does not reference to deleted person
-                    .filter(link -> !link.getLinker().isSamePerson(personToDelete)
-                            && !link.getLinkee().isSamePerson(personToDelete))
-                    .collect(java.util.stream.Collectors.toCollection(HashSet::new));
+            // keep all links which do not reference deleted persons
+            PersistentSet<Link> originalLinks = p.getLinks();
+            PersistentSet<Link> cleanedLinks = originalLinks.minusIf(link -> namesToDelete.contains(
+                    link.getLinker().getName()) || namesToDelete.contains(link.getLinkee().getName()));
 
             // Some links were removed, need update ui list and person
-            if (cleanedLinks.size() != originalLinks.size()) {
+            if (cleanedLinks != originalLinks) {
                 // Rebuild person with updated links
                 Person updated = new PersonBuilder(p).withLinks(cleanedLinks).build();
                 model.setPerson(p, updated);
             }
         }
-        model.deletePerson(personToDelete);
+        for (Person personToDelete : personsToDelete) {
+            model.deletePerson(personToDelete);
+        }
 
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
+        if (personsToDelete.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
+                    Messages.format(personsToDelete.get(0))));
+        }
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSONS_SUCCESS, personsToDelete.size()));
     }
 
     @Override
@@ -84,13 +93,13 @@ public class DeleteCommand extends Command {
         }
 
         DeleteCommand otherDeleteCommand = (DeleteCommand) other;
-        return targetIndex.equals(otherDeleteCommand.targetIndex);
+        return targetIndices.equals(otherDeleteCommand.targetIndices);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("targetIndex", targetIndex)
+                .add("targetIndices", targetIndices)
                 .toString();
     }
 }
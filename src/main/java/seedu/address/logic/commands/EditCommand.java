@@ -12,6 +12,7 @@ import java.util.Set;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.persistent.PersistentSet;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -73,27 +74,22 @@ public class EditCommand extends Command {
 
         model.setPerson(personToEdit, editedPerson);
         // Update link for each person
-        for (Person p : model.getAddressBook().getPersonList()) {
-            // reinitialise links for current person
-            Set<Link> updatedLinks = new HashSet<>();
-
-            // flag to state if any links affected by edit
-            boolean hasChanged = false;
+        for (Person p : model.getAddressBookSnapshot().getPersons()) {
+            // replace only the links affected by the edit, sharing the rest
+            PersistentSet<Link> updatedLinks = p.getLinks();
 
             for (Link link : p.getLinks()) {
                 if (link.getLinker().isSamePerson(personToEdit)) {
-                    updatedLinks.add(new Link(editedPerson, link.getLinkee(), link.getLinkName()));
-                    hasChanged = true;
+                    updatedLinks = updatedLinks.minus(link)
+                            .plus(new Link(editedPerson, link.getLinkee(), link.getLinkName()));
                 } else if (link.getLinkee().isSamePerson(personToEdit)) {
-                    updatedLinks.add(new Link(link.getLinker(), editedPerson, link.getLinkName()));
-                    hasChanged = true;
-                } else {
-                    updatedLinks.add(link);
+                    updatedLinks = updatedLinks.minus(link)
+                            .plus(new Link(link.getLinker(), editedPerson, link.getLinkName()));
                 }
             }
 
             //if no change, leave everything as is
-            if (hasChanged) {
+            if (updatedLinks != p.getLinks()) {
                 Person updatedPerson = new PersonBuilder(p).withLinks(updatedLinks).build();
                 model.setPerson(p, updatedPerson);
             }
@@ -0,0 +1,151 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.interchange.InterchangeFormat;
+import seedu.address.storage.interchange.PersonRecordWriter;
+
+/**
+ * Exports persons to a CSV, vCard or JSON Lines file, optionally only those matching find-style keywords.
+ * <p>
+ * The command itself only takes a snapshot of the address book's person list, which is cheap as persons are
+ * immutable. Filtering and writing happen in a {@code BackgroundTask} that streams persons one at a time through a
+ * buffered writer, so the export neither blocks the UI nor holds more than the snapshot in memory, and is unaffected
+ * by commands executed while it runs.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports persons to a CSV, vCard or JSON Lines file in the home folder.\n"
+            + "Format: export <file> [<keyword>]* [/<field>]* [/format:<csv|vcard|jsonl>]\n"
+            + "If keywords are given, only persons that find would list are exported.\n"
+            + "The format is inferred from the file extension (.csv, .vcf, .jsonl) unless specified.\n"
+            + "Example: " + COMMAND_WORD + " \"clients.csv\" client /tag";
+
+    public static final String MESSAGE_STARTED = "Exporting to %1$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting to %1$s... %2$d%% (%3$d persons written)";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s.";
+    public static final String MESSAGE_IS_DIRECTORY = "Cannot export to %1$s: it is a directory.";
+    public static final String MESSAGE_WRITE_FAILED = "Could not export to %1$s: %2$s";
+
+    /** Number of persons checked between two progress reports. */
+    static final int PROGRESS_INTERVAL = 10_000;
+
+    private final Path filePath;
+    private final InterchangeFormat format;
+    private final FieldContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates an ExportCommand to export the persons matching {@code predicate}, or all persons if it is absent, to
+     * {@code filePath} in the given {@code format}.
+     */
+    public ExportCommand(Path filePath, InterchangeFormat format, Optional<FieldContainsKeywordsPredicate> predicate) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(predicate);
+        this.filePath = filePath;
+        this.format = format;
+        this.predicate = predicate.orElse(null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (Files.isDirectory(filePath)) {
+            throw new CommandException(String.format(MESSAGE_IS_DIRECTORY, filePath));
+        }
+
+        // An immutable snapshot, so the export may run in the background while later commands change the model
+        List<Person> snapshot = model.getAddressBookSnapshot().getPersons();
+        Predicate<Person> filter = predicate != null ? predicate : person -> true;
+        return new CommandResult(String.format(MESSAGE_STARTED, filePath),
+                progressListener -> export(snapshot, filter, progressListener));
+    }
+
+    /**
+     * Writes the persons in {@code snapshot} accepted by {@code filter} to the file, reporting progress to
+     * {@code progressListener} every {@value #PROGRESS_INTERVAL} persons.
+     */
+    private String export(List<Person> snapshot, Predicate<Person> filter, Consumer<String> progressListener)
+            throws CommandException {
+        int written = 0;
+        try (PersonRecordWriter writer = PersonRecordWriter.open(filePath, format,
+                collectCustomFieldNames(snapshot, filter))) {
+            int read = 0;
+            for (Person person : snapshot) {
+                if (filter.test(person)) {
+                    writer.write(person);
+                    written++;
+                }
+                if (++read % PROGRESS_INTERVAL == 0) {
+                    progressListener.accept(String.format(MESSAGE_PROGRESS, filePath,
+                            (long) read * 100 / snapshot.size(), written));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, e.getMessage()), e);
+        }
+        return String.format(MESSAGE_SUCCESS, written, filePath);
+    }
+
+    /**
+     * Returns the names of the custom fields of the persons to be exported, in order of first appearance, if the
+     * format needs them declared up front.
+     */
+    private List<String> collectCustomFieldNames(List<Person> snapshot, Predicate<Person> filter) {
+        if (format != InterchangeFormat.CSV) {
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Person person : snapshot) {
+            if (!person.getCustomFields().isEmpty() && filter.test(person)) {
+                names.addAll(person.getCustomFields().keySet());
+            }
+        }
+        return List.copyOf(names);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && Objects.equals(predicate, otherExportCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
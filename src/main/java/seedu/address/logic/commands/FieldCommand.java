@@ -4,12 +4,16 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.persistent.PersistentMap;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -17,15 +21,15 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.builder.PersonBuilder;
 
 /**
- * Adds or updates custom key→value fields on a person.
- * Usage: {@code field <index> /<key>:<value> ...}
+ * Adds or updates custom key→value fields on one or more persons.
+ * Usage: {@code field <indices> /<key>:<value> ...}
  */
 public class FieldCommand extends Command {
 
     public static final String COMMAND_WORD = "field";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Adds, updates, or removes custom fields for the person identified by the index number.\n"
-            + "Parameters: INDEX (must be a positive integer) /KEY[:VALUE]...\n"
+            + ": Adds, updates, or removes custom fields for the persons identified by the index numbers.\n"
+            + "Parameters: INDICES (positive integers and ranges separated by commas, or all) /KEY[:VALUE]...\n"
             + "Example: " + COMMAND_WORD + " 1 /company:\"Goldman Sachs\" /nickname";
     public static final String MESSAGE_NAME_CANNOT_BE_BLANK = "Field name cannot be blank.";
     public static final String MESSAGE_DISALLOWED_FIELD_NAME =
@@ -33,7 +37,7 @@ public class FieldCommand extends Command {
     public static final String MESSAGE_AT_LEAST_ONE_PAIR =
             "Provide at least one /key or /key:value option. Usage: field <index> /key[:value] ...";
     public static final String MESSAGE_VALUE_CANNOT_BE_BLANK = "Field value cannot be blank.";
-    private final Index index;
+    private final IndexSelection indices;
     private final Map<String, String> updates;
     private final List<String> removals;
 
@@ -41,56 +45,57 @@ public class FieldCommand extends Command {
      * Creates a FieldCommand.
      */
     public FieldCommand(Index index, Map<String, String> updates, List<String> removals) {
-        requireNonNull(index);
+        this(IndexSelection.of(index), updates, removals);
+    }
+
+    /**
+     * Creates a FieldCommand that changes the fields of every selected person.
+     */
+    public FieldCommand(IndexSelection indices, Map<String, String> updates, List<String> removals) {
+        requireNonNull(indices);
         requireNonNull(updates);
         requireNonNull(removals);
 
-        this.index = index;
+        this.indices = indices;
         this.updates = new LinkedHashMap<>(updates);
         this.removals = List.copyOf(removals);
     }
 
     /**
-     * Executes the command: updates the selected person's custom fields and returns a user message.
+     * Executes the command: updates the selected persons' custom fields and returns a user message.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> list = model.getFilteredPersonList();
-        int zero = index.getZeroBased();
-        if (zero < 0 || zero >= list.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-        }
-        Person target = list.get(zero);
-
-        Map<String, String> mergedFields = new LinkedHashMap<>(target.getCustomFields());
-        List<String> successfulRemovals = applyRemovals(mergedFields);
-        applyChanges(mergedFields);
-
-        Person edited = new PersonBuilder(target)
-                .withCustomFields(mergedFields)
-                .build();
-        model.setPerson(target, edited);
-
-        String feedback = buildFeedbackMessage(edited, successfulRemovals);
-        return new CommandResult(feedback);
-    }
-
-    private List<String> applyRemovals(Map<String, String> fields) {
-        List<String> successfulRemovals = new ArrayList<>();
-        for (String removal : removals) {
-            if (fields.remove(removal) != null) {
-                successfulRemovals.add(removal);
+        List<Person> targets = indices.select(model.getFilteredPersonList())
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+
+        Set<String> successfulRemovals = new LinkedHashSet<>();
+        List<Person> editedPersons = new ArrayList<>(targets.size());
+        for (Person target : targets) {
+            PersistentMap<String, String> mergedFields = target.getCustomFields();
+            for (String removal : removals) {
+                if (mergedFields.containsKey(removal)) {
+                    mergedFields = mergedFields.minus(removal);
+                    successfulRemovals.add(removal);
+                }
+            }
+            for (Map.Entry<String, String> update : updates.entrySet()) {
+                mergedFields = mergedFields.plus(update.getKey(), update.getValue());
             }
+
+            editedPersons.add(new PersonBuilder(target)
+                    .withCustomFields(mergedFields)
+                    .build());
         }
-        return successfulRemovals;
-    }
+        model.setPersons(targets, editedPersons);
 
-    private void applyChanges(Map<String, String> fields) {
-        fields.putAll(updates);
+        String feedback = buildFeedbackMessage(targets.size() == 1 ? editedPersons.get(0).getName().fullName
+                : targets.size() + " persons", List.copyOf(successfulRemovals));
+        return new CommandResult(feedback);
     }
 
-    private String buildFeedbackMessage(Person edited, List<String> successfulRemovals) {
+    private String buildFeedbackMessage(String editedDescription, List<String> successfulRemovals) {
         StringBuilder sb = new StringBuilder();
 
         if (!updates.isEmpty()) {
@@ -112,14 +117,14 @@ public class FieldCommand extends Command {
             sb.append("No field changes applied");
         }
 
-        sb.append(" for ").append(edited.getName().fullName);
+        sb.append(" for ").append(editedDescription);
         return sb.toString();
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indices", indices)
                 .add("updates", updates)
                 .add("removals", removals)
                 .toString();
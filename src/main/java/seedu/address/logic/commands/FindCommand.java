@@ -35,9 +35,17 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
+        FindEvent event = new FindEvent();
+        event.begin();
         model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        int matchCount = model.getFilteredPersonList().size();
+        event.commit(model.getAddressBook().getPersonList().size(), matchCount);
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, matchCount));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
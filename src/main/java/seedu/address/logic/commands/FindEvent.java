@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for filtering the person list by the keywords of a {@code find} command.
+ */
+@Name(FindEvent.NAME)
+@Label("Find")
+@Category({"AssetSphere", "Logic"})
+@Description("Testing the persons in the address book against the keywords of a find command")
+@StackTrace(false)
+class FindEvent extends Event {
+    static final String NAME = "seedu.address.Find";
+
+    @Label("Candidates")
+    @Description("Persons tested against the keywords")
+    private int candidateCount;
+
+    @Label("Matches")
+    @Description("Persons matching the keywords")
+    private int matchCount;
+
+    /**
+     * Ends this event and commits it as a search of {@code candidateCount} persons that matched {@code matchCount}
+     * of them, if it is being recorded.
+     */
+    void commit(int candidateCount, int matchCount) {
+        end();
+        if (shouldCommit()) {
+            this.candidateCount = candidateCount;
+            this.matchCount = matchCount;
+            commit();
+        }
+    }
+}
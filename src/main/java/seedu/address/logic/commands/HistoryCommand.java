@@ -10,7 +10,7 @@ import seedu.address.model.Model;
 import seedu.address.model.history.CommandHistory;
 
 /**
- * Displays the list of previously executed commands.
+ * Displays the newest of the previously executed commands, numbered from the oldest command in the history.
  */
 public class HistoryCommand extends Command {
     public static final String COMMAND_WORD = "history";
@@ -18,20 +18,37 @@ public class HistoryCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the list of commands previously entered.";
     public static final String MESSAGE_EMPTY_HISTORY = "Command history is empty.";
     public static final String MESSAGE_SUCCESS = "Command history:\n%s";
+    public static final String MESSAGE_OLDER_ENTRIES_HIDDEN = "Command history (%1$d older commands not shown):\n%2$s";
+
+    /** The most commands shown, since the history may hold far more than can usefully be displayed. */
+    public static final int MAX_ENTRIES_SHOWN = 100;
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         CommandHistory commandHistory = requireNonNull(model.getCommandHistory());
-        List<String> entries = commandHistory.getEntries();
+        List<String> entries;
+        int olderCount;
+        // Holding the lock keeps commands added meanwhile from shifting the entries against the count
+        synchronized (commandHistory) {
+            entries = commandHistory.getNewestEntries(MAX_ENTRIES_SHOWN);
+            olderCount = commandHistory.size() - entries.size();
+        }
         if (entries.isEmpty()) {
             return new CommandResult(MESSAGE_EMPTY_HISTORY);
         }
 
         String formatted = IntStream.range(0, entries.size())
-                .mapToObj(index -> String.format("%d. %s", index + 1, entries.get(index)))
+                .mapToObj(index -> String.format("%d. %s", olderCount + index + 1, entries.get(index)))
                 .collect(Collectors.joining(System.lineSeparator()));
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, formatted));
+        return new CommandResult(olderCount == 0
+                ? String.format(MESSAGE_SUCCESS, formatted)
+                : String.format(MESSAGE_OLDER_ENTRIES_HIDDEN, olderCount, formatted));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 }
@@ -0,0 +1,207 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.commands.extractors.Validation;
+import seedu.address.model.Model;
+import seedu.address.model.person.Info;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.builder.PersonBuilder;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.interchange.InterchangeFormat;
+import seedu.address.storage.interchange.PersonRecord;
+import seedu.address.storage.interchange.PersonRecordReader;
+
+/**
+ * Imports persons from a CSV or vCard file. Records are streamed from the file in chunks and each chunk is validated
+ * in parallel. Persons whose names already exist in the address book (or earlier in the file) are skipped, and
+ * invalid records are reported by line number. All valid persons are added in the command's single transaction, so
+ * the address book is saved once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports persons from a CSV or vCard file in the home folder.\n"
+            + "Format: import <file> [/format:<csv|vcard>]\n"
+            + "The format is inferred from the file extension (.csv, .vcf) unless specified.\n"
+            + "Example: " + COMMAND_WORD + " \"crm-export.csv\"";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s. Skipped %3$d duplicates. "
+            + "%4$d records had errors.";
+    public static final String MESSAGE_ERROR_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "...and %1$d more errors.";
+    public static final String MESSAGE_MISSING_FIELD = "Missing required field: %1$s";
+    public static final String MESSAGE_READ_FAILED = "Could not import from %1$s: %2$s";
+
+    /** Number of records read into memory and validated together. */
+    static final int CHUNK_SIZE = 4096;
+
+    /** Maximum number of record errors listed individually in the result. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final Pattern PHONE_SEPARATORS = Pattern.compile("[\\s()+.-]");
+
+    private final Path filePath;
+    private final InterchangeFormat format;
+
+    /**
+     * Creates an ImportCommand to import persons from {@code filePath} in the given {@code format}.
+     */
+    public ImportCommand(Path filePath, InterchangeFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ImportSummary summary = new ImportSummary();
+        try (PersonRecordReader reader = PersonRecordReader.open(filePath, format)) {
+            List<PersonRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (PersonRecord record = reader.read(); record != null; record = reader.read()) {
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, model, summary);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, model, summary);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, filePath, e.getMessage()), e);
+        }
+
+        return new CommandResult(summary.format(filePath));
+    }
+
+    /**
+     * Validates {@code chunk} in parallel, then adds the valid, non-duplicate persons to {@code model} in file order.
+     */
+    private static void importChunk(List<PersonRecord> chunk, Model model, ImportSummary summary) {
+        List<Outcome> outcomes = chunk.parallelStream().map(Outcome::of).toList();
+
+        for (int i = 0; i < outcomes.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome.error != null) {
+                summary.addError(chunk.get(i).getLineNumber(), outcome.error);
+                continue;
+            }
+
+            Person person = outcome.person;
+            if (model.hasPerson(person)) {
+                summary.duplicateCount++;
+                continue;
+            }
+            model.addPerson(person);
+            summary.importedCount++;
+        }
+    }
+
+    private static Person toPerson(PersonRecord record) throws ValidationException {
+        String phone = PHONE_SEPARATORS.matcher(requireField(record.getPhone(), "phone")).replaceAll("");
+        Set<Tag> tags = Validation.validateTags(record.getTags());
+
+        return new PersonBuilder()
+                .withName(Validation.validateName(requireField(record.getName(), "name")))
+                .withPhone(Validation.validatePhone(phone))
+                .withEmail(Validation.validateEmail(requireField(record.getEmail(), "email")))
+                .withAddress(Validation.validateAddress(requireField(record.getAddress(), "address")))
+                .withTags(tags)
+                .withCustomFields(record.getCustomFields())
+                .withInfo(new Info(record.getInfo() == null ? "" : record.getInfo()))
+                .build();
+    }
+
+    private static String requireField(String value, String fieldName) throws ValidationException {
+        if (value == null || value.isBlank()) {
+            throw new ValidationException(String.format(MESSAGE_MISSING_FIELD, fieldName));
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format == otherImportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+
+    /**
+     * The result of validating a single record: either a person or a message describing why the record is invalid.
+     */
+    private static class Outcome {
+        private final Person person;
+        private final String error;
+
+        private Outcome(Person person, String error) {
+            this.person = person;
+            this.error = error;
+        }
+
+        static Outcome of(PersonRecord record) {
+            try {
+                return new Outcome(toPerson(record), null);
+            } catch (ValidationException e) {
+                return new Outcome(null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Running totals of an import. Only the first {@link #MAX_REPORTED_ERRORS} errors are kept.
+     */
+    private static class ImportSummary {
+        private final List<String> reportedErrors = new ArrayList<>();
+        private int importedCount;
+        private int duplicateCount;
+        private int errorCount;
+
+        void addError(int lineNumber, String message) {
+            errorCount++;
+            if (reportedErrors.size() < MAX_REPORTED_ERRORS) {
+                reportedErrors.add(String.format(MESSAGE_ERROR_LINE, lineNumber, message));
+            }
+        }
+
+        String format(Path filePath) {
+            StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                    importedCount, filePath, duplicateCount, errorCount));
+            reportedErrors.forEach(error -> result.append('\n').append(error));
+            if (errorCount > reportedErrors.size()) {
+                result.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errorCount - reportedErrors.size()));
+            }
+            return result.toString();
+        }
+    }
+}
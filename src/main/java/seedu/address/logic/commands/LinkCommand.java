@@ -3,10 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -78,19 +76,12 @@ public class LinkCommand extends Command {
 
         Link newLink = new Link(linker, linkee, linkName);
 
-        // Get current links of linker and linkee
-        Set<Link> linkerLinks = new HashSet<>(linker.getLinks());
-        Set<Link> linkeeLinks = new HashSet<>(linkee.getLinks());
-
         // If the exact link already exists on linker, treat as no-op with a message
-        if (linkerLinks.contains(newLink)) {
+        if (linker.getLinks().contains(newLink)) {
             return new CommandResult(MESSAGE_DUPLICATE_LINK);
         }
 
         // Add the same Link instance to both persons
-        linkerLinks.add(newLink);
-        linkeeLinks.add(newLink);
-
         Person updatedLinker = createPersonWithAddedLink(linker, newLink);
         Person updatedLinkee = createPersonWithAddedLink(linkee, newLink);
 
@@ -109,11 +100,8 @@ public class LinkCommand extends Command {
         requireNonNull(original);
         requireNonNull(linkToAdd);
 
-        Set<Link> updatedLinks = new HashSet<>(original.getLinks());
-        updatedLinks.add(linkToAdd);
-
         return new PersonBuilder(original)
-                .withLinks(updatedLinks)
+                .withLinks(original.getLinks().plus(linkToAdd))
                 .build();
     }
 
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.sort.PersonSortOrder;
+
+/**
+ * Sorts the displayed person list by one or more keys. The order persists across later edits and filters until it is
+ * changed or cleared.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sorts the displayed persons by the given keys, in order of precedence.\n"
+            + "Format: sort [(+, -) <key>]*\n"
+            + "Keys: name, phone, tags (number of tags), or the name of any custom field.\n"
+            + "Prefix a key with - to sort in descending order. Omit all keys to restore the original order.\n"
+            + "Example: " + COMMAND_WORD + " -tags name";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+    public static final String MESSAGE_CLEARED = "Restored the original order of persons";
+
+    private final PersonSortOrder sortOrder;
+
+    /**
+     * Creates a SortCommand that orders the displayed persons by {@code sortOrder}.
+     */
+    public SortCommand(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateSortedPersonList(sortOrder);
+        if (sortOrder.isUnsorted()) {
+            return new CommandResult(MESSAGE_CLEARED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sortOrder.describe()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return sortOrder.equals(otherSortCommand.sortOrder);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortOrder", sortOrder)
+                .toString();
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.Model;
+
+/**
+ * Displays how long each stage of each command has taken, and optionally starts timing afresh.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+    public static final String OPTION_KEY_RESET = "reset";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Displays the p50, p90, p99 and max time taken by each "
+            + "stage of each command.\nOption: /" + OPTION_KEY_RESET + " to start timing afresh afterwards.";
+    public static final String MESSAGE_NO_STATS = "No commands have been timed yet.";
+    public static final String MESSAGE_SUCCESS = "Command latencies:\n%1$s\nSaves: %2$d, %3$d bytes written.";
+    public static final String MESSAGE_RESET = "\nStats have been reset.";
+
+    private final CommandStats stats;
+    private final boolean reset;
+
+    /**
+     * Creates a {@code StatsCommand} that displays {@code stats}, and then resets them if {@code reset} is true.
+     */
+    public StatsCommand(CommandStats stats, boolean reset) {
+        requireNonNull(stats);
+        this.stats = stats;
+        this.reset = reset;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        List<String> lines = stats.getSummaryLines();
+        String feedback = lines.isEmpty()
+                ? MESSAGE_NO_STATS
+                : String.format(MESSAGE_SUCCESS, String.join("\n", lines), stats.getSaveCount(),
+                        stats.getBytesWritten());
+        if (reset) {
+            stats.reset();
+            feedback += MESSAGE_RESET;
+        }
+        return new CommandResult(feedback);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        // Resetting changes no model state, but must not happen when the command is only previewed
+        return !reset;
+    }
+}
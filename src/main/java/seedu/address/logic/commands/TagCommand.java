@@ -3,12 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -24,18 +26,20 @@ public class TagCommand extends Command {
 
     public static final String COMMAND_WORD = "tag";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds tags to person identified "
-            + "by the index number used in the displayed person list. "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds tags to persons identified "
+            + "by the index numbers used in the displayed person list. "
             + "New tags will be added to/removed from existing tags.\n"
-            + "Format: tag <index> [(+|-)<tag>]+"
-            + "Parameters: <index> (must be a positive integer) "
+            + "Format: tag <indices> [(+|-)<tag>]+"
+            + "Parameters: <indices> (positive integers and ranges separated by commas, or all) "
             + "<tag> (must be a valid tag)\n"
             + "Example: " + COMMAND_WORD + " 1 +friend +colleague -enemy";
 
     public static final String MESSAGE_CHANGE_TAGS_SUCCESS = "Tags changed on person %1$s: added {%2$s}, "
             + "removed {%3$s}";
+    public static final String MESSAGE_CHANGE_TAGS_MULTIPLE_SUCCESS = "Tags changed on %1$d persons: added {%2$s}, "
+            + "removed {%3$s}";
 
-    private final Index index;
+    private final IndexSelection indices;
     private final Set<Tag> addTags;
     private final Set<Tag> subTags;
 
@@ -44,11 +48,20 @@ public class TagCommand extends Command {
      * @param addTags tags to add to the person
      */
     public TagCommand(Index index, Set<Tag> addTags, Set<Tag> subTags) {
-        requireNonNull(index);
+        this(IndexSelection.of(index), addTags, subTags);
+    }
+
+    /**
+     * @param indices of the persons in the filtered person list to add tags
+     * @param addTags tags to add to the persons
+     * @param subTags tags to remove from the persons
+     */
+    public TagCommand(IndexSelection indices, Set<Tag> addTags, Set<Tag> subTags) {
+        requireNonNull(indices);
         requireNonNull(addTags);
         requireNonNull(subTags);
 
-        this.index = index;
+        this.indices = indices;
         this.addTags = new HashSet<>(addTags);
         this.subTags = new HashSet<>(subTags);
     }
@@ -56,16 +69,14 @@ public class TagCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
+        List<Person> personsToEdit = indices.select(model.getFilteredPersonList())
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> editedPersons = new ArrayList<>(personsToEdit.size());
+        for (Person personToEdit : personsToEdit) {
+            editedPersons.add(createPersonWithModifiedTags(personToEdit, addTags, subTags));
         }
-
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = createPersonWithModifiedTags(personToEdit, addTags, subTags);
-
-        model.setPerson(personToEdit, editedPerson);
+        model.setPersons(personsToEdit, editedPersons);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         String addTagsString = addTags.stream()
@@ -77,8 +88,12 @@ public class TagCommand extends Command {
                 .reduce((t1, t2) -> t1 + ", " + t2)
                 .orElse("");
 
+        if (personsToEdit.size() > 1) {
+            return new CommandResult(String.format(MESSAGE_CHANGE_TAGS_MULTIPLE_SUCCESS,
+                    personsToEdit.size(), addTagsString, removeTagsString));
+        }
         return new CommandResult(String.format(MESSAGE_CHANGE_TAGS_SUCCESS,
-                Messages.format(editedPerson), addTagsString, removeTagsString));
+                Messages.format(editedPersons.get(0)), addTagsString, removeTagsString));
     }
 
     /**
@@ -87,11 +102,9 @@ public class TagCommand extends Command {
     private static Person createPersonWithModifiedTags(Person personToEdit, Set<Tag> tagsToAdd, Set<Tag> tagsToRemove) {
         assert personToEdit != null;
 
-        Set<Tag> updatedTags = new HashSet<>(personToEdit.getTags());
-        updatedTags.addAll(tagsToAdd);
-        updatedTags.removeAll(tagsToRemove);
-
-        return new PersonBuilder(personToEdit).withTags(updatedTags).build();
+        return new PersonBuilder(personToEdit)
+                .withTags(personToEdit.getTags().plusAll(tagsToAdd).minusAll(tagsToRemove))
+                .build();
     }
 
     @Override
@@ -104,20 +117,20 @@ public class TagCommand extends Command {
             return false;
         }
 
-        return index.equals(otherTagCommand.index)
+        return indices.equals(otherTagCommand.indices)
                 && addTags.equals(otherTagCommand.addTags)
                 && subTags.equals(otherTagCommand.subTags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(index, addTags);
+        return Objects.hash(indices, addTags);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("indices", indices)
                 .add("addTags", addTags)
                 .add("subTags", subTags)
                 .toString();
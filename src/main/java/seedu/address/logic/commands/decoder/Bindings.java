@@ -1,6 +1,8 @@
 package seedu.address.logic.commands.decoder;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.logic.commands.Command;
@@ -11,13 +13,17 @@ import seedu.address.logic.commands.extractors.CommandExtractor;
 import seedu.address.logic.commands.extractors.DeleteCommandExtractor;
 import seedu.address.logic.commands.extractors.EditCommandExtractor;
 import seedu.address.logic.commands.extractors.ExitCommandExtractor;
+import seedu.address.logic.commands.extractors.ExportCommandExtractor;
 import seedu.address.logic.commands.extractors.FieldCommandExtractor;
 import seedu.address.logic.commands.extractors.FindCommandExtractor;
 import seedu.address.logic.commands.extractors.HelpCommandExtractor;
 import seedu.address.logic.commands.extractors.HistoryCommandExtractor;
+import seedu.address.logic.commands.extractors.ImportCommandExtractor;
 import seedu.address.logic.commands.extractors.InfoCommandExtractor;
 import seedu.address.logic.commands.extractors.LinkCommandExtractor;
 import seedu.address.logic.commands.extractors.ListCommandExtractor;
+import seedu.address.logic.commands.extractors.SortCommandExtractor;
+import seedu.address.logic.commands.extractors.StatsCommandExtractor;
 import seedu.address.logic.commands.extractors.TagCommandExtractor;
 
 /**
@@ -31,16 +37,24 @@ public enum Bindings {
     LINK("link", LinkCommandExtractor::extract),
     HISTORY("history", HistoryCommandExtractor::extract),
     EXIT("exit", ExitCommandExtractor::extract),
+    EXPORT("export", ExportCommandExtractor::extract),
     FIELD("field", FieldCommandExtractor::extract),
     FIND("find", FindCommandExtractor::extract),
     HELP("help", HelpCommandExtractor::extract),
+    IMPORT("import", ImportCommandExtractor::extract),
     INFO("info", InfoCommandExtractor::extract),
     LIST("list", ListCommandExtractor::extract),
+    SORT("sort", SortCommandExtractor::extract),
+    STATS("stats", StatsCommandExtractor::extract),
     TAG("tag", TagCommandExtractor::extract);
 
     public static final String MESSAGE_NO_MATCHING_BINDING = "Unable to find a valid matching command.";
     public static final String MESSAGE_AMBIGUOUS_BINDING = "Resolved command is ambiguous.";
 
+    // Compiled once all the bindings are constructed
+    private static final ImperativeTrie<Bindings> IMPERATIVES =
+            ImperativeTrie.of(values(), binding -> binding.imperative);
+
     private final String imperative;
     private final CommandExtractor<?> extractor;
 
@@ -84,4 +98,58 @@ public enum Bindings {
 
         return extractors[0];
     }
+
+    /**
+     * Returns the single {@code CommandExtractor} corresponding to the command whose imperative begins with
+     * {@code imperativePrefix}, in time proportional to the length of the prefix.
+     *
+     * @param imperativePrefix Prefix of the imperative to resolve.
+     * @return {@code CommandExtractor} corresponding to the imperative that begins with the prefix.
+     * @throws ResolutionException no commands are resolved to or there are multiple resolved commands.
+     */
+    public static CommandExtractor<?> resolveExactBinding(String imperativePrefix) throws ResolutionException {
+        return resolveUniqueBinding(imperativePrefix).extractor;
+    }
+
+    /**
+     * Returns the full imperative of the command whose imperative begins with {@code imperativePrefix}.
+     *
+     * @param imperativePrefix Prefix of the imperative to resolve.
+     * @return The imperative that begins with the prefix.
+     * @throws ResolutionException no commands are resolved to or there are multiple resolved commands.
+     */
+    public static String resolveExactImperative(String imperativePrefix) throws ResolutionException {
+        return resolveUniqueBinding(imperativePrefix).imperative;
+    }
+
+    /**
+     * Completes {@code imperativePrefix} as far as the imperatives beginning with it agree. If only one imperative
+     * begins with it, the completion is that imperative followed by a space, ready for its arguments.
+     *
+     * @param imperativePrefix Prefix of the imperative to complete.
+     * @return An {@code Optional} containing the completion, or an empty {@code Optional} if no imperative begins with
+     *     the prefix.
+     */
+    public static Optional<String> completeImperative(String imperativePrefix) {
+        List<Bindings> bindings = IMPERATIVES.withPrefix(imperativePrefix);
+        if (bindings.size() == 1) {
+            return Optional.of(bindings.get(0).imperative + " ");
+        }
+
+        return IMPERATIVES.commonPrefix(imperativePrefix);
+    }
+
+    private static Bindings resolveUniqueBinding(String imperativePrefix) throws ResolutionException {
+        List<Bindings> bindings = IMPERATIVES.withPrefix(imperativePrefix);
+
+        if (bindings.isEmpty()) {
+            throw new ResolutionException(MESSAGE_NO_MATCHING_BINDING);
+        }
+
+        if (bindings.size() > 1) {
+            throw new ResolutionException(MESSAGE_AMBIGUOUS_BINDING);
+        }
+
+        return bindings.get(0);
+    }
 }
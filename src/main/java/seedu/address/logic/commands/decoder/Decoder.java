@@ -24,8 +24,7 @@ public class Decoder {
         String currentImperative = bareCommand.getImperative();
 
         // use unique prefix matching
-        CommandExtractor<?> extractor =
-                Bindings.resolveExactBinding(imperative -> imperative.startsWith(currentImperative));
+        CommandExtractor<?> extractor = Bindings.resolveExactBinding(currentImperative);
 
         return extractor.extract(bareCommand);
     }
@@ -0,0 +1,132 @@
+package seedu.address.logic.commands.decoder;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * A prefix trie over imperatives, compiled once, that finds every value whose imperative begins with a given prefix in
+ * time proportional to the length of the prefix.
+ * <p>
+ * Each node holds, precomputed, the values of all imperatives below it and the longest prefix they share, so looking up
+ * the values for a prefix allocates nothing.
+ *
+ * @param <V> the type of values keyed by imperative
+ */
+final class ImperativeTrie<V> {
+    private final Node<V> root;
+
+    private ImperativeTrie(Node<V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles a trie over {@code values}, each keyed by the imperative {@code imperativeOf} returns for it. Values
+     * sharing a prefix are returned in the order given.
+     */
+    static <V> ImperativeTrie<V> of(V[] values, Function<? super V, String> imperativeOf) {
+        requireNonNull(values);
+        requireNonNull(imperativeOf);
+
+        MutableNode<V> root = new MutableNode<>();
+        for (V value : values) {
+            String imperative = imperativeOf.apply(value);
+            MutableNode<V> node = root;
+            node.values.add(value);
+            for (int i = 0; i < imperative.length(); i++) {
+                node = node.children.computeIfAbsent(imperative.charAt(i), unused -> new MutableNode<>());
+                node.values.add(value);
+            }
+            node.imperative = imperative;
+        }
+        return new ImperativeTrie<>(root.compile(""));
+    }
+
+    /**
+     * Returns the values whose imperatives begin with {@code prefix}, which is empty on a miss and has more than one
+     * value if the prefix is ambiguous. The returned list is unmodifiable.
+     */
+    List<V> withPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        return node == null ? List.of() : node.values;
+    }
+
+    /**
+     * Returns the longest prefix shared by every imperative that begins with {@code prefix}, or an empty
+     * {@code Optional} if none does.
+     */
+    Optional<String> commonPrefix(String prefix) {
+        Node<V> node = find(prefix);
+        return node == null ? Optional.empty() : Optional.of(node.commonPrefix);
+    }
+
+    private Node<V> find(String prefix) {
+        requireNonNull(prefix);
+        Node<V> node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * A compiled node, whose children are held in order of their labels.
+     */
+    private static final class Node<V> {
+        private final char[] labels;
+        private final List<Node<V>> children;
+        private final List<V> values;
+        private final String commonPrefix;
+
+        Node(char[] labels, List<Node<V>> children, List<V> values, String commonPrefix) {
+            this.labels = labels;
+            this.children = children;
+            this.values = values;
+            this.commonPrefix = commonPrefix;
+        }
+
+        Node<V> child(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children.get(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A node of the trie while it is being built.
+     */
+    private static final class MutableNode<V> {
+        private final TreeMap<Character, MutableNode<V>> children = new TreeMap<>();
+        private final List<V> values = new ArrayList<>();
+        private String imperative;
+
+        /**
+         * Compiles this node, which is reached by {@code path}, and the nodes below it.
+         */
+        Node<V> compile(String path) {
+            char[] labels = new char[children.size()];
+            List<Node<V>> compiledChildren = new ArrayList<>(children.size());
+            int i = 0;
+            for (Map.Entry<Character, MutableNode<V>> child : children.entrySet()) {
+                labels[i++] = child.getKey();
+                compiledChildren.add(child.getValue().compile(path + child.getKey()));
+            }
+
+            // The shared prefix extends past this node only along a single branch that no imperative ends before
+            String commonPrefix = path;
+            if (imperative == null && compiledChildren.size() == 1) {
+                commonPrefix = compiledChildren.get(0).commonPrefix;
+            }
+
+            return new Node<>(labels, List.copyOf(compiledChildren), List.copyOf(values), commonPrefix);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package seedu.address.logic.commands.extractors;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
@@ -21,13 +21,13 @@ public final class DeleteCommandExtractor {
      */
     public static DeleteCommand extract(BareCommand bareCommand) throws ValidationException {
 
-        Index index;
+        IndexSelection indices;
         try {
-            index = Validation.validateIndex(bareCommand, 0);
+            indices = Validation.validateIndexSelection(bareCommand, 0);
         } catch (ValidationException e) {
-            throw new ValidationException(e.getMessage() + "\n" + "Expected an index (must be a positive integer).");
+            throw new ValidationException(e.getMessage() + "\n" + Validation.MESSAGE_REMIND_INDEX_SELECTION);
         }
 
-        return new DeleteCommand(index);
+        return new DeleteCommand(indices);
     }
 }
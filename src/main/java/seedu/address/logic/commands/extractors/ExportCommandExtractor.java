@@ -0,0 +1,46 @@
+package seedu.address.logic.commands.extractors;
+
+import static seedu.address.logic.grammars.command.BareCommand.Parameter.ParameterKind;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.storage.interchange.InterchangeFormat;
+
+/**
+ * Extractor that builds {@code ExportCommand}s.
+ */
+public final class ExportCommandExtractor {
+    private static final List<InterchangeFormat> SUPPORTED_FORMATS =
+            List.of(InterchangeFormat.CSV, InterchangeFormat.VCARD, InterchangeFormat.JSONL);
+    private static final String FORMAT_OPTION = "format";
+
+    private ExportCommandExtractor() {
+    }
+
+    /**
+     * Extracts command parameters from the given Command object. Performs input validation as well.
+     *
+     * @param bareCommand Command to extract parameters from.
+     * @return ExportCommand that can be executed.
+     * @throws ValidationException When the command parameters fail to validate.
+     */
+    public static ExportCommand extract(BareCommand bareCommand) throws ValidationException {
+        String fileName = Validation.validateParameter(bareCommand, 0, ParameterKind.NORMAL).getValue();
+        Path filePath = ImportCommandExtractor.validatePath(fileName);
+        InterchangeFormat format = ImportCommandExtractor.validateFormat(bareCommand, fileName, SUPPORTED_FORMATS);
+
+        boolean hasFilter = bareCommand.parameterCount() > 1
+                || bareCommand.getAllOptions().keySet().stream().anyMatch(key -> !key.equals(FORMAT_OPTION));
+        Optional<FieldContainsKeywordsPredicate> predicate = hasFilter
+                ? Optional.of(FindCommandExtractor.extractPredicate(bareCommand, 1, Set.of(FORMAT_OPTION)))
+                : Optional.empty();
+        return new ExportCommand(filePath, format, predicate);
+    }
+}
@@ -8,10 +8,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.FieldCommand;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.model.person.Person;
 
 /**
  * Extractor that builds {@code FieldCommand}s from {@link BareCommand}s.
@@ -19,8 +20,6 @@ import seedu.address.logic.grammars.command.BareCommand;
 public final class FieldCommandExtractor {
     public static final String MESSAGE_INDEX_UNSPECIFIED = "Index not specified.";
     public static final String MESSAGE_WRONG_IMPERATIVE = "Wrong imperative for FieldCommand";
-    private static final List<String> DISALLOWED_CUSTOM_FIELD_NAMES = List.of("name", "email", "phone",
-                                    "address", "tag", "field", "to", "from");
 
     private FieldCommandExtractor() {}
 
@@ -31,7 +30,7 @@ public final class FieldCommandExtractor {
      * @return a {@link FieldCommand} that can be executed.
      */
     public static FieldCommand extract(BareCommand bareCommand) throws ValidationException {
-        Index index = Validation.validateIndex(bareCommand, 0);
+        IndexSelection indices = Validation.validateIndexSelection(bareCommand, 0);
 
         List<String> optionKeys = bareCommand.getVariableOptionKeys();
         if (optionKeys.isEmpty()) {
@@ -67,7 +66,7 @@ public final class FieldCommandExtractor {
 
             removals.add(key);
         }
-        return new FieldCommand(index, updates, removals);
+        return new FieldCommand(indices, updates, removals);
     }
 
     private static String validateCustomFieldName(String rawKey, String emptyMessage,
@@ -81,7 +80,7 @@ public final class FieldCommandExtractor {
             throw new ValidationException(emptyMessage);
         }
 
-        if (DISALLOWED_CUSTOM_FIELD_NAMES.contains(trimmed.toLowerCase())) {
+        if (Person.RESERVED_CUSTOM_FIELD_NAMES.contains(trimmed.toLowerCase())) {
             throw new ValidationException(String.format(disallowedMessageFormat, trimmed));
         }
 
@@ -31,9 +31,20 @@ public final class FindCommandExtractor {
      * @throws ValidationException When the command parameters fail to validate.
      */
     public static FindCommand extract(BareCommand bareCommand) throws ValidationException {
+        return new FindCommand(extractPredicate(bareCommand, 0, Set.of()));
+    }
+
+    /**
+     * Builds the predicate described by the keywords from parameter {@code startPosition} onwards and the field
+     * options of {@code bareCommand}, disregarding the options named in {@code otherOptions}.
+     *
+     * @throws ValidationException When the keywords or options fail to validate.
+     */
+    static FieldContainsKeywordsPredicate extractPredicate(BareCommand bareCommand, int startPosition,
+            Set<String> otherOptions) throws ValidationException {
         // extract keywords and validate at least one provided
         List<String> keywords = Validation.validateVariableParametersWithMinimumMultiplicity(
-                        bareCommand, 0, 1, ParameterKind.NORMAL)
+                        bareCommand, startPosition, 1, ParameterKind.NORMAL)
                 .stream().map(BareCommand.Parameter::getValue).toList();
 
         assert !keywords.isEmpty();
@@ -64,16 +75,15 @@ public final class FindCommandExtractor {
         Map<String, List<String>> map = bareCommand.getAllOptions();
         Set<String> customKeys = map.keySet().stream()
                 .map(k -> k != null ? k.trim() : "")
-                .filter(k -> !keysToRemove.contains(k))
+                .filter(k -> !keysToRemove.contains(k) && !otherOptions.contains(k))
                 .collect(Collectors.toSet());
 
         // check if user specified any options
         boolean anyFlag = optName || optPhone || optEmail || optAddress || optTag || optLinker || optLinkee;
 
-        FieldContainsKeywordsPredicate predicate;
         if (anyFlag || !customKeys.isEmpty()) {
             // Only the specified fields
-            predicate = new FieldContainsKeywordsPredicate(
+            return new FieldContainsKeywordsPredicate(
                     keywords,
                     optName,
                     optPhone,
@@ -86,9 +96,7 @@ public final class FindCommandExtractor {
             );
         } else {
             // No options provided, default to search all non-custom fields
-            predicate = new FieldContainsKeywordsPredicate(keywords);
+            return new FieldContainsKeywordsPredicate(keywords);
         }
-
-        return new FindCommand(predicate);
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.logic.commands.extractors;
+
+import static seedu.address.logic.grammars.command.BareCommand.Parameter.ParameterKind;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.storage.interchange.InterchangeFormat;
+
+/**
+ * Extractor that builds {@code ImportCommand}s.
+ */
+public final class ImportCommandExtractor {
+    public static final String MESSAGE_INVALID_PATH = "Invalid file path: %1$s";
+    public static final String MESSAGE_UNKNOWN_FORMAT = "Unknown format: %1$s. Expected one of: %2$s.";
+    public static final String MESSAGE_FORMAT_UNSPECIFIED = "Could not infer the format of %1$s from its extension. "
+            + "Specify one with /format:<%2$s>.";
+
+    private static final List<InterchangeFormat> SUPPORTED_FORMATS =
+            List.of(InterchangeFormat.CSV, InterchangeFormat.VCARD);
+
+    private ImportCommandExtractor() {
+    }
+
+    /**
+     * Extracts command parameters from the given Command object. Performs input validation as well.
+     *
+     * @param bareCommand Command to extract parameters from.
+     * @return ImportCommand that can be executed.
+     * @throws ValidationException When the command parameters fail to validate.
+     */
+    public static ImportCommand extract(BareCommand bareCommand) throws ValidationException {
+        String fileName = Validation.validateParameter(bareCommand, 0, ParameterKind.NORMAL).getValue();
+        Path filePath = validatePath(fileName);
+        InterchangeFormat format = validateFormat(bareCommand, fileName, SUPPORTED_FORMATS);
+        return new ImportCommand(filePath, format);
+    }
+
+    /**
+     * Validates {@code fileName} into a {@code Path}.
+     *
+     * @throws ValidationException if {@code fileName} is blank or not a valid path.
+     */
+    static Path validatePath(String fileName) throws ValidationException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new ValidationException(String.format(MESSAGE_INVALID_PATH, fileName));
+        }
+        try {
+            return Paths.get(fileName.trim());
+        } catch (InvalidPathException e) {
+            throw new ValidationException(String.format(MESSAGE_INVALID_PATH, fileName));
+        }
+    }
+
+    /**
+     * Returns the format given by the {@code /format} option of {@code bareCommand}, or else the format inferred from
+     * the extension of {@code fileName}.
+     *
+     * @param supportedFormats Formats the command can handle.
+     * @throws ValidationException if the format is unknown, unsupported or cannot be inferred.
+     */
+    static InterchangeFormat validateFormat(BareCommand bareCommand, String fileName,
+            List<InterchangeFormat> supportedFormats) throws ValidationException {
+        Optional<String> formatName = bareCommand.getOptionValue("format");
+        if (formatName.isPresent()) {
+            return InterchangeFormat.fromName(formatName.get()).filter(supportedFormats::contains).orElseThrow(() ->
+                    new ValidationException(String.format(MESSAGE_UNKNOWN_FORMAT, formatName.get(),
+                            describe(supportedFormats, ", "))));
+        }
+        return InterchangeFormat.fromFileName(fileName.trim()).filter(supportedFormats::contains).orElseThrow(() ->
+                new ValidationException(String.format(MESSAGE_FORMAT_UNSPECIFIED, fileName,
+                        describe(supportedFormats, "|"))));
+    }
+
+    /**
+     * Returns the names of {@code formats} joined by {@code delimiter}.
+     */
+    static String describe(List<InterchangeFormat> formats, String delimiter) {
+        return formats.stream().map(InterchangeFormat::getName).collect(Collectors.joining(delimiter));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands.extractors;
+
+import static seedu.address.logic.grammars.command.BareCommand.Parameter.ParameterKind;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.model.person.sort.PersonSortOrder;
+import seedu.address.model.person.sort.SortCriterion;
+import seedu.address.model.person.sort.SortCriterion.Attribute;
+
+/**
+ * Extractor that builds {@code SortCommand}s.
+ */
+public final class SortCommandExtractor {
+    public static final String MESSAGE_BLANK_KEY = "Sort keys must not be blank.";
+    public static final String MESSAGE_DUPLICATE_KEY = "Sort key specified more than once: %1$s";
+
+    private SortCommandExtractor() {
+    }
+
+    /**
+     * Extracts sort keys from the given command. Each parameter is one key, in order of precedence; normal and
+     * additive parameters sort ascending, while subtractive parameters sort descending. Keys other than
+     * {@code name}, {@code phone} and {@code tags} are treated as custom field names.
+     *
+     * @param bareCommand Command to extract parameters from.
+     * @return SortCommand that can be executed.
+     * @throws ValidationException When a key is blank or repeated.
+     */
+    public static SortCommand extract(BareCommand bareCommand) throws ValidationException {
+        List<BareCommand.Parameter> parameters = Validation.validateVariableParameters(bareCommand, 0,
+                ParameterKind.NORMAL, ParameterKind.ADDITIVE, ParameterKind.SUBTRACTIVE);
+
+        List<SortCriterion> criteria = new ArrayList<>();
+        Set<String> seenKeys = new HashSet<>();
+        for (BareCommand.Parameter parameter : parameters) {
+            String key = parameter.getValue() == null ? "" : parameter.getValue().trim();
+            if (key.isEmpty()) {
+                throw new ValidationException(MESSAGE_BLANK_KEY);
+            }
+            if (!seenKeys.add(key)) {
+                throw new ValidationException(String.format(MESSAGE_DUPLICATE_KEY, key));
+            }
+
+            boolean isAscending = !parameter.isSubtractive();
+            criteria.add(toCriterion(key, isAscending));
+        }
+
+        return new SortCommand(new PersonSortOrder(criteria));
+    }
+
+    private static SortCriterion toCriterion(String key, boolean isAscending) {
+        switch (key) {
+        case "name":
+            return SortCriterion.of(Attribute.NAME, isAscending);
+        case "phone":
+            return SortCriterion.of(Attribute.PHONE, isAscending);
+        case "tags":
+            return SortCriterion.of(Attribute.TAG_COUNT, isAscending);
+        default:
+            return SortCriterion.ofField(key, isAscending);
+        }
+    }
+}
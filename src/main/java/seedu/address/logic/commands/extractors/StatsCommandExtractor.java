@@ -0,0 +1,25 @@
+package seedu.address.logic.commands.extractors;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.stats.CommandStats;
+
+/**
+ * Extractor that builds {@code StatsCommand}s.
+ */
+public final class StatsCommandExtractor {
+
+    private StatsCommandExtractor() {
+        // Utility class
+    }
+
+    /**
+     * Extracts a {@link StatsCommand} over the application's stats from the provided {@link BareCommand}.
+     */
+    public static StatsCommand extract(BareCommand bareCommand) {
+        requireNonNull(bareCommand);
+        return new StatsCommand(CommandStats.getInstance(), bareCommand.hasOption(StatsCommand.OPTION_KEY_RESET));
+    }
+}
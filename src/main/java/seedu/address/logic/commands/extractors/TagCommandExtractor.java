@@ -7,7 +7,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
@@ -31,8 +31,8 @@ public final class TagCommandExtractor {
      * @throws ValidationException When the command parameters fail to validate.
      */
     public static TagCommand extract(BareCommand bareCommand) throws ValidationException {
-        // extract index
-        Index index = Validation.validateIndex(bareCommand, 0);
+        // extract indices
+        IndexSelection indices = Validation.validateIndexSelection(bareCommand, 0);
 
         // extract tags
         Set<Tag> addTags = new HashSet<>();
@@ -52,6 +52,6 @@ public final class TagCommandExtractor {
             throw new ValidationException(e.getMessage() + "\n" + MESSAGE_TAGS_UNSPECIFIED);
         }
 
-        return new TagCommand(index, addTags, subTags);
+        return new TagCommand(indices, addTags, subTags);
     }
 }
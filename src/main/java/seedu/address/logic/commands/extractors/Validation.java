@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
 import seedu.address.model.person.Address;
@@ -37,6 +38,7 @@ import seedu.address.model.tag.Tag;
  * command extractor instead.
  */
 public class Validation {
+    public static final String KEYWORD_ALL_INDICES = "all";
     public static final String MESSAGE_INSUFFICIENT_PARAMETERS_SINGLE =
             "Insufficient number of parameters supplied: expected parameter at index %1$s, got nothing.";
     public static final String MESSAGE_INSUFFICIENT_PARAMETERS_VARIABLE =
@@ -46,6 +48,9 @@ public class Validation {
             "Unexpected parameter kind at index %1$s: expected one of %2$s, got %3$s.";
     public static final String MESSAGE_INDEX_FAILED_TO_PARSE = "Invalid index: expected positive integer, got %1$s";
     public static final String MESSAGE_INDEX_OUT_OF_RANGE = "Invalid index: expected positive integer, got %1$s";
+    public static final String MESSAGE_INDEX_RANGE_REVERSED = "Invalid index range: %1$s ends before it starts";
+    public static final String MESSAGE_REMIND_INDEX_SELECTION = "Indices may be listed and ranged, e.g. 1,4,10-25, "
+            + "or given as " + KEYWORD_ALL_INDICES + " for every displayed person.";
     public static final String MESSAGE_REMIND_NORMAL_PARAMETER = "Normal parameters must not start with any of the "
             + "reserved prefixes (+, -).";
     public static final String MESSAGE_REMIND_ADDITIVE_PARAMETER = "Additive parameters must start with the reserved "
@@ -193,6 +198,49 @@ public class Validation {
                 Validation.validateParameter(bareCommand, position, ParameterKind.NORMAL).getValue());
     }
 
+    /**
+     * Validates an {@code IndexSelection} input field type for commands. The input is either
+     * {@value #KEYWORD_ALL_INDICES}, or a comma-separated list of indices and inclusive ranges of indices, e.g.
+     * {@code 1,4,10-250}.
+     *
+     * @param input String to validate.
+     * @return {@code IndexSelection} after validation.
+     * @throws ValidationException When the input fails to validate.
+     */
+    public static IndexSelection validateIndexSelection(String input) throws ValidationException {
+        requireNonNull(input);
+        if (input.equalsIgnoreCase(KEYWORD_ALL_INDICES)) {
+            return IndexSelection.all();
+        }
+
+        List<IndexSelection.Range> ranges = new ArrayList<>();
+        for (String item : input.split(",", -1)) {
+            int dash = item.indexOf('-');
+            Index first = validateIndex(dash < 0 ? item : item.substring(0, dash));
+            Index last = dash < 0 ? first : validateIndex(item.substring(dash + 1));
+            if (last.getZeroBased() < first.getZeroBased()) {
+                throw new ValidationException(String.format(MESSAGE_INDEX_RANGE_REVERSED, item));
+            }
+            ranges.add(new IndexSelection.Range(first, last));
+        }
+        return IndexSelection.ofRanges(ranges);
+    }
+
+    /**
+     * Validates an {@code IndexSelection} input field type for commands.
+     *
+     * @param bareCommand BareCommand to extract parameter from.
+     * @param position    Position from which to retrieve the index selection.
+     * @return {@code IndexSelection} after validation.
+     * @throws ValidationException When the input fails to validate.
+     * @see #validateIndexSelection(String)
+     */
+    public static IndexSelection validateIndexSelection(BareCommand bareCommand, int position)
+            throws ValidationException {
+        requireNonNull(bareCommand);
+        return Validation.validateIndexSelection(
+                Validation.validateParameter(bareCommand, position, ParameterKind.NORMAL).getValue());
+    }
 
     /**
      * Parses a {@code String name} into a {@code Name}. Leading and trailing whitespaces will be trimmed.
@@ -229,7 +277,6 @@ public class Validation {
      */
     public static Address validateAddress(String address) throws ValidationException {
         requireNonNull(address);
-        System.out.println(address);
         String trimmedAddress = address.trim();
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ValidationException(Address.MESSAGE_CONSTRAINTS);
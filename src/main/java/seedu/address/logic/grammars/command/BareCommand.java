@@ -14,12 +14,16 @@ import seedu.address.logic.grammars.command.lexer.CommandLexer;
 import seedu.address.logic.grammars.command.lexer.LexerException;
 import seedu.address.logic.grammars.command.lexer.TokenisedCommand;
 import seedu.address.logic.grammars.command.parser.CommandParser;
+import seedu.address.logic.grammars.command.parser.FastCommandParser;
 import seedu.address.logic.grammars.command.parser.ParserException;
 import seedu.address.logic.grammars.command.parser.ast.AstNode;
 import seedu.address.logic.grammars.command.parser.ast.visitors.CommandExtractor;
 
 /**
  * Command class that stores the various command tokens in an easily-queryable manner. Immutable class.
+ * <p>
+ * Commands are parsed in a single pass by {@link FastCommandParser}; the AST-building {@link CommandParser} is only
+ * run on malformed input, to produce a detailed error.
  */
 public class BareCommand {
     private final String imperative;
@@ -197,10 +201,50 @@ public class BareCommand {
      */
     public static BareCommand parse(String commandString) throws LexerException, ParserException {
         TokenisedCommand tokenisedCommand = CommandLexer.lexCommand(commandString);
+        Optional<BareCommand> command = FastCommandParser.tryParseCommand(tokenisedCommand);
+        if (command.isPresent()) {
+            return command.get();
+        }
+
+        // Only the full parser can explain why the command is malformed
         AstNode.Command rootCommandNode = CommandParser.parseCommand(tokenisedCommand);
         return new CommandExtractor().extract(rootCommandNode);
     }
 
+    /**
+     * Parses an input string of one or more commands separated by semicolons into Commands.
+     *
+     * @param commandString Input command string.
+     * @return Commands, in input order.
+     * @throws LexerException  If command string fails to lex.
+     * @throws ParserException If any command in the command string fails to parse.
+     */
+    public static List<BareCommand> parseSequence(String commandString) throws LexerException, ParserException {
+        return parseSequence(CommandLexer.lexCommand(commandString));
+    }
+
+    /**
+     * Parses an already lexed string of one or more commands separated by semicolons into Commands.
+     *
+     * @param tokenisedCommand Tokens of the input command string.
+     * @return Commands, in input order.
+     * @throws ParserException If any command in the command string fails to parse.
+     */
+    public static List<BareCommand> parseSequence(TokenisedCommand tokenisedCommand) throws ParserException {
+        Optional<List<BareCommand>> commandSequence = FastCommandParser.tryParseCommandSequence(tokenisedCommand);
+        if (commandSequence.isPresent()) {
+            return commandSequence.get();
+        }
+
+        // Only the full parser can explain why the command sequence is malformed
+        List<AstNode.Command> rootCommandNodes = CommandParser.parseCommandSequence(tokenisedCommand);
+        List<BareCommand> commands = new ArrayList<>(rootCommandNodes.size());
+        for (AstNode.Command rootCommandNode : rootCommandNodes) {
+            commands.add(new CommandExtractor().extract(rootCommandNode));
+        }
+        return commands;
+    }
+
     public String getImperative() {
         return this.imperative;
     }
@@ -11,19 +11,60 @@ import seedu.address.logic.grammars.command.utils.Location;
  *
  * <pre>
  * {@code
- * <word> ::= [A-z0-9]+
+ * <word> ::= [A-z0-9]+ | <index-list>
+ * <index-list> ::= [0-9]+ ([,-][0-9]+)*
  * <text> ::= "[^"\/:]*"
  * <slash> ::= /
  * <colon> ::= :
  * <plus> ::= +
  * <minus> ::= -
+ * <semicolon> ::= ;
  * <terminal> ::= $
  * }
  * </pre>
+ * <p>
+ * Characters are classified through a lookup table rather than by comparison, and tokens hold only their offsets
+ * into the ingest, so lexing allocates one small object per token and no strings. Literals are materialised only
+ * when asked for; see {@link Token#getLiteral()}.
  */
 public class CommandLexer {
     private static final Logger logger = LogsCenter.getLogger(CommandLexer.class);
 
+    // Character classes, as bit flags
+    private static final byte WORD_CHARACTER = 1;
+    private static final byte DIGIT = 1 << 1;
+    private static final byte INDEX_SEPARATOR = 1 << 2;
+    private static final byte RESTRICTED = 1 << 3;
+    private static final byte WHITESPACE = 1 << 4;
+
+    /** The classes of each ASCII character. Every other character belongs to no class. */
+    private static final byte[] CHARACTER_CLASSES = new byte[128];
+
+    /** The type of the token formed by each ASCII character on its own, if any. */
+    private static final TokenType[] SINGLE_CHARACTER_TOKENS = new TokenType[128];
+
+    static {
+        for (char c = 'A'; c <= 'Z'; c++) {
+            CHARACTER_CLASSES[c] |= WORD_CHARACTER;
+            CHARACTER_CLASSES[Character.toLowerCase(c)] |= WORD_CHARACTER;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            CHARACTER_CLASSES[c] |= WORD_CHARACTER | DIGIT;
+        }
+        CHARACTER_CLASSES[','] |= INDEX_SEPARATOR;
+        CHARACTER_CLASSES['-'] |= INDEX_SEPARATOR;
+        CHARACTER_CLASSES['/'] |= RESTRICTED;
+        CHARACTER_CLASSES[':'] |= RESTRICTED;
+        CHARACTER_CLASSES['"'] |= RESTRICTED;
+        CHARACTER_CLASSES[' '] |= WHITESPACE;
+
+        SINGLE_CHARACTER_TOKENS['/'] = TokenType.SLASH;
+        SINGLE_CHARACTER_TOKENS[':'] = TokenType.COLON;
+        SINGLE_CHARACTER_TOKENS['+'] = TokenType.PLUS;
+        SINGLE_CHARACTER_TOKENS['-'] = TokenType.MINUS;
+        SINGLE_CHARACTER_TOKENS[';'] = TokenType.SEMICOLON;
+    }
+
     private final String ingest;
     private final ArrayList<Token> tokens = new ArrayList<>();
 
@@ -48,12 +89,8 @@ public class CommandLexer {
         return lexer.toTokenisedCommand();
     }
 
-    private static boolean isCharacterOfWord(char c) {
-        return ('A' <= c && c <= 'Z') || ('a' <= c && c <= 'z') || ('0' <= c && c <= '9');
-    }
-
-    private static boolean isRestrictedCharacter(char c) {
-        return c == '/' || c == ':' || c == '\"';
+    private static boolean isOfClass(char c, byte characterClass) {
+        return c < CHARACTER_CLASSES.length && (CHARACTER_CLASSES[c] & characterClass) != 0;
     }
 
     /**
@@ -81,97 +118,20 @@ public class CommandLexer {
      */
     private void scanToken() throws LexerException {
         char c = this.advance();
-        switch (c) {
-        case '/':
-            this.addToken(TokenType.SLASH);
-            break;
-        case ':':
-            this.addToken(TokenType.COLON);
-            break;
-        case '+':
-            this.addToken(TokenType.PLUS);
-            break;
-        case '-':
-            this.addToken(TokenType.MINUS);
-            break;
-        case 'A':
-        case 'a':
-        case 'B':
-        case 'b':
-        case 'C':
-        case 'c':
-        case 'D':
-        case 'd':
-        case 'E':
-        case 'e':
-        case 'F':
-        case 'f':
-        case 'G':
-        case 'g':
-        case 'H':
-        case 'h':
-        case 'I':
-        case 'i':
-        case 'J':
-        case 'j':
-        case 'K':
-        case 'k':
-        case 'L':
-        case 'l':
-        case 'M':
-        case 'm':
-        case 'N':
-        case 'n':
-        case 'O':
-        case 'o':
-        case 'P':
-        case 'p':
-        case 'Q':
-        case 'q':
-        case 'R':
-        case 'r':
-        case 'S':
-        case 's':
-        case 'T':
-        case 't':
-        case 'U':
-        case 'u':
-        case 'V':
-        case 'v':
-        case 'W':
-        case 'w':
-        case 'X':
-        case 'x':
-        case 'Y':
-        case 'y':
-        case 'Z':
-        case 'z':
-        case '0':
-        case '1':
-        case '2':
-        case '3':
-        case '4':
-        case '5':
-        case '6':
-        case '7':
-        case '8':
-        case '9':
+        TokenType singleCharacterToken = c < SINGLE_CHARACTER_TOKENS.length ? SINGLE_CHARACTER_TOKENS[c] : null;
+        if (singleCharacterToken != null) {
+            this.addToken(singleCharacterToken);
+        } else if (isOfClass(c, WORD_CHARACTER)) {
             this.munchWord();
+            this.munchIndexList();
             this.addToken(TokenType.WORD);
-            break;
-        case '"':
+        } else if (c == '"') {
             this.munchText();
 
             // trim quotes
-            String literal = this.ingest.substring(start + 1, current - 1);
-            this.addToken(TokenType.TEXT, literal, start + 1, current - 1);
-            break;
-        case ' ':
-            // ignore whitespace
-            break;
-        default:
+            this.addToken(TokenType.TEXT, start + 1, current - 1);
+        } else if (!isOfClass(c, WHITESPACE)) {
             this.error(LexerErrorType.UNEXPECTED_CHARACTER);
-            break;
         }
     }
 
@@ -196,26 +156,46 @@ public class CommandLexer {
     }
 
     /**
-     * Constructs a token from the current substring being looked at, and inserts it into the token accumulator
-     * internally in sequence.
+     * Constructs a token spanning the current lexeme, and inserts it into the token accumulator internally in
+     * sequence.
      *
      * @param type The type of the token just scanned.
      */
     private void addToken(TokenType type) {
-        String literal = this.ingest.substring(start, current);
-        this.addToken(type, literal, start, current);
+        this.addToken(type, start, current);
     }
 
-    private void addToken(TokenType type, String literal, int start, int end) {
-        this.tokens.add(new Token(type, literal, new Location(start, end)));
+    private void addToken(TokenType type, int start, int end) {
+        this.tokens.add(new Token(type, this.ingest, start, end));
     }
 
     /**
      * Munches a word, collecting as many characters matching the word regex as possible.
      */
     private void munchWord() {
-        while (!this.isAtEnd() && isCharacterOfWord(this.peek())) {
+        while (!this.isAtEnd() && isOfClass(this.peek(), WORD_CHARACTER)) {
+            this.advance();
+        }
+    }
+
+    /**
+     * Munches the rest of an index list such as {@code 1,4,10-25} into the current word, if the word so far is a
+     * number. A separator is only munched when a digit immediately follows it, so {@code 1 -friend} still lexes as a
+     * word followed by a minus.
+     */
+    private void munchIndexList() {
+        for (int i = start; i < current; i++) {
+            if (!isOfClass(this.ingest.charAt(i), DIGIT)) {
+                return;
+            }
+        }
+
+        while (current + 1 < this.ingest.length() && isOfClass(this.peek(), INDEX_SEPARATOR)
+                && isOfClass(this.ingest.charAt(current + 1), DIGIT)) {
             this.advance();
+            while (!this.isAtEnd() && isOfClass(this.peek(), DIGIT)) {
+                this.advance();
+            }
         }
     }
 
@@ -223,7 +203,7 @@ public class CommandLexer {
      * Munches text, collecting as many characters matching the text regex as possible.
      */
     private void munchText() throws LexerException {
-        while (!this.isAtEnd() && !isRestrictedCharacter(this.peek())) {
+        while (!this.isAtEnd() && !isOfClass(this.peek(), RESTRICTED)) {
             this.advance();
         }
 
@@ -246,7 +226,8 @@ public class CommandLexer {
         LexerError lexerError = new LexerError(type, this.ingest, offendingLiteral, new Location(start, current));
         LexerException lexerException = new LexerException(lexerError);
 
-        logger.severe(lexerError.getLogString());
+        // Invalid input is the user's mistake rather than the app's, and may be lexed on every keystroke
+        logger.fine(lexerError::getLogString);
 
         throw lexerException;
     }
@@ -254,8 +235,8 @@ public class CommandLexer {
     private TokenisedCommand toTokenisedCommand() {
         TokenisedCommand tokenisedCommand = new TokenisedCommand(this.ingest, this.tokens);
 
-        logger.info("Lexer successfully lexed input command. Produced tokens:");
-        logger.info(tokenisedCommand.toString());
+        // Only formatted if finer logging is enabled, as every command is lexed
+        logger.finer(() -> "Lexer successfully lexed input command. Produced tokens:\n" + tokenisedCommand);
 
         return tokenisedCommand;
     }
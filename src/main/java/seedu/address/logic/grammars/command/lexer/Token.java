@@ -4,40 +4,56 @@ import seedu.address.logic.grammars.command.utils.Location;
 
 /**
  * Lexer tokens.
+ * <p>
+ * A token holds only its offsets into the ingest, and materialises its literal the first time it is asked for.
  */
 public class Token {
     private final TokenType type;
-    private final String literal;
-    private final Location location;
+    private final String ingest;
+    private final int start;
+    private final int end;
+    private String literal;
 
     /**
      * Constructs a new lexeme token.
      *
-     * @param type     Type of the identified lexeme.
-     * @param literal  String literal of the identified lexeme.
-     * @param location Location of the identified lexeme within the original ingest.
+     * @param type   Type of the identified lexeme.
+     * @param ingest The original ingest the lexeme was identified in.
+     * @param start  Index of the first character of the lexeme within the ingest.
+     * @param end    Index after the last character of the lexeme within the ingest.
      */
-    Token(TokenType type, String literal, Location location) {
+    Token(TokenType type, String ingest, int start, int end) {
         this.type = type;
-        this.literal = literal;
-        this.location = location;
+        this.ingest = ingest;
+        this.start = start;
+        this.end = end;
     }
 
     public TokenType getType() {
         return this.type;
     }
 
+    /**
+     * Returns the string literal of the identified lexeme.
+     */
     public String getLiteral() {
+        // Racing threads may each materialise the literal, but will agree on it
+        if (this.literal == null) {
+            this.literal = this.ingest.substring(this.start, this.end);
+        }
         return this.literal;
     }
 
+    /**
+     * Returns the location of the identified lexeme within the original ingest.
+     */
     public Location getLocation() {
-        return this.location;
+        return new Location(this.start, this.end);
     }
 
     @Override
     public String toString() {
         return String.format("[%02d:%02d] %s : %s",
-                this.location.start(), this.location.end(), this.type.getDescription(), this.literal);
+                this.start, this.end, this.type.getDescription(), this.getLiteral());
     }
 }
@@ -10,6 +10,7 @@ public enum TokenType {
     COLON("COLON"),
     PLUS("PLUS"),
     MINUS("MINUS"),
+    SEMICOLON("SEMICOLON"),
     TERMINAL("TERMINAL");
 
     private final String description;
@@ -1,6 +1,8 @@
 package seedu.address.logic.grammars.command.parser;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -15,7 +17,9 @@ import seedu.address.logic.grammars.command.parser.ast.visitors.AstPrinter;
  * the lexer (tokens from lexer are in CAPITAL):
  * <pre>
  * {@code
- * command                  → imperative parameter_list option_list TERMINAL
+ * command_sequence         → command ( SEMICOLON command )* TERMINAL
+ * single_command           → command TERMINAL
+ * command                  → imperative parameter_list option_list
  * imperative               → word
  * parameter_list           → ( parameter )+
  * parameter                → normal_parameter
@@ -60,18 +64,13 @@ public class CommandParser {
 
         AstNode.Command root;
         try {
-            root = parser.parseCommand();
+            root = parser.parseSingleCommand();
         } catch (ProductionApplicationException e) {
-            ParserError parserError = e.getParserError();
-            ParserException parserException = new ParserException(parserError);
-
-            logger.severe(parserError.getLogString());
-
-            throw parserException;
+            throw toParserException(e);
         }
 
-        logger.info("Parser successfully parsed tokenised command. Produced AST:");
-        logger.info(new AstPrinter().print(root));
+        logger.fine(() -> "Parser successfully parsed tokenised command. Produced AST:\n"
+                + new AstPrinter().print(root));
 
         return root;
     }
@@ -81,7 +80,6 @@ public class CommandParser {
             AstNode.Imperative imperative = this.parseImperative();
             AstNode.ParameterList parameterList = this.parseParameterList();
             AstNode.OptionList optionList = this.parseOptionList();
-            this.eat(TokenType.TERMINAL);
             return new AstNode.Command(imperative, parameterList, optionList);
         } catch (ProductionApplicationException e) {
             ParserError error = e.getParserError();
@@ -90,6 +88,68 @@ public class CommandParser {
         }
     }
 
+    /**
+     * Parses an input sequence of commands separated by semicolons.
+     *
+     * @param command Tokenised command sequence to be parsed.
+     * @return Command AST nodes (roots), in input order.
+     * @throws ParserException If any command in the sequence fails to be parsed.
+     */
+    public static List<AstNode.Command> parseCommandSequence(TokenisedCommand command) throws ParserException {
+        CommandParser parser = new CommandParser(command);
+
+        List<AstNode.Command> roots;
+        try {
+            roots = parser.parseSequence();
+        } catch (ProductionApplicationException e) {
+            throw toParserException(e);
+        }
+
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Parser successfully parsed tokenised command sequence. Produced ASTs:");
+            for (AstNode.Command root : roots) {
+                logger.fine(new AstPrinter().print(root));
+            }
+        }
+
+        return roots;
+    }
+
+    private static ParserException toParserException(ProductionApplicationException e) {
+        ParserError parserError = e.getParserError();
+        logger.fine(parserError::getLogString);
+        return new ParserException(parserError);
+    }
+
+    private List<AstNode.Command> parseSequence() throws ProductionApplicationException {
+        try {
+            List<AstNode.Command> commands = new ArrayList<>();
+            commands.add(this.parseCommand());
+            while (this.check(TokenType.SEMICOLON)) {
+                this.advance();
+                commands.add(this.parseCommand());
+            }
+            this.eat(TokenType.TERMINAL);
+            return commands;
+        } catch (ProductionApplicationException e) {
+            ParserError error = e.getParserError();
+            error.addProductionNonterminal("command-sequence");
+            throw e;
+        }
+    }
+
+    private AstNode.Command parseSingleCommand() throws ProductionApplicationException {
+        try {
+            AstNode.Command command = this.parseCommand();
+            this.eat(TokenType.TERMINAL);
+            return command;
+        } catch (ProductionApplicationException e) {
+            ParserError error = e.getParserError();
+            error.addProductionNonterminal("single-command");
+            throw e;
+        }
+    }
+
     private AstNode.Imperative parseImperative() throws ProductionApplicationException {
         try {
             AstNode.Word word = this.parseWord();
@@ -106,8 +166,8 @@ public class CommandParser {
         try {
             ArrayList<AstNode.Parameter> parameters = new ArrayList<>();
 
-            // FOLLOW(parameter_list) = { SLASH, TERMINAL }
-            while (!this.check(TokenType.SLASH, TokenType.TERMINAL)) {
+            // FOLLOW(parameter_list) = { SLASH, SEMICOLON, TERMINAL }
+            while (!this.check(TokenType.SLASH, TokenType.SEMICOLON, TokenType.TERMINAL)) {
                 AstNode.Parameter parameter = this.parseParameter();
                 parameters.add(parameter);
             }
@@ -184,9 +244,9 @@ public class CommandParser {
         try {
             ArrayList<AstNode.Option> options = new ArrayList<>();
 
-            // FOLLOW(option_list) = { TERMINAL }
+            // FOLLOW(option_list) = { SEMICOLON, TERMINAL }
             // FIRST(option) = { SLASH }
-            while (!this.check(TokenType.TERMINAL)) {
+            while (!this.check(TokenType.SEMICOLON, TokenType.TERMINAL)) {
                 this.eat(TokenType.SLASH);
                 AstNode.Option option = this.parseOption();
                 options.add(option);
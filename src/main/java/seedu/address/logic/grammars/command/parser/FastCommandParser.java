@@ -0,0 +1,160 @@
+package seedu.address.logic.grammars.command.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.BareCommand.Parameter.ParameterKind;
+import seedu.address.logic.grammars.command.lexer.TokenType;
+import seedu.address.logic.grammars.command.lexer.TokenisedCommand;
+
+/**
+ * Single-pass parser for commands, recognising the same grammar as {@link CommandParser}. Instead of building an AST
+ * for {@link seedu.address.logic.grammars.command.parser.ast.visitors.CommandExtractor} to walk, it fills in a
+ * {@code BareCommand} directly from the token stream.
+ * <p>
+ * It does not explain failures: on a malformed command it simply gives up, and callers should parse the command again
+ * with {@code CommandParser} for a {@link ParserError} describing the productions that were being applied.
+ */
+public class FastCommandParser {
+    private final TokenisedCommand tokenisedCommand;
+    private int currentTokenIndex = 0;
+
+    private FastCommandParser(TokenisedCommand tokenisedCommand) {
+        this.tokenisedCommand = tokenisedCommand;
+    }
+
+    /**
+     * Parses an input command.
+     *
+     * @param command Tokenised command to be parsed.
+     * @return An {@code Optional} containing the parsed command, or an empty {@code Optional} if it is malformed.
+     */
+    public static Optional<BareCommand> tryParseCommand(TokenisedCommand command) {
+        FastCommandParser parser = new FastCommandParser(command);
+
+        BareCommand bareCommand = parser.parseCommand();
+        if (bareCommand == null || parser.peekType() != TokenType.TERMINAL) {
+            return Optional.empty();
+        }
+
+        return Optional.of(bareCommand);
+    }
+
+    /**
+     * Parses an input sequence of commands separated by semicolons.
+     *
+     * @param command Tokenised command sequence to be parsed.
+     * @return An {@code Optional} containing the parsed commands in input order, or an empty {@code Optional} if any
+     *     command in the sequence is malformed.
+     */
+    public static Optional<List<BareCommand>> tryParseCommandSequence(TokenisedCommand command) {
+        FastCommandParser parser = new FastCommandParser(command);
+
+        List<BareCommand> bareCommands = new ArrayList<>();
+        do {
+            BareCommand bareCommand = parser.parseCommand();
+            if (bareCommand == null) {
+                return Optional.empty();
+            }
+            bareCommands.add(bareCommand);
+        } while (parser.accept(TokenType.SEMICOLON));
+
+        if (parser.peekType() != TokenType.TERMINAL) {
+            return Optional.empty();
+        }
+
+        return Optional.of(bareCommands);
+    }
+
+    /**
+     * Parses a command up to, but excluding, the semicolon or terminal after it.
+     *
+     * @return Parsed command, or null if the command is malformed.
+     */
+    private BareCommand parseCommand() {
+        if (this.peekType() != TokenType.WORD) {
+            return null;
+        }
+        BareCommand.BareCommandBuilder builder = new BareCommand.BareCommandBuilder()
+                .setImperative(this.advanceLiteral());
+
+        // FOLLOW(parameter_list) = { SLASH, SEMICOLON, TERMINAL }
+        while (!this.isAtOption() && !this.isAtCommandEnd()) {
+            ParameterKind kind = ParameterKind.NORMAL;
+            if (this.accept(TokenType.PLUS)) {
+                kind = ParameterKind.ADDITIVE;
+            } else if (this.accept(TokenType.MINUS)) {
+                kind = ParameterKind.SUBTRACTIVE;
+            }
+
+            if (!this.isAtText()) {
+                return null;
+            }
+            builder.addParameter(kind, this.advanceLiteral());
+        }
+
+        // FOLLOW(option_list) = { SEMICOLON, TERMINAL }
+        while (!this.isAtCommandEnd()) {
+            if (!this.accept(TokenType.SLASH) || this.peekType() != TokenType.WORD) {
+                return null;
+            }
+            String optionName = this.advanceLiteral();
+
+            if (!this.accept(TokenType.COLON)) {
+                builder.setOption(optionName);
+            } else if (this.isAtText()) {
+                builder.setOption(optionName, this.advanceLiteral());
+            } else {
+                return null;
+            }
+        }
+
+        return builder.build();
+    }
+
+    private boolean isAtText() {
+        TokenType type = this.peekType();
+        return type == TokenType.TEXT || type == TokenType.WORD;
+    }
+
+    private boolean isAtOption() {
+        return this.peekType() == TokenType.SLASH;
+    }
+
+    private boolean isAtCommandEnd() {
+        TokenType type = this.peekType();
+        return type == TokenType.SEMICOLON || type == TokenType.TERMINAL;
+    }
+
+    /**
+     * Advances the parser past the current token if it is of the given type.
+     *
+     * @param type Token type to accept.
+     * @return True if the token was advanced past, else false.
+     */
+    private boolean accept(TokenType type) {
+        if (this.peekType() != type) {
+            return false;
+        }
+        this.currentTokenIndex += 1;
+        return true;
+    }
+
+    /**
+     * Advances the parser past the current token, which must not be the terminal, and returns its literal.
+     *
+     * @return Literal of the token advanced past.
+     */
+    private String advanceLiteral() {
+        assert this.peekType() != TokenType.TERMINAL;
+        String literal = this.tokenisedCommand.getAtIndex(this.currentTokenIndex).getLiteral();
+        this.currentTokenIndex += 1;
+        return literal;
+    }
+
+    private TokenType peekType() {
+        return this.tokenisedCommand.getAtIndex(this.currentTokenIndex).getType();
+    }
+}
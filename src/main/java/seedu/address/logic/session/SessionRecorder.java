@@ -7,6 +7,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
 // search keywords are intentionally not persisted; Find/List command imports removed
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.session.SessionData;
 
@@ -155,16 +156,16 @@ public class SessionRecorder {
      * without considering the save time.
      */
     private static final class SessionSignature {
-        private final AddressBook addressBookSnapshot;
+        private final AddressBookSnapshot addressBookSnapshot;
         private final GuiSettings guiSettingsSnapshot;
 
         private SessionSignature(ReadOnlyAddressBook addressBook, GuiSettings guiSettings) {
-            this.addressBookSnapshot = new AddressBook(addressBook);
+            this.addressBookSnapshot = AddressBookSnapshot.of(addressBook);
             this.guiSettingsSnapshot = guiSettings;
         }
 
         private boolean hasSameAddressBook(ReadOnlyAddressBook other) {
-            return addressBookSnapshot.equals(new AddressBook(other));
+            return addressBookSnapshot.equals(AddressBookSnapshot.of(other));
         }
 
         private boolean hasSameMetadata(GuiSettings guiSettings) {
@@ -0,0 +1,27 @@
+package seedu.address.logic.stats;
+
+/**
+ * The stages a command line passes through from being entered to being done, each timed separately by
+ * {@link CommandStats}.
+ */
+public enum CommandStage {
+    /** Splitting the command line into tokens. */
+    LEX,
+    /** Parsing the tokens into bare commands. */
+    PARSE,
+    /** Resolving and validating a bare command into a command. */
+    DECODE,
+    /** Executing a command against the model. */
+    EXECUTE,
+    /** Saving the address book after a command line changed it. */
+    SAVE,
+    /** Recording the command line for the session snapshot. */
+    SESSION;
+
+    /**
+     * Returns the name of this stage as shown to users.
+     */
+    public String getDisplayName() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.stats;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event for one {@link CommandStage} of one command.
+ */
+@Name(CommandStageEvent.NAME)
+@Label("Command Stage")
+@Category({"AssetSphere", "Logic"})
+@Description("One stage of a command, from lexing its command line to recording it for the session")
+@StackTrace(false)
+class CommandStageEvent extends Event {
+    static final String NAME = "seedu.address.CommandStage";
+
+    @Label("Imperative")
+    private String imperative;
+
+    @Label("Stage")
+    private String stage;
+
+    /**
+     * Commits this event as the {@code stage} stage of an {@code imperative} command, if it is being recorded.
+     */
+    void commit(String imperative, CommandStage stage) {
+        if (shouldCommit()) {
+            this.imperative = imperative;
+            this.stage = stage.getDisplayName();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.address.logic.stats;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records how long each stage of each command takes, in a {@link LatencyHistogram} for every imperative and
+ * {@link CommandStage}, along with how often and how much the address book is saved.
+ * <p>
+ * Recording is lock-free, so commands prepared on other threads may record their stages at any time. The application
+ * records into the instance returned by {@link #getInstance()}, which the {@code stats} command reads and which can be
+ * registered as an MBean with {@link #registerMBean()}.
+ */
+public class CommandStats implements CommandStatsMBean {
+    public static final String MBEAN_NAME = "seedu.address:type=CommandStats";
+
+    public static final String MESSAGE_SUMMARY_LINE =
+            "%1$s %2$s: %3$d timed, p50 %4$.3f ms, p90 %5$.3f ms, p99 %6$.3f ms, max %7$.3f ms";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandStats.class);
+    private static final CommandStats INSTANCE = new CommandStats();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+    private final LongAdder saveCount = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    /**
+     * Returns the stats that the application records into.
+     */
+    public static CommandStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that the {@code stage} stage of an {@code imperative} command took {@code nanos} nanoseconds.
+     */
+    public void record(String imperative, CommandStage stage, long nanos) {
+        requireNonNull(imperative);
+        requireNonNull(stage);
+        LatencyHistogram[] stages = histograms.get(imperative);
+        if (stages == null) {
+            stages = histograms.computeIfAbsent(imperative, unused -> createHistograms());
+        }
+        stages[stage.ordinal()].record(nanos);
+    }
+
+    /**
+     * Records that the address book was saved, writing {@code bytes} bytes.
+     */
+    public void recordSave(long bytes) {
+        saveCount.increment();
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Returns the latencies of the {@code stage} stages of {@code imperative} commands, if any command with that
+     * imperative was timed.
+     */
+    public Optional<LatencyHistogram.Snapshot> getSnapshot(String imperative, CommandStage stage) {
+        requireNonNull(stage);
+        return Optional.ofNullable(histograms.get(imperative)).map(stages -> stages[stage.ordinal()].snapshot());
+    }
+
+    /**
+     * Returns one line for each imperative and stage timed, ordered by imperative and then by stage.
+     */
+    public List<String> getSummaryLines() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram[]> entry : new TreeMap<>(histograms).entrySet()) {
+            for (CommandStage stage : CommandStage.values()) {
+                LatencyHistogram.Snapshot snapshot = entry.getValue()[stage.ordinal()].snapshot();
+                if (snapshot.getTotalCount() == 0) {
+                    continue;
+                }
+                lines.add(String.format(MESSAGE_SUMMARY_LINE, entry.getKey(), stage.getDisplayName(),
+                        snapshot.getTotalCount(), toMillis(snapshot.getValueAtPercentile(50)),
+                        toMillis(snapshot.getValueAtPercentile(90)), toMillis(snapshot.getValueAtPercentile(99)),
+                        toMillis(snapshot.getMax())));
+            }
+        }
+        return lines;
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount.sum();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    @Override
+    public String[] getLatencySummary() {
+        return getSummaryLines().toArray(String[]::new);
+    }
+
+    @Override
+    public long getLatencyPercentile(String imperative, String stage, double percentile) {
+        CommandStage commandStage = CommandStage.valueOf(stage.toUpperCase());
+        return getSnapshot(imperative, commandStage)
+                .map(snapshot -> snapshot.getValueAtPercentile(percentile))
+                .orElse(0L);
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram[] stages : histograms.values()) {
+            for (LatencyHistogram histogram : stages) {
+                histogram.reset();
+            }
+        }
+        saveCount.reset();
+        bytesWritten.reset();
+    }
+
+    /**
+     * Registers these stats with the platform MBean server as {@value #MBEAN_NAME}, unless stats are already
+     * registered under that name.
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(MBEAN_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            logger.fine(() -> "Command stats are already registered as " + MBEAN_NAME);
+        } catch (JMException e) {
+            logger.warning("Could not register command stats as an MBean: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] stages = new LatencyHistogram[CommandStage.values().length];
+        for (int i = 0; i < stages.length; i++) {
+            stages[i] = new LatencyHistogram();
+        }
+        return stages;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.stats;
+
+/**
+ * The management interface of {@link CommandStats}, through which JMX clients such as JConsole can read and reset the
+ * command latencies of a running application.
+ */
+public interface CommandStatsMBean {
+    /**
+     * Returns the number of times the address book was saved after a command.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns the number of bytes written by those saves.
+     */
+    long getBytesWritten();
+
+    /**
+     * Returns one line for each imperative and stage timed, with its count and its p50, p90, p99 and max latencies.
+     */
+    String[] getLatencySummary();
+
+    /**
+     * Returns the latency in nanoseconds that {@code percentile} percent of the {@code stage} stages of
+     * {@code imperative} commands took at most, or {@code 0} if none were timed.
+     *
+     * @throws IllegalArgumentException if {@code stage} is not a stage or {@code percentile} is not in (0, 100].
+     */
+    long getLatencyPercentile(String imperative, String stage, double percentile);
+
+    /**
+     * Discards every latency and counter recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.stats;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Times one stage of a command, so that it can be recorded into {@link CommandStats} and, while Java Flight Recorder
+ * is recording, as a {@code seedu.address.CommandStage} event.
+ * <p>
+ * The imperative a stage belongs to may not be known until after the stage is done, so stopping the timer and
+ * recording the time are separate steps.
+ */
+public final class StageTimer {
+    private final CommandStageEvent event = new CommandStageEvent();
+    private final long start;
+    private long end;
+    private boolean isStopped;
+
+    private StageTimer() {
+        event.begin();
+        start = System.nanoTime();
+    }
+
+    /**
+     * Returns a timer started now.
+     */
+    public static StageTimer start() {
+        return new StageTimer();
+    }
+
+    /**
+     * Stops this timer, if it has not been stopped yet.
+     *
+     * @return This timer.
+     */
+    public StageTimer stop() {
+        if (!isStopped) {
+            end = System.nanoTime();
+            event.end();
+            isStopped = true;
+        }
+        return this;
+    }
+
+    /**
+     * Stops this timer, if it has not been stopped yet, and records the time as the {@code stage} stage of an
+     * {@code imperative} command.
+     */
+    public void record(CommandStats stats, String imperative, CommandStage stage) {
+        requireNonNull(stats);
+        stop();
+        stats.record(imperative, stage, end - start);
+        event.commit(imperative, stage);
+    }
+}
@@ -48,6 +48,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, in order.
+     * Each target must exist in the address book when it is replaced, and no edited person may share the identity of
+     * another person in the address book.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        persons.setPersons(targets, editedPersons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -94,6 +105,46 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// transactions
+
+    /**
+     * Opens a transaction on the person list, which can later be rolled back.
+     */
+    public void beginTransaction() {
+        persons.beginTransaction();
+    }
+
+    /**
+     * Closes the innermost transaction, keeping its changes.
+     */
+    public void commitTransaction() {
+        persons.commitTransaction();
+    }
+
+    /**
+     * Closes the innermost transaction, undoing its changes.
+     */
+    public void rollbackTransaction() {
+        persons.rollbackTransaction();
+    }
+
+    //// snapshots
+
+    /**
+     * Returns an immutable snapshot of the current contents, including changes made by an open transaction. Costs O(1).
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return new AddressBookSnapshot(persons.snapshot());
+    }
+
+    /**
+     * Returns an immutable snapshot of the contents as of the last committed change. Costs O(1), and unlike the other
+     * methods of this class, may be called from any thread.
+     */
+    public AddressBookSnapshot getCommittedSnapshot() {
+        return new AddressBookSnapshot(persons.committedSnapshot());
+    }
+
     //// util methods
 
     @Override
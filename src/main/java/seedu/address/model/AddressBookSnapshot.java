@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.persistent.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable address book, as published by an {@code AddressBook} after a change.
+ * <p>
+ * A snapshot shares its persons with the address book it was taken from and with other snapshots of it, so taking one
+ * copies nothing. It never changes afterwards, so it may be read from any thread without locking.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(PersistentList.empty());
+
+    private final List<Person> persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot holding {@code persons}, which must never change.
+     */
+    AddressBookSnapshot(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    /**
+     * Returns an empty snapshot.
+     */
+    public static AddressBookSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns {@code addressBook} itself if it is already a snapshot, or an immutable copy of it otherwise.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).getSnapshot();
+        }
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getPersonList()));
+    }
+
+    /**
+     * Returns the persons of this snapshot as an immutable list, which is cheaper to iterate over than
+     * {@link #getPersonList()}.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    /**
+     * Returns true if this snapshot and {@code other} hold the very same list of persons, in O(1). Every change to an
+     * address book publishes a new list, so two snapshots taken with no change in between hold the same list, while
+     * snapshots either side of a change that left the persons equal do not.
+     */
+    public boolean isSameVersionAs(AddressBookSnapshot other) {
+        requireNonNull(other);
+        return persons == other.persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
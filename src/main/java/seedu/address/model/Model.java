@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.history.CommandHistory;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.PersonSortOrder;
 
 /**
  * The API of the Model component.
@@ -53,6 +55,18 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the address book as it is now, including changes made by an open transaction.
+     * Costs O(1), so commands may use it instead of copying the person list.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Returns the immutable snapshot of the address book published by the last committed change. Unlike every other
+     * method of the model, this may be called from any thread, and never blocks the thread executing commands.
+     */
+    AddressBookSnapshot getCommittedAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,6 +91,31 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, in order,
+     * as {@link #setPerson(Person, Person)} would, without searching the address book for each target.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Opens a transaction on the address book. Changes made within the transaction are published to listeners of
+     * {@link #getFilteredPersonList()} as a single change when the outermost transaction is closed.
+     * Transactions may be nested; each must be closed by exactly one call to {@link #commit()} or {@link #rollback()}.
+     */
+    void beginTransaction();
+
+    /**
+     * Closes the innermost open transaction, keeping its changes.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commit();
+
+    /**
+     * Closes the innermost open transaction, restoring the address book to its state when the transaction was opened.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void rollback();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -86,6 +125,12 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the order of the filtered person list to the given {@code sortOrder}.
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void updateSortedPersonList(PersonSortOrder sortOrder);
+
     /** Returns the command history tracked by the application. */
     CommandHistory getCommandHistory();
 
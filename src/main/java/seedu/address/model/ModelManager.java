@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,6 +14,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.history.CommandHistory;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.PersonSortOrder;
+import seedu.address.model.person.sort.SortedPersonList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,6 +26,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedPersonList sortedPersons;
     private CommandHistory commandHistory;
 
     /**
@@ -31,11 +35,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedPersonList(filteredPersons);
         commandHistory = new CommandHistory();
     }
 
@@ -90,6 +95,16 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
+    @Override
+    public AddressBookSnapshot getCommittedAddressBook() {
+        return addressBook.getCommittedSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -114,15 +129,48 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+    }
+
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+        sortedPersons.beginBatch();
+    }
+
+    @Override
+    public void commit() {
+        try {
+            addressBook.commitTransaction();
+        } finally {
+            // The sorted view must leave its batch even if the transaction fails to close, or it stops publishing
+            sortedPersons.endBatch();
+        }
+    }
+
+    @Override
+    public void rollback() {
+        try {
+            addressBook.rollbackTransaction();
+        } finally {
+            // The sorted view must leave its batch even if the transaction fails to close, or it stops publishing
+            sortedPersons.endBatch();
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
+     * Returns an unmodifiable, sorted view of the list of {@code Person} backed by the internal list of
      * {@code versionedAddressBook}
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
@@ -131,6 +179,12 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateSortedPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        sortedPersons.setSortOrder(sortOrder);
+    }
+
     @Override
     public CommandHistory getCommandHistory() {
         return commandHistory;
@@ -156,7 +210,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && commandHistory.equals(otherModelManager.commandHistory);
     }
 
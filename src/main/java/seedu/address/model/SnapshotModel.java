@@ -0,0 +1,163 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.CommandHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.PersonSortOrder;
+import seedu.address.model.person.sort.SortedPersonList;
+
+/**
+ * A read-only {@code Model} over an {@code AddressBookSnapshot}, on which read-only commands may be executed from any
+ * thread without affecting the application's model.
+ * <p>
+ * The displayed list may be filtered and sorted as usual, and the command history read. Any attempt to change the
+ * address book, the command history or the user preferences, or to read the user preferences, fails with an
+ * {@code UnsupportedOperationException}.
+ */
+public class SnapshotModel implements Model {
+    public static final String MESSAGE_READ_ONLY = "A snapshot of the model cannot be modified.";
+    public static final String MESSAGE_NO_USER_PREFS = "A snapshot of the model holds no user preferences.";
+
+    private final AddressBookSnapshot addressBook;
+    private final CommandHistory commandHistory;
+    private final FilteredList<Person> filteredPersons;
+    private final SortedPersonList sortedPersons;
+
+    /**
+     * Creates a model showing every person of {@code addressBook}, with {@code commandHistory} as its history.
+     */
+    public SnapshotModel(AddressBookSnapshot addressBook, CommandHistory commandHistory) {
+        requireNonNull(addressBook);
+        requireNonNull(commandHistory);
+        this.addressBook = addressBook;
+        this.commandHistory = commandHistory;
+        filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        sortedPersons = new SortedPersonList(filteredPersons);
+    }
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new UnsupportedOperationException(MESSAGE_NO_USER_PREFS);
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new UnsupportedOperationException(MESSAGE_NO_USER_PREFS);
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        throw new UnsupportedOperationException(MESSAGE_NO_USER_PREFS);
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook;
+    }
+
+    @Override
+    public AddressBookSnapshot getCommittedAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getPersons().stream().anyMatch(person::isSamePerson);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void beginTransaction() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void commit() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public void rollback() {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return sortedPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        filteredPersons.setPredicate(predicate);
+    }
+
+    @Override
+    public void updateSortedPersonList(PersonSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        sortedPersons.setSortOrder(sortOrder);
+    }
+
+    @Override
+    public CommandHistory getCommandHistory() {
+        return commandHistory;
+    }
+
+    @Override
+    public void setCommandHistory(CommandHistory commandHistory) {
+        throw new UnsupportedOperationException(MESSAGE_READ_ONLY);
+    }
+}
@@ -15,7 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
-    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.json");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.ring");
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -0,0 +1,63 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link CommandLog} kept in memory that holds up to a fixed number of entries, overwriting the oldest entry in
+ * place once it is full.
+ */
+class BoundedCommandLog implements CommandLog {
+    private final List<String> entries;
+    private final int maxEntries;
+    // Index in entries of the oldest entry, which is only non-zero once the log is full
+    private int oldest = 0;
+
+    /**
+     * Constructs an empty log that holds up to {@code maxEntries} entries, with room for {@code expectedEntries}
+     * entries before it needs to grow.
+     */
+    BoundedCommandLog(int maxEntries, int expectedEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be greater than 0");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new ArrayList<>(Math.min(expectedEntries, maxEntries));
+    }
+
+    @Override
+    public void append(String entry) {
+        requireNonNull(entry);
+        if (entries.size() < maxEntries) {
+            entries.add(entry);
+            return;
+        }
+        entries.set(oldest, entry);
+        oldest = (oldest + 1) % maxEntries;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+        oldest = 0;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, entries.size());
+        return entries.get((oldest + index) % entries.size());
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+}
@@ -1,24 +1,26 @@
 package seedu.address.model.history;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Represents a rolling record of commands executed by the user.
+ * Represents a rolling record of commands executed by the user. Safe to read while another thread adds to it. Every
+ * method locks the history itself, so a caller holding that lock reads a consistent view across several calls.
+ * <p>
+ * The entries are kept in a {@link CommandLog}, which is held in memory unless another log, such as one backed by a
+ * file, is given.
  */
 public class CommandHistory {
 
     /** Default maximum number of entries to retain. */
     public static final int DEFAULT_MAX_ENTRIES = 100;
 
-    private final Deque<String> entries;
-    private final int maxEntries;
+    private final CommandLog log;
 
     /**
      * Constructs an empty {@code CommandHistory} that retains up to {@link #DEFAULT_MAX_ENTRIES} entries.
@@ -41,20 +43,23 @@ public class CommandHistory {
      */
     public CommandHistory(List<String> initialEntries, int maxEntries) {
         requireNonNull(initialEntries);
-        if (maxEntries <= 0) {
-            throw new IllegalArgumentException("maxEntries must be greater than 0");
-        }
-
-        this.maxEntries = maxEntries;
-        this.entries = new ArrayDeque<>(Math.min(initialEntries.size(), maxEntries));
+        this.log = new BoundedCommandLog(maxEntries, initialEntries.size());
         reset(initialEntries);
     }
 
+    /**
+     * Constructs a {@code CommandHistory} kept in {@code log}, starting with the entries already in it.
+     */
+    public CommandHistory(CommandLog log) {
+        requireNonNull(log);
+        this.log = log;
+    }
+
     /**
      * Adds a new command to the history.
      * Empty commands (i.e. blank or whitespace-only) are ignored.
      */
-    public void add(String commandText) {
+    public synchronized void add(String commandText) {
         requireNonNull(commandText);
         String trimmed = commandText.trim();
         if (trimmed.isEmpty()) {
@@ -67,9 +72,9 @@ public class CommandHistory {
     /**
      * Replaces the current history contents with {@code newEntries}.
      */
-    public void reset(List<String> newEntries) {
+    public synchronized void reset(List<String> newEntries) {
         requireNonNull(newEntries);
-        entries.clear();
+        log.clear();
         newEntries.stream()
                 .filter(Objects::nonNull)
                 .map(String::trim)
@@ -80,29 +85,67 @@ public class CommandHistory {
     /**
      * Returns the history entries from oldest to newest.
      */
-    public List<String> getEntries() {
-        return Collections.unmodifiableList(new ArrayList<>(entries));
+    public synchronized List<String> getEntries() {
+        return getNewestEntries(log.size());
+    }
+
+    /**
+     * Returns up to {@code count} of the newest history entries, from oldest to newest, reading only those entries
+     * however many the history holds.
+     */
+    public synchronized List<String> getNewestEntries(int count) {
+        checkArgument(count >= 0, "Count must not be negative: " + count);
+        int size = log.size();
+        int from = Math.max(0, size - count);
+        List<String> entries = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            entries.add(log.get(i));
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the entry at {@code index}, where {@code 0} is the oldest entry, without copying the other entries.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}).
+     */
+    public synchronized String get(int index) {
+        return log.get(index);
     }
 
     /**
      * Returns {@code true} if the history has no entries.
      */
-    public boolean isEmpty() {
-        return entries.isEmpty();
+    public synchronized boolean isEmpty() {
+        return log.size() == 0;
     }
 
     /**
      * Returns the number of entries tracked.
      */
-    public int size() {
-        return entries.size();
+    public synchronized int size() {
+        return log.size();
+    }
+
+    /**
+     * Returns the maximum number of entries retained.
+     */
+    public int getMaxEntries() {
+        return log.getMaxEntries();
+    }
+
+    /**
+     * Returns a copy of the newest {@value #DEFAULT_MAX_ENTRIES} entries of this history at most, held in memory, which
+     * does not change as commands are added to this history. A history kept in a file may hold far more entries than
+     * are worth copying, so the older ones are left out.
+     */
+    public synchronized CommandHistory copy() {
+        int maxEntries = Math.min(getMaxEntries(), DEFAULT_MAX_ENTRIES);
+        return new CommandHistory(getNewestEntries(maxEntries), maxEntries);
     }
 
     private void appendEntry(String entry) {
-        if (entries.size() == maxEntries) {
-            entries.removeFirst();
-        }
-        entries.addLast(entry);
+        log.append(entry);
     }
 
     @Override
@@ -117,16 +160,16 @@ public class CommandHistory {
 
         CommandHistory otherHistory = (CommandHistory) other;
         return getEntries().equals(otherHistory.getEntries())
-                && maxEntries == otherHistory.maxEntries;
+                && getMaxEntries() == otherHistory.getMaxEntries();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getEntries(), maxEntries);
+        return Objects.hash(getEntries(), getMaxEntries());
     }
 
     @Override
     public String toString() {
-        return "CommandHistory{" + "entries=" + entries + ", maxEntries=" + maxEntries + '}';
+        return "CommandHistory{" + "entries=" + getEntries() + ", maxEntries=" + getMaxEntries() + '}';
     }
 }
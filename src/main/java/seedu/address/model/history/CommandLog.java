@@ -0,0 +1,46 @@
+package seedu.address.model.history;
+
+import java.io.Closeable;
+
+/**
+ * Holds the entries of a {@link CommandHistory}, from oldest to newest, dropping the oldest entries when it is full.
+ * <p>
+ * Implementations need not be thread-safe, as {@code CommandHistory} only uses a log while holding its own lock.
+ */
+public interface CommandLog extends Closeable {
+
+    /**
+     * Appends {@code entry} as the newest entry, first dropping as many of the oldest entries as needed to make room.
+     */
+    void append(String entry);
+
+    /**
+     * Removes every entry.
+     */
+    void clear();
+
+    /**
+     * Returns the number of entries held.
+     */
+    int size();
+
+    /**
+     * Returns the entry at {@code index}, where {@code 0} is the oldest entry.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #size()}).
+     */
+    String get(int index);
+
+    /**
+     * Returns the most entries this log can hold at once.
+     */
+    int getMaxEntries();
+
+    /**
+     * Releases anything this log holds besides memory, such as an open file. The log must not be used afterwards.
+     * Does nothing by default.
+     */
+    @Override
+    default void close() {
+    }
+}
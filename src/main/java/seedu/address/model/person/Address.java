@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidatorUtil.isLineTerminator;
+import static seedu.address.commons.util.ValidatorUtil.isRegexWhitespace;
+import static seedu.address.commons.util.ValidatorUtil.matchesEvery;
 
 /**
  * Represents a Person's address in the address book.
@@ -31,10 +34,10 @@ public class Address {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address, i.e. matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matchesEvery(test, 1, c -> !isRegexWhitespace(c), c -> !isLineTerminator(c));
     }
 
     @Override
@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.ValidatorUtil.isAsciiAlphanumeric;
+import static seedu.address.commons.util.ValidatorUtil.matchesEvery;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.ValidatorUtil;
+
 /**
  * Represents a named relationship between two {@link Person} objects in the address book.
  * <p>
@@ -50,6 +54,7 @@ public class Link {
      * </ul>
      */
     private static final String VALIDATION_REGEX = "[A-Za-z0-9][A-Za-z0-9 _#&/().-]*";
+    private static final String VALIDATION_PUNCTUATION = " _#&/().-";
 
     private final Person linker; // The person that initiates the relationship
     private final Person linkee; // The person that is the target of the relationship
@@ -109,7 +114,9 @@ public class Link {
      */
     public static boolean isValidLinkName(String name) {
         requireNonNull(name);
-        return name.matches(VALIDATION_REGEX);
+        // Equivalent to name.matches(VALIDATION_REGEX)
+        return matchesEvery(name, 1, ValidatorUtil::isAsciiAlphanumeric,
+                c -> isAsciiAlphanumeric(c) || VALIDATION_PUNCTUATION.indexOf(c) >= 0);
     }
 
     /**
@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidatorUtil.isAsciiAlphanumeric;
+import static seedu.address.commons.util.ValidatorUtil.matchesEvery;
+
+import seedu.address.commons.util.ValidatorUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -32,10 +36,10 @@ public class Name {
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Returns true if a given string is a valid name, i.e. matches {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matchesEvery(test, 1, ValidatorUtil::isAsciiAlphanumeric, c -> isAsciiAlphanumeric(c) || c == ' ');
     }
 
 
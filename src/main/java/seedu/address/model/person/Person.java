@@ -2,23 +2,33 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.persistent.PersistentMap;
+import seedu.address.commons.util.persistent.PersistentSet;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * Tags, custom fields and links are held in persistent collections, so a person derived from another by changing a
+ * few of them shares the rest of each collection with the original instead of copying it.
  */
 public class Person {
 
+    /**
+     * Names, in lower case, that cannot be used for custom fields because they name the standard fields or are
+     * keywords of the field command.
+     */
+    public static final List<String> RESERVED_CUSTOM_FIELD_NAMES = List.of("name", "email", "phone", "address",
+            "tag", "field", "to", "from");
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -26,13 +36,13 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Map<String, String> customFields;
-    private final Set<Link> links = new HashSet<>();
+    private final PersistentSet<Tag> tags;
+    private final PersistentMap<String, String> customFields;
+    private final PersistentSet<Link> links;
     private final Info info;
 
     /**
-     * Full constructor including custom fields.
+     * Full constructor including custom fields. Collections that are already persistent are shared rather than copied.
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Tag> tags, Map<String, String> customFields, Set<Link> links, Info info) {
@@ -41,10 +51,10 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        // Preserve order and make defensive copy
-        this.customFields = new LinkedHashMap<>(customFields);
-        this.links.addAll(links);
+        this.tags = PersistentSet.copyOf(tags);
+        // Preserves insertion order
+        this.customFields = PersistentMap.copyOf(customFields);
+        this.links = PersistentSet.copyOf(links);
         this.info = info;
     }
 
@@ -68,8 +78,8 @@ public class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public PersistentSet<Tag> getTags() {
+        return tags;
     }
 
     /**
@@ -80,17 +90,17 @@ public class Person {
     }
 
     /**
-     * Returns an unmodifiable view of custom fields.
+     * Returns the immutable custom fields, in insertion order.
      */
-    public Map<String, String> getCustomFields() {
-        return Collections.unmodifiableMap(customFields);
+    public PersistentMap<String, String> getCustomFields() {
+        return customFields;
     }
 
     /**
-     * Returns all links associated to the person;
+     * Returns all links associated to the person, as an immutable set.
      */
-    public Set<Link> getLinks() {
-        return Collections.unmodifiableSet(links);
+    public PersistentSet<Link> getLinks() {
+        return links;
     }
 
     /**
@@ -98,7 +108,7 @@ public class Person {
      * The provided map is copied defensively and iteration order is preserved.
      */
     public Person withCustomFields(Map<String, String> fields) {
-        return new Person(name, phone, email, address, tags, new LinkedHashMap<>(fields), links, info);
+        return new Person(name, phone, email, address, tags, fields, links, info);
     }
 
     /**
@@ -157,7 +167,6 @@ public class Person {
                 .add("links", links)
                 .add("info", info);
 
-        Map<String, String> customFields = getCustomFields();
         if (!customFields.isEmpty()) {
             StringJoiner joiner = new StringJoiner(", ");
             customFields.forEach((key, value) -> joiner.add(key + "=" + value));
@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidatorUtil.matchesEvery;
+
+import seedu.address.commons.util.ValidatorUtil;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -30,7 +33,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matchesEvery(test, 3, ValidatorUtil::isAsciiDigit, ValidatorUtil::isAsciiDigit);
     }
 
     @Override
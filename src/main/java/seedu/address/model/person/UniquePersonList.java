@@ -1,13 +1,25 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.persistent.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,11 +32,21 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Mutations may be grouped into transactions with {@link #beginTransaction()}. Transactions record an undo log of the
+ * elementary changes made, so rolling back only replays the inverse of those changes instead of restoring a copy of
+ * the list. Listeners are still notified of every change as it happens, so views derived from this list stay
+ * consistent while a transaction is open; batching of notifications is left to the outermost view.
+ *
+ * Alongside the mutable list, every change is applied to an immutable {@code PersistentList}, which shares all
+ * unchanged structure with its previous version, so {@link #snapshot()} costs O(1) and keeping it current costs
+ * O(log n) per change. Whenever a change is made outside a transaction, or the outermost transaction commits, the
+ * snapshot is published for {@link #committedSnapshot()}, which other threads may read without locking.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final TransactionalPersonList internalList = new TransactionalPersonList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -33,7 +55,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return internalList.containsName(toCheck.getName());
     }
 
     /**
@@ -97,6 +119,68 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}, in order,
+     * as {@link #setPerson(Person, Person)} would. Each target is found through the list's index of positions, so
+     * editing k persons costs O(k log n) rather than a scan of the list for each of them.
+     *
+     * @throws IllegalArgumentException if the two lists differ in size.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Each target must have exactly one edited person");
+
+        for (int i = 0; i < targets.size(); i++) {
+            setPerson(targets.get(i), editedPersons.get(i));
+        }
+    }
+
+    /**
+     * Opens a transaction. Transactions may be nested; each must be closed by exactly one call to
+     * {@link #commitTransaction()} or {@link #rollbackTransaction()}.
+     */
+    public void beginTransaction() {
+        internalList.begin();
+    }
+
+    /**
+     * Closes the innermost transaction, keeping its changes.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    public void commitTransaction() {
+        internalList.commit();
+    }
+
+    /**
+     * Closes the innermost transaction, undoing every change made since it was opened.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    public void rollbackTransaction() {
+        internalList.rollback();
+    }
+
+    public boolean isInTransaction() {
+        return internalList.isInTransaction();
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, including changes made by an open transaction.
+     */
+    public List<Person> snapshot() {
+        return internalList.current;
+    }
+
+    /**
+     * Returns an immutable copy of the contents of this list as of the last change made outside a transaction or the
+     * last commit of an outermost transaction. Unlike the other methods of this class, this may be called from any
+     * thread.
+     */
+    public List<Person> committedSnapshot() {
+        return internalList.committed.get();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -138,13 +222,221 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * An observable list of persons whose changes within a transaction can be undone. The list also indexes the
+     * names of its persons, as names identify persons, and the position of each person, so that a person can be found
+     * without scanning the list.
+     */
+    private static class TransactionalPersonList extends ModifiableObservableListBase<Person> {
+        private final ArrayList<Person> elements = new ArrayList<>();
+        private final Map<Name, Integer> nameCounts = new HashMap<>();
+        // The position of the first occurrence of each person, rebuilt on the next lookup after persons shift
+        private Map<Person, Integer> positions;
+        private final Deque<UndoEntry> undoLog = new ArrayDeque<>();
+        private final Deque<Integer> savepoints = new ArrayDeque<>();
+        private final AtomicReference<PersistentList<Person>> committed =
+                new AtomicReference<>(PersistentList.empty());
+        private PersistentList<Person> current = PersistentList.empty();
+        private PersistentList<Person> beforeTransaction;
+        private boolean isUndoing;
+
+        void begin() {
+            if (savepoints.isEmpty()) {
+                beforeTransaction = current;
+            }
+            savepoints.push(undoLog.size());
+        }
+
+        void commit() {
+            requireOpenTransaction();
+            savepoints.pop();
+            close();
+        }
+
+        void rollback() {
+            requireOpenTransaction();
+            int savepoint = savepoints.pop();
+            isUndoing = true;
+            try {
+                while (undoLog.size() > savepoint) {
+                    undoLog.pop().undo(this);
+                }
+            } finally {
+                isUndoing = false;
+            }
+            if (savepoints.isEmpty()) {
+                // Equal to the replayed contents, but keeps the snapshot of an undone transaction identical to before
+                current = beforeTransaction;
+            }
+            close();
+        }
+
+        boolean containsName(Name name) {
+            return nameCounts.containsKey(name);
+        }
+
+        boolean isInTransaction() {
+            return !savepoints.isEmpty();
+        }
+
+        private void close() {
+            if (savepoints.isEmpty()) {
+                undoLog.clear();
+                committed.set(current);
+            }
+        }
+
+        /**
+         * Publishes the current contents unless a transaction is open or being rolled back, in which case they are
+         * published when it closes.
+         */
+        private void publishIfCommitted() {
+            if (savepoints.isEmpty() && !isUndoing) {
+                committed.set(current);
+            }
+        }
+
+        /**
+         * Replaces every element with those of {@code col} as one change, logged as one undo entry, so replacing a
+         * list takes time linear in the sizes of both lists.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Person> col) {
+            List<Person> previous = new ArrayList<>(elements);
+            List<Person> replacement = new ArrayList<>(col);
+            beginChange();
+            try {
+                elements.clear();
+                nameCounts.clear();
+                positions = null;
+                elements.addAll(replacement);
+                elements.forEach(this::index);
+                modCount++;
+                nextReplace(0, elements.size(), previous);
+            } finally {
+                endChange();
+            }
+            log(list -> list.setAll(previous));
+            // Rebuilding the snapshot in one pass is cheaper than applying every elementary change
+            current = PersistentList.copyOf(elements);
+            publishIfCommitted();
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            if (!elements.isEmpty()) {
+                setAll(List.of());
+            }
+        }
+
+        private void requireOpenTransaction() {
+            if (savepoints.isEmpty()) {
+                throw new IllegalStateException("No transaction is open.");
+            }
+        }
+
+        private void log(UndoEntry entry) {
+            if (!isUndoing && !savepoints.isEmpty()) {
+                undoLog.push(entry);
+            }
+        }
+
+        private void index(Person person) {
+            nameCounts.merge(person.getName(), 1, Integer::sum);
+        }
+
+        private void unindex(Person person) {
+            nameCounts.computeIfPresent(person.getName(), (name, count) -> count == 1 ? null : count - 1);
+        }
+
+        /**
+         * Returns the position of {@code o} in the list, or -1 if it is absent, in constant time once the index of
+         * positions is current.
+         */
+        @Override
+        public int indexOf(Object o) {
+            if (!(o instanceof Person)) {
+                return -1;
+            }
+            if (positions == null) {
+                positions = new HashMap<>(elements.size() * 4 / 3 + 1);
+                for (int i = 0; i < elements.size(); i++) {
+                    positions.putIfAbsent(elements.get(i), i);
+                }
+            }
+            return positions.getOrDefault(o, -1);
+        }
+
+        @Override
+        public Person get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            elements.add(index, element);
+            index(element);
+            if (positions != null && index == elements.size() - 1) {
+                positions.putIfAbsent(element, index);
+            } else {
+                positions = null;
+            }
+            log(list -> list.remove(index));
+            current = current.plus(index, element);
+            publishIfCommitted();
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            Person previous = elements.set(index, element);
+            unindex(previous);
+            index(element);
+            if (positions != null) {
+                // An equal person elsewhere in the list would be found first, so the index is rebuilt instead
+                if (positions.remove(previous, index) && !positions.containsKey(element)) {
+                    positions.put(element, index);
+                } else {
+                    positions = null;
+                }
+            }
+            log(list -> list.set(index, previous));
+            current = current.with(index, element);
+            publishIfCommitted();
+            return previous;
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            Person removed = elements.remove(index);
+            unindex(removed);
+            positions = null;
+            log(list -> list.add(index, removed));
+            current = current.minus(index);
+            publishIfCommitted();
+            return removed;
+        }
+    }
+
+    /**
+     * The inverse of a single elementary change to a {@code TransactionalPersonList}.
+     */
+    @FunctionalInterface
+    private interface UndoEntry {
+        void undo(TransactionalPersonList list);
+    }
 }
@@ -1,10 +1,10 @@
 package seedu.address.model.person.builder;
 
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import seedu.address.commons.util.persistent.PersistentMap;
+import seedu.address.commons.util.persistent.PersistentSet;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Info;
@@ -28,9 +28,9 @@ public class PersonBuilder {
     private Address address;
 
     // Optional fields with defaults
-    private Set<Tag> tags;
-    private Map<String, String> customFields;
-    private Set<Link> links;
+    private PersistentSet<Tag> tags;
+    private PersistentMap<String, String> customFields;
+    private PersistentSet<Link> links;
     private Info info;
 
     /**
@@ -38,9 +38,9 @@ public class PersonBuilder {
      * collections. Info is initialized with the empty string.
      */
     public PersonBuilder() {
-        tags = new HashSet<>();
-        customFields = new LinkedHashMap<>();
-        links = new HashSet<>();
+        tags = PersistentSet.empty();
+        customFields = PersistentMap.empty();
+        links = PersistentSet.empty();
         info = new Info("");
     }
 
@@ -53,10 +53,10 @@ public class PersonBuilder {
         phone = personToCopy.getPhone();
         email = personToCopy.getEmail();
         address = personToCopy.getAddress();
-        // Create mutable copies of the collections
-        tags = new HashSet<>(personToCopy.getTags());
-        customFields = new LinkedHashMap<>(personToCopy.getCustomFields());
-        links = new HashSet<>(personToCopy.getLinks());
+        // The collections are immutable, so they are shared rather than copied
+        tags = personToCopy.getTags();
+        customFields = personToCopy.getCustomFields();
+        links = personToCopy.getLinks();
         info = personToCopy.getInfo();
     }
 
@@ -85,30 +85,30 @@ public class PersonBuilder {
     }
 
     /**
-     * Sets the {@code Set<Tag>} of the {@code Person} we are building. A new {@link HashSet} is created to ensure the
-     * builder's state is independent of the provided set.
+     * Sets the {@code Set<Tag>} of the {@code Person} we are building. The set is copied into a
+     * {@link PersistentSet} unless it already is one, so the builder's state is independent of the provided set.
      */
     public PersonBuilder withTags(Set<Tag> tags) {
-        this.tags = new HashSet<>(tags);
+        this.tags = PersistentSet.copyOf(tags);
         return this;
     }
 
     /**
-     * Sets the custom fields {@code Map<String, String>} of the {@code Person} we are building. A new
-     * {@link LinkedHashMap} is created to preserve order and ensure the builder's state is independent of the provided
-     * map.
+     * Sets the custom fields {@code Map<String, String>} of the {@code Person} we are building. The map is copied into
+     * a {@link PersistentMap} unless it already is one, which preserves order and keeps the builder's state independent
+     * of the provided map.
      */
     public PersonBuilder withCustomFields(Map<String, String> customFields) {
-        this.customFields = new LinkedHashMap<>(customFields);
+        this.customFields = PersistentMap.copyOf(customFields);
         return this;
     }
 
     /**
-     * Sets the {@code Set<Link>} of the {@code Person} we are building. A new {@link HashSet} is created to ensure the
-     * builder's state is independent of the provided set.
+     * Sets the {@code Set<Link>} of the {@code Person} we are building. The set is copied into a
+     * {@link PersistentSet} unless it already is one, so the builder's state is independent of the provided set.
      */
     public PersonBuilder withLinks(Set<Link> links) {
-        this.links = new HashSet<>(links);
+        this.links = PersistentSet.copyOf(links);
         return this;
     }
 
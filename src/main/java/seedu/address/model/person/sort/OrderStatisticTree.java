@@ -0,0 +1,229 @@
+package seedu.address.model.person.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A balanced binary search tree (treap) in which every node also records the size of its subtree, allowing elements
+ * to be looked up by rank. Insertion, removal, rank queries and positional lookups all run in expected O(log n).
+ * <p>
+ * The comparator must impose a total order over the elements held by the tree: two distinct elements that compare
+ * equal cannot both be stored.
+ *
+ * @param <E> Type of element stored in the tree.
+ */
+public class OrderStatisticTree<E> {
+    private final Comparator<? super E> comparator;
+    private final Random random = new Random();
+    private Node<E> root;
+
+    /**
+     * Constructs an empty {@code OrderStatisticTree} ordered by {@code comparator}.
+     */
+    public OrderStatisticTree(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Inserts {@code element} into the tree.
+     *
+     * @return The rank (0-based position) at which the element now resides.
+     * @throws IllegalArgumentException if an element comparing equal to {@code element} is already present.
+     */
+    public int insert(E element) {
+        requireNonNull(element);
+        root = insertInto(root, new Node<>(element, random.nextInt()));
+        return rankOf(element);
+    }
+
+    /**
+     * Removes the element comparing equal to {@code element} from the tree.
+     *
+     * @return The rank the element resided at before removal, or -1 if no such element exists.
+     */
+    public int remove(E element) {
+        requireNonNull(element);
+        int rank = rankOf(element);
+        if (rank >= 0) {
+            root = removeFrom(root, element);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the element at {@code rank} in sorted order.
+     *
+     * @throws IndexOutOfBoundsException if {@code rank} is not within {@code [0, size())}.
+     */
+    public E get(int rank) {
+        if (rank < 0 || rank >= size()) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for size " + size());
+        }
+
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (rank < leftSize) {
+                node = node.left;
+            } else if (rank == leftSize) {
+                return node.element;
+            } else {
+                rank -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the rank of the element comparing equal to {@code element}, or -1 if no such element exists.
+     */
+    public int rankOf(E element) {
+        requireNonNull(element);
+        int rank = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison == 0) {
+                return rank + sizeOf(node.left);
+            } else {
+                rank += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all elements from the tree.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Returns all elements of the tree in sorted order.
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        collect(root, elements);
+        return elements;
+    }
+
+    private Node<E> insertInto(Node<E> node, Node<E> fresh) {
+        if (node == null) {
+            return fresh;
+        }
+
+        int comparison = comparator.compare(fresh.element, node.element);
+        if (comparison == 0) {
+            throw new IllegalArgumentException("Element already present in tree: " + fresh.element);
+        }
+
+        if (comparison < 0) {
+            node.left = insertInto(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insertInto(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<E> removeFrom(Node<E> node, E element) {
+        int comparison = comparator.compare(element, node.element);
+        if (comparison < 0) {
+            node.left = removeFrom(node.left, element);
+        } else if (comparison > 0) {
+            node.right = removeFrom(node.right, element);
+        } else {
+            return merge(node.left, node.right);
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private Node<E> rotateRight(Node<E> node) {
+        Node<E> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private Node<E> rotateLeft(Node<E> node) {
+        Node<E> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private void collect(Node<E> node, List<E> elements) {
+        if (node == null) {
+            return;
+        }
+        collect(node.left, elements);
+        elements.add(node.element);
+        collect(node.right, elements);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A single node of the tree, augmented with the size of the subtree rooted at it.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final int priority;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+}
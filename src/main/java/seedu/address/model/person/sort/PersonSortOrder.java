@@ -0,0 +1,126 @@
+package seedu.address.model.person.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An ordered list of {@code SortCriterion}s. Earlier criteria take precedence; later criteria only break ties.
+ * Persons that tie on every criterion are ordered by their exact names, which are unique within an address book.
+ * <p>
+ * An order without any criteria is the <i>unsorted</i> order, in which persons keep their address book order.
+ */
+public class PersonSortOrder {
+    public static final PersonSortOrder UNSORTED = new PersonSortOrder(List.of());
+
+    private final List<SortCriterion> criteria;
+
+    /**
+     * Constructs a {@code PersonSortOrder} from {@code criteria}, in order of precedence.
+     */
+    public PersonSortOrder(List<SortCriterion> criteria) {
+        requireNonNull(criteria);
+        this.criteria = List.copyOf(criteria);
+    }
+
+    public List<SortCriterion> getCriteria() {
+        return criteria;
+    }
+
+    public boolean isUnsorted() {
+        return criteria.isEmpty();
+    }
+
+    /**
+     * Precomputes the sort key of {@code person} under this order, so that comparisons do not need to revisit the
+     * person's fields.
+     */
+    public SortKey keyOf(Person person) {
+        requireNonNull(person);
+        Comparable<?>[] values = new Comparable<?>[criteria.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = criteria.get(i).extractKey(person);
+        }
+        return new SortKey(this, values, person.getName().fullName);
+    }
+
+    /**
+     * Returns a short user-facing description of this order.
+     */
+    public String describe() {
+        return criteria.stream().map(SortCriterion::describe).collect(Collectors.joining(", then "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonSortOrder)) {
+            return false;
+        }
+
+        PersonSortOrder otherOrder = (PersonSortOrder) other;
+        return criteria.equals(otherOrder.criteria);
+    }
+
+    @Override
+    public int hashCode() {
+        return criteria.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("criteria", criteria)
+                .toString();
+    }
+
+    /**
+     * A precomputed, comparable sort key of a single person under a {@code PersonSortOrder}. Missing values are
+     * always ordered last, regardless of the direction of their criterion.
+     */
+    public static final class SortKey implements Comparable<SortKey> {
+        private final PersonSortOrder order;
+        private final Comparable<?>[] values;
+        private final String tieBreaker;
+
+        private SortKey(PersonSortOrder order, Comparable<?>[] values, String tieBreaker) {
+            this.order = order;
+            this.values = values;
+            this.tieBreaker = tieBreaker;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public int compareTo(SortKey other) {
+            assert order == other.order : "Sort keys from different orders are not comparable";
+
+            for (int i = 0; i < values.length; i++) {
+                Comparable a = values[i];
+                Comparable b = other.values[i];
+                if (a == b) {
+                    continue;
+                }
+                if (a == null) {
+                    return 1;
+                }
+                if (b == null) {
+                    return -1;
+                }
+
+                int comparison = a.compareTo(b);
+                if (comparison != 0) {
+                    return order.criteria.get(i).isAscending() ? comparison : -comparison;
+                }
+            }
+            return tieBreaker.compareTo(other.tieBreaker);
+        }
+    }
+}
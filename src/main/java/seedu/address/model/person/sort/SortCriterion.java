@@ -0,0 +1,120 @@
+package seedu.address.model.person.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A single key by which a list of {@code Person}s may be sorted, along with its direction.
+ */
+public class SortCriterion {
+
+    /**
+     * Attributes of a {@code Person} that can be sorted on.
+     */
+    public enum Attribute {
+        NAME, PHONE, TAG_COUNT, FIELD
+    }
+
+    private final Attribute attribute;
+    private final String fieldName;
+    private final boolean isAscending;
+
+    private SortCriterion(Attribute attribute, String fieldName, boolean isAscending) {
+        this.attribute = attribute;
+        this.fieldName = fieldName;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Returns a criterion sorting on a built-in {@code attribute}.
+     */
+    public static SortCriterion of(Attribute attribute, boolean isAscending) {
+        requireNonNull(attribute);
+        if (attribute == Attribute.FIELD) {
+            throw new IllegalArgumentException("Custom field criteria must be created with ofField");
+        }
+        return new SortCriterion(attribute, null, isAscending);
+    }
+
+    /**
+     * Returns a criterion sorting on the value of the custom field named {@code fieldName}.
+     */
+    public static SortCriterion ofField(String fieldName, boolean isAscending) {
+        requireNonNull(fieldName);
+        return new SortCriterion(Attribute.FIELD, fieldName, isAscending);
+    }
+
+    public Attribute getAttribute() {
+        return attribute;
+    }
+
+    public boolean isAscending() {
+        return isAscending;
+    }
+
+    /**
+     * Computes the key of {@code person} under this criterion. Strings are case-folded so that they compare
+     * case-insensitively. Returns null when the person has no value for this criterion, e.g. a missing custom field.
+     */
+    Comparable<?> extractKey(Person person) {
+        switch (attribute) {
+        case NAME:
+            return person.getName().fullName.toLowerCase(Locale.ROOT);
+        case PHONE:
+            return person.getPhone().value;
+        case TAG_COUNT:
+            return person.getTags().size();
+        case FIELD:
+            String value = person.getCustomFields().get(fieldName);
+            return value == null ? null : value.toLowerCase(Locale.ROOT);
+        default:
+            throw new IllegalStateException("Unknown sort attribute: " + attribute);
+        }
+    }
+
+    /**
+     * Returns a short user-facing description of this criterion, e.g. {@code name (descending)}.
+     */
+    public String describe() {
+        String subject = attribute == Attribute.FIELD
+                ? "field \"" + fieldName + "\""
+                : attribute.name().toLowerCase(Locale.ROOT).replace('_', ' ');
+        return subject + (isAscending ? " (ascending)" : " (descending)");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCriterion)) {
+            return false;
+        }
+
+        SortCriterion otherCriterion = (SortCriterion) other;
+        return attribute == otherCriterion.attribute
+                && Objects.equals(fieldName, otherCriterion.fieldName)
+                && isAscending == otherCriterion.isAscending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attribute, fieldName, isAscending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("attribute", attribute)
+                .add("fieldName", fieldName)
+                .add("isAscending", isAscending)
+                .toString();
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address.model.person.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.Person;
+
+/**
+ * A view of a source list of {@code Person}s ordered by a {@code PersonSortOrder}.
+ * <p>
+ * Persons are held in an {@code OrderStatisticTree} keyed by their precomputed {@code SortKey}s, so the view stays
+ * sorted as the source changes: each added or removed person costs O(log n), and positional lookups used by
+ * index-based commands also cost O(log n). The list is never re-sorted as a whole except when the order itself
+ * changes.
+ * <p>
+ * Under {@link PersonSortOrder#UNSORTED}, the view mirrors the source list directly.
+ * <p>
+ * Changes may be batched with {@link #beginBatch()} and {@link #endBatch()}: listeners of this view then receive all
+ * changes made in between as one compound change.
+ */
+public class SortedPersonList extends TransformationList<Person, Person> {
+    private final OrderStatisticTree<Entry> tree = new OrderStatisticTree<>(Entry::compareTo);
+    private final Map<Person, Entry> entries = new IdentityHashMap<>();
+    private PersonSortOrder sortOrder = PersonSortOrder.UNSORTED;
+    private long nextSequence;
+    private int batchDepth;
+
+    /**
+     * Constructs an unsorted {@code SortedPersonList} over {@code source}.
+     */
+    public SortedPersonList(ObservableList<Person> source) {
+        super(source);
+    }
+
+    public PersonSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * Reorders this view by {@code newSortOrder}, rebuilding the underlying tree.
+     */
+    public void setSortOrder(PersonSortOrder newSortOrder) {
+        requireNonNull(newSortOrder);
+        if (newSortOrder.equals(sortOrder)) {
+            return;
+        }
+
+        List<Person> previous = new ArrayList<>(this);
+        sortOrder = newSortOrder;
+        rebuild();
+
+        beginChange();
+        nextRemove(0, previous);
+        nextAdd(0, size());
+        endChange();
+    }
+
+    /**
+     * Starts holding back change notifications. Batches may be nested; notifications are released when the outermost
+     * batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    /**
+     * Ends the innermost batch, notifying listeners of all held back changes if it was the outermost batch.
+     *
+     * @throws IllegalStateException if no batch is open.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch is open.");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        if (sortOrder.isUnsorted()) {
+            return getSource().get(index);
+        }
+        return tree.get(index).person;
+    }
+
+    @Override
+    public int size() {
+        return sortOrder.isUnsorted() ? getSource().size() : tree.size();
+    }
+
+    /**
+     * {@inheritDoc} When sorted, this performs a linear scan of the source list.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        if (sortOrder.isUnsorted()) {
+            return index;
+        }
+
+        Person person = get(index);
+        List<? extends Person> source = getSource();
+        for (int i = 0; i < source.size(); i++) {
+            if (source.get(i) == person) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Sorted view is out of sync with its source");
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (sortOrder.isUnsorted()) {
+            return index;
+        }
+        return tree.rankOf(entries.get(getSource().get(index)));
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> c) {
+        beginChange();
+        if (sortOrder.isUnsorted()) {
+            forward(c);
+            endChange();
+            return;
+        }
+
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                // Source order does not affect the sorted order.
+                continue;
+            }
+            if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    Person person = c.getList().get(i);
+                    nextRemove(remove(person), person);
+                    int rank = insert(person);
+                    nextAdd(rank, rank + 1);
+                }
+                continue;
+            }
+            for (Person removed : c.getRemoved()) {
+                nextRemove(remove(removed), removed);
+            }
+            for (Person added : c.getAddedSubList()) {
+                int rank = insert(added);
+                nextAdd(rank, rank + 1);
+            }
+        }
+        endChange();
+    }
+
+    private void forward(Change<? extends Person> c) {
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                int[] permutation = new int[c.getTo() - c.getFrom()];
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    permutation[i - c.getFrom()] = c.getPermutation(i);
+                }
+                nextPermutation(c.getFrom(), c.getTo(), permutation);
+            } else if (c.wasUpdated()) {
+                for (int i = c.getFrom(); i < c.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (c.wasRemoved()) {
+                    nextRemove(c.getFrom(), c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    nextAdd(c.getFrom(), c.getTo());
+                }
+            }
+        }
+    }
+
+    private void rebuild() {
+        tree.clear();
+        entries.clear();
+        if (sortOrder.isUnsorted()) {
+            return;
+        }
+        for (Person person : getSource()) {
+            insert(person);
+        }
+    }
+
+    private int insert(Person person) {
+        Entry entry = new Entry(person, sortOrder.keyOf(person), nextSequence++);
+        entries.put(person, entry);
+        return tree.insert(entry);
+    }
+
+    private int remove(Person person) {
+        Entry entry = entries.remove(person);
+        assert entry != null : "Removed person was not present in sorted view";
+        return tree.remove(entry);
+    }
+
+    /**
+     * A person together with its precomputed sort key. The sequence number keeps entries distinct should two persons
+     * ever share a key.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private final Person person;
+        private final PersonSortOrder.SortKey key;
+        private final long sequence;
+
+        Entry(Person person, PersonSortOrder.SortKey key, long sequence) {
+            this.person = person;
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int comparison = key.compareTo(other.key);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
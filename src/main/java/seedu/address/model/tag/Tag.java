@@ -2,6 +2,9 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidatorUtil.matchesEvery;
+
+import seedu.address.commons.util.ValidatorUtil;
 
 /**
  * Represents a Tag in the address book.
@@ -29,7 +32,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return matchesEvery(test, 1, ValidatorUtil::isAsciiAlphanumeric, ValidatorUtil::isAsciiAlphanumeric);
     }
 
     @Override
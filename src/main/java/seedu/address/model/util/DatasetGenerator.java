@@ -0,0 +1,336 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Info;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.builder.PersonBuilder;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size for load testing, such that the same seed and settings always generate the same
+ * address book.
+ * <p>
+ * Names, phones, emails and addresses are drawn from realistic pools. Tags follow a Zipf distribution, so a few tags
+ * are on many persons and most are on few. Links are made between persons at a chosen average number per person, and
+ * their linkees can be skewed towards a few popular persons.
+ */
+public class DatasetGenerator {
+    public static final int DEFAULT_PERSON_COUNT = 1000;
+    public static final int DEFAULT_TAG_VOCABULARY_SIZE = 50;
+    public static final double DEFAULT_TAG_EXPONENT = 1.0;
+    public static final int DEFAULT_MAX_TAGS_PER_PERSON = 3;
+    public static final double DEFAULT_LINK_DENSITY = 0.5;
+    public static final double DEFAULT_LINK_SKEW = 1.0;
+    public static final int DEFAULT_INFO_LENGTH = 0;
+
+    private static final String[] FIRST_NAMES = {
+        "Aaron", "Aisha", "Alice", "Amir", "Bernice", "Bob", "Cassandra", "Chen", "Daniel", "Deepa", "Elaine", "Farah",
+        "George", "Grace", "Hannah", "Hui Min", "Irfan", "Jasmine", "Jun Jie", "Kavitha", "Kenneth", "Li Ting",
+        "Marcus", "Mei Ling", "Nadia", "Natalie", "Oliver", "Priya", "Rachel", "Rajesh", "Siti", "Sophia", "Terence",
+        "Vanessa", "Wei Jie", "Xin Yi", "Yusuf", "Zachary"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho", "Low",
+        "Toh", "Sim", "Chong", "Abdullah", "Ismail", "Rahman", "Kumar", "Nair", "Pillai", "Singh", "Smith", "Khan",
+        "Fernandez", "Law"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "outlook.com", "yahoo.com", "example.com", "hotmail.com", "u.nus.edu", "firstcapital.com.sg",
+        "ledger-supplies.com"
+    };
+    private static final String[] STREETS = {
+        "Ang Mo Kio", "Bedok North", "Bishan", "Bukit Batok", "Clementi", "Geylang", "Hougang", "Jurong West",
+        "Kent Ridge", "Pasir Ris", "Punggol", "Serangoon", "Tampines", "Toa Payoh", "Woodlands", "Yishun"
+    };
+    private static final String[] STREET_TYPES = {"Avenue", "Street", "Road", "Drive", "Crescent"};
+    private static final String[] TAG_WORDS = {
+        "client", "friends", "colleagues", "bank", "lawyer", "broker", "investor", "consultant", "business", "vip",
+        "prospect", "supplier", "family", "accountant", "insurance", "gold", "equities", "bonds", "property", "crypto"
+    };
+    private static final String[] LINK_NAMES = {
+        "colleague", "lawyer", "accountant", "banker", "broker", "mentor", "advisor", "friend", "spouse", "referrer"
+    };
+    private static final String[] INFO_WORDS = {
+        "met", "at", "the", "conference", "portfolio", "review", "follow", "up", "on", "quarterly", "returns",
+        "prefers", "email", "call", "after", "lunch", "risk", "appetite", "is", "moderate", "interested", "in",
+        "bonds", "and", "property", "referred", "by", "a", "client", "meeting", "scheduled", "next", "week"
+    };
+
+    private final long seed;
+    private int personCount = DEFAULT_PERSON_COUNT;
+    private int tagVocabularySize = DEFAULT_TAG_VOCABULARY_SIZE;
+    private double tagExponent = DEFAULT_TAG_EXPONENT;
+    private int maxTagsPerPerson = DEFAULT_MAX_TAGS_PER_PERSON;
+    private double linkDensity = DEFAULT_LINK_DENSITY;
+    private double linkSkew = DEFAULT_LINK_SKEW;
+    private int infoLength = DEFAULT_INFO_LENGTH;
+    private final Map<String, CustomFieldSchema> customFieldSchemas = new LinkedHashMap<>();
+
+    /**
+     * Creates a {@code DatasetGenerator} with the given seed, the default settings and the default custom fields.
+     */
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+        withCustomField("assetClass", 0.6, "Gold", "Equities", "Bonds", "Property", "Cash");
+        withCustomField("company", 0.5, "FirstCapital", "KhanCo", "LedgerSupplies", "Orchard Partners",
+                "Marina Trust");
+        withCustomField("riskLevel", 0.3, "Low", "Medium", "High");
+    }
+
+    /**
+     * Sets the number of persons to generate.
+     */
+    public DatasetGenerator withPersonCount(int personCount) {
+        checkArgument(personCount >= 0, "Person count must not be negative.");
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of distinct tags, the exponent of the Zipf distribution they are drawn from, where {@code 0}
+     * draws every tag equally often, and the most tags a person can have.
+     */
+    public DatasetGenerator withTags(int vocabularySize, double exponent, int maxTagsPerPerson) {
+        checkArgument(vocabularySize >= 1, "Tag vocabulary must not be empty.");
+        checkArgument(exponent >= 0, "Tag exponent must not be negative.");
+        checkArgument(maxTagsPerPerson >= 0, "Tags per person must not be negative.");
+        this.tagVocabularySize = vocabularySize;
+        this.tagExponent = exponent;
+        this.maxTagsPerPerson = maxTagsPerPerson;
+        return this;
+    }
+
+    /**
+     * Sets the average number of links each person makes, and the exponent of the Zipf distribution their linkees are
+     * drawn from, where {@code 0} draws every person equally often and larger exponents favour a few popular persons.
+     */
+    public DatasetGenerator withLinks(double density, double skew) {
+        checkArgument(density >= 0, "Link density must not be negative.");
+        checkArgument(skew >= 0, "Link skew must not be negative.");
+        this.linkDensity = density;
+        this.linkSkew = skew;
+        return this;
+    }
+
+    /**
+     * Sets the average length of the info of each person, which is empty if {@code averageLength} is {@code 0}.
+     */
+    public DatasetGenerator withInfoLength(int averageLength) {
+        checkArgument(averageLength >= 0, "Info length must not be negative.");
+        this.infoLength = averageLength;
+        return this;
+    }
+
+    /**
+     * Adds a custom field, or replaces the one with the same key, that each person has with probability
+     * {@code presence}, taking one of {@code values}.
+     */
+    public DatasetGenerator withCustomField(String key, double presence, String... values) {
+        requireAllNonNull(key, values);
+        checkArgument(presence >= 0 && presence <= 1, "Presence must be a probability.");
+        checkArgument(values.length > 0, "A custom field needs at least one value.");
+        customFieldSchemas.put(key, new CustomFieldSchema(presence, values.clone()));
+        return this;
+    }
+
+    /**
+     * Removes every custom field, including the default ones.
+     */
+    public DatasetGenerator withoutCustomFields() {
+        customFieldSchemas.clear();
+        return this;
+    }
+
+    /**
+     * Generates the address book.
+     */
+    public AddressBook generate() {
+        Random random = new Random(seed);
+        String[] tagVocabulary = createTagVocabulary();
+        ZipfSampler tagSampler = new ZipfSampler(tagVocabulary.length, tagExponent);
+
+        List<Person> persons = new ArrayList<>(personCount);
+        Map<String, Integer> nameCounts = new HashMap<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(generatePerson(random, nameCounts, tagVocabulary, tagSampler));
+        }
+
+        List<Set<Link>> links = generateLinks(random, persons);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder(persons.get(i)).withLinks(links.get(i)).build());
+        }
+        return addressBook;
+    }
+
+    private Person generatePerson(Random random, Map<String, Integer> nameCounts, String[] tagVocabulary,
+            ZipfSampler tagSampler) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        // Names identify persons, so later persons with the same name are numbered
+        String baseName = firstName + " " + lastName;
+        int nameCount = nameCounts.merge(baseName, 1, Integer::sum);
+        String suffix = nameCount == 1 ? "" : String.valueOf(nameCount);
+        Name name = new Name(nameCount == 1 ? baseName : baseName + " " + suffix);
+
+        // The smaller of two draws favours the common domains at the start of the pool
+        String localPart = (firstName + "." + lastName).toLowerCase().replace(' ', '.') + suffix;
+        String domain = EMAIL_DOMAINS[Math.min(random.nextInt(EMAIL_DOMAINS.length),
+                random.nextInt(EMAIL_DOMAINS.length))];
+        Email email = new Email(localPart + "@" + domain);
+
+        Set<Tag> tags = new LinkedHashSet<>();
+        int tagCount = random.nextInt(maxTagsPerPerson + 1);
+        for (int attempt = 0; tags.size() < Math.min(tagCount, tagVocabulary.length) && attempt < 4 * tagCount;
+                attempt++) {
+            tags.add(new Tag(tagVocabulary[tagSampler.sample(random)]));
+        }
+
+        Map<String, String> customFields = new LinkedHashMap<>();
+        for (Map.Entry<String, CustomFieldSchema> schema : customFieldSchemas.entrySet()) {
+            if (random.nextDouble() < schema.getValue().presence) {
+                customFields.put(schema.getKey(), pick(random, schema.getValue().values));
+            }
+        }
+
+        return new Person(name, generatePhone(random), email, generateAddress(random), tags, customFields,
+                new HashSet<>(), generateInfo(random));
+    }
+
+    private static Phone generatePhone(Random random) {
+        // Mostly mobile numbers, with some landlines
+        int first = random.nextInt(10) == 0 ? 6 : 8 + random.nextInt(2);
+        return new Phone(first + String.format("%07d", random.nextInt(10_000_000)));
+    }
+
+    private static Address generateAddress(Random random) {
+        String street = pick(random, STREETS) + " " + pick(random, STREET_TYPES);
+        if (random.nextInt(10) < 7) {
+            return new Address(String.format("Blk %d %s %d, #%02d-%d", 1 + random.nextInt(999), street,
+                    1 + random.nextInt(9), 2 + random.nextInt(24), 1 + random.nextInt(999)));
+        }
+        return new Address((1 + random.nextInt(200)) + " " + street);
+    }
+
+    private Info generateInfo(Random random) {
+        if (infoLength == 0) {
+            return new Info("");
+        }
+
+        int length = random.nextInt(2 * infoLength + 1);
+        StringBuilder info = new StringBuilder(length + 16);
+        while (info.length() < length) {
+            if (info.length() > 0) {
+                info.append(random.nextInt(12) == 0 ? ". " : " ");
+            }
+            info.append(pick(random, INFO_WORDS));
+        }
+        return new Info(info.toString());
+    }
+
+    /**
+     * Returns the links each person holds. As when an address book is loaded, each link is held by both its persons,
+     * and refers to them as they were before they were linked.
+     */
+    private List<Set<Link>> generateLinks(Random random, List<Person> persons) {
+        List<Set<Link>> links = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            links.add(new HashSet<>());
+        }
+        if (persons.size() < 2) {
+            return links;
+        }
+
+        // The most popular linkees are spread through the address book rather than all at its start
+        int[] popularity = new int[persons.size()];
+        Arrays.setAll(popularity, i -> i);
+        for (int i = popularity.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swapped = popularity[i];
+            popularity[i] = popularity[j];
+            popularity[j] = swapped;
+        }
+
+        ZipfSampler linkeeSampler = new ZipfSampler(persons.size(), linkSkew);
+        long linkCount = Math.round(persons.size() * linkDensity);
+        for (long l = 0; l < linkCount; l++) {
+            int linker = random.nextInt(persons.size());
+            int linkee = popularity[linkeeSampler.sample(random)];
+            if (linkee == linker) {
+                linkee = (linkee + 1) % persons.size();
+            }
+            Link link = new Link(persons.get(linker), persons.get(linkee), pick(random, LINK_NAMES));
+            links.get(linker).add(link);
+            links.get(linkee).add(link);
+        }
+        return links;
+    }
+
+    private String[] createTagVocabulary() {
+        String[] vocabulary = new String[tagVocabularySize];
+        for (int i = 0; i < tagVocabularySize; i++) {
+            String word = TAG_WORDS[i % TAG_WORDS.length];
+            vocabulary[i] = i < TAG_WORDS.length ? word : word + (i / TAG_WORDS.length);
+        }
+        return vocabulary;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * The values of a custom field and how likely a person is to have it.
+     */
+    private static class CustomFieldSchema {
+        private final double presence;
+        private final String[] values;
+
+        CustomFieldSchema(double presence, String[] values) {
+            this.presence = presence;
+            this.values = values;
+        }
+    }
+
+    /**
+     * Draws ranks from {@code 0} to {@code n - 1} with probability proportional to {@code 1 / (rank + 1)^exponent}.
+     */
+    private static class ZipfSampler {
+        private final double[] cumulativeWeights;
+
+        ZipfSampler(int n, double exponent) {
+            cumulativeWeights = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += Math.pow(rank + 1, -exponent);
+                cumulativeWeights[rank] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            int rank = index >= 0 ? index + 1 : -index - 1;
+            return Math.min(rank, cumulativeWeights.length - 1);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.PreparedCommand;
+import seedu.address.logic.QueryResult;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.exceptions.AssemblyException;
+
+/**
+ * Accepts command lines from local clients over a loopback TCP socket and replies to each with a line of JSON.
+ * <p>
+ * Each client sends one command line per line, in the same grammar as the command box, and receives one reply per
+ * line, in order (see {@link ServerReplies}). Every command line is first prepared by {@link Logic#prepare(String)} on
+ * a shared pool of worker threads. Read-only command lines are then answered by {@link Logic#query(PreparedCommand)}
+ * on the same pool, so queries from different clients run concurrently. All other command lines are handed to the
+ * single writer executor, e.g. the JavaFX application thread, which executes them one at a time through
+ * {@link Logic#execute(PreparedCommand)}, and so never spends time parsing. A background task started by a command,
+ * such as an export, is then run to completion on the pool, and the request is answered with its outcome. Commands
+ * that only act on the application window, such as {@code exit} or {@code help}, are answered with an error.
+ * <p>
+ * A client's requests are executed in the order they were sent, but each is prepared as soon as it is read, while the
+ * requests before it are still executing. Each client has its own bounded queue of pending
+ * replies: once it is full, the server stops reading from that client until it catches up, so a client that sends
+ * faster than it reads only slows itself down.
+ */
+public class CommandServer implements AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    static final String MESSAGE_INTERNAL_ERROR = "Internal error: %1$s";
+    static final String MESSAGE_WINDOW_ONLY = "This command only has an effect in the application window.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    /** Marks the end of a client's replies. */
+    private static final CompletableFuture<String> END_OF_REPLIES = CompletableFuture.completedFuture(null);
+
+    private final Logic logic;
+    private final Executor writer;
+    private final int queueCapacity;
+    private final ServerSocket serverSocket;
+    private final ExecutorService workerExecutor;
+    private final ExecutorService connectionExecutor;
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+    private CommandServer(Logic logic, Executor writer, int queueCapacity, ServerSocket serverSocket) {
+        this.logic = logic;
+        this.writer = writer;
+        this.queueCapacity = queueCapacity;
+        this.serverSocket = serverSocket;
+        this.workerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                daemonThreads("command-server-worker"));
+        this.connectionExecutor = Executors.newCachedThreadPool(daemonThreads("command-server-client"));
+    }
+
+    /**
+     * Starts a server on the loopback interface at {@code port}, or at any free port if it is 0.
+     *
+     * @param writer Executes every command line that may change the model, one at a time.
+     * @throws IOException If the port cannot be bound.
+     */
+    public static CommandServer start(Logic logic, Executor writer, int port) throws IOException {
+        return start(logic, writer, port, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Starts a server as in {@link #start(Logic, Executor, int)}, holding at most {@code queueCapacity} pending replies
+     * per client.
+     */
+    public static CommandServer start(Logic logic, Executor writer, int port, int queueCapacity) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(writer);
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be positive: " + queueCapacity);
+        }
+
+        ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        CommandServer server = new CommandServer(logic, writer, queueCapacity, serverSocket);
+        server.connectionExecutor.execute(server::acceptClients);
+        logger.info("Command server listening on " + serverSocket.getLocalSocketAddress());
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting clients and disconnects every connected client.
+     */
+    @Override
+    public void close() throws IOException {
+        logger.info("Stopping command server on " + serverSocket.getLocalSocketAddress());
+        serverSocket.close();
+        for (Socket client : clients) {
+            client.close();
+        }
+        connectionExecutor.shutdownNow();
+        workerExecutor.shutdownNow();
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                logger.fine(() -> "Command server client connected: " + client.getRemoteSocketAddress());
+                BlockingQueue<CompletableFuture<String>> replies = new ArrayBlockingQueue<>(queueCapacity);
+                connectionExecutor.execute(() -> writeReplies(client, replies));
+                connectionExecutor.execute(() -> readRequests(client, replies));
+            } catch (SocketException e) {
+                // The server socket was closed
+            } catch (IOException e) {
+                logger.warning("Command server failed to accept a client: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads command lines from {@code client}, queueing a reply for each, until the client stops sending. Blocks while
+     * the queue is full.
+     */
+    private void readRequests(Socket client, BlockingQueue<CompletableFuture<String>> replies) {
+        try {
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            CompletableFuture<String> previous = CompletableFuture.completedFuture(null);
+            long id = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String commandText = line.strip();
+                if (commandText.isEmpty()) {
+                    continue;
+                }
+                long requestId = ++id;
+                CompletableFuture<PreparedCommand> prepared = prepare(commandText);
+                // Execute each request only once the client's previous one is done, so its effects are visible
+                CompletableFuture<String> reply = previous.thenCompose(unused -> handle(requestId, prepared));
+                replies.put(reply);
+                previous = reply;
+            }
+        } catch (IOException e) {
+            logger.fine(() -> "Command server client disconnected: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            replies.put(END_OF_REPLIES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the replies queued for {@code client} as they complete, in order, then disconnects it. Should the client
+     * stop accepting replies, it is disconnected and its remaining replies are discarded.
+     */
+    private void writeReplies(Socket client, BlockingQueue<CompletableFuture<String>> replies) {
+        try (client) {
+            Writer out = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8));
+            boolean isConnected = true;
+            CompletableFuture<String> reply;
+            while ((reply = replies.take()) != END_OF_REPLIES) {
+                String text = reply.join();
+                if (!isConnected) {
+                    continue;
+                }
+                try {
+                    out.write(text);
+                    out.write('\n');
+                    // Flush before waiting on a reply that is not ready, so a slow request does not hold back the
+                    // replies already written before it
+                    CompletableFuture<String> next = replies.peek();
+                    if (next == null || !next.isDone()) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    logger.fine(() -> "Command server could not reply to client: " + e.getMessage());
+                    isConnected = false;
+                    client.close(); // also stops the reader
+                }
+            }
+            if (isConnected) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            logger.fine(() -> "Command server could not reply to client: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    /**
+     * Starts preparing {@code commandText} on the worker pool.
+     */
+    private CompletableFuture<PreparedCommand> prepare(String commandText) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return logic.prepare(commandText);
+            } catch (AssemblyException e) {
+                throw new CompletionException(e);
+            }
+        }, workerExecutor);
+    }
+
+    /**
+     * Returns the reply to a request once it is {@code prepared}, answering it as a query on the worker pool if it is
+     * read-only and on the writer otherwise. The returned future never completes exceptionally.
+     */
+    private CompletableFuture<String> handle(long id, CompletableFuture<PreparedCommand> prepared) {
+        return prepared
+                .thenCompose(command -> command.isReadOnly()
+                        ? CompletableFuture.supplyAsync(() -> query(id, command), workerExecutor)
+                        : execute(id, command))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    return cause instanceof AssemblyException || cause instanceof CommandException
+                            ? ServerReplies.failure(id, cause.getMessage())
+                            : ServerReplies.failure(id, String.format(MESSAGE_INTERNAL_ERROR, cause.getMessage()));
+                });
+    }
+
+    private String query(long id, PreparedCommand command) {
+        try {
+            QueryResult result = logic.query(command).orElseThrow();
+            return ServerReplies.success(id, result.getCommandResult().getFeedbackToUser(), result.getPersons());
+        } catch (CommandException e) {
+            return ServerReplies.failure(id, e.getMessage());
+        }
+    }
+
+    /**
+     * Executes {@code command} on the writer and returns the reply to it, once any background task it starts has
+     * completed on the worker pool.
+     */
+    private CompletableFuture<String> execute(long id, PreparedCommand command) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return logic.execute(command);
+            } catch (CommandException e) {
+                throw new CompletionException(e);
+            }
+        }, writer).thenCompose(result -> {
+            if (result.isExit() || result.isShowHelp() || result.isShowInfoEditor()) {
+                return CompletableFuture.completedFuture(ServerReplies.failure(id, MESSAGE_WINDOW_ONLY));
+            }
+            if (result.getBackgroundTask().isEmpty()) {
+                return CompletableFuture.completedFuture(ServerReplies.success(id, result.getFeedbackToUser(), null));
+            }
+            BackgroundTask task = result.getBackgroundTask().get();
+            return CompletableFuture.supplyAsync(() -> runInBackground(id, task), workerExecutor);
+        });
+    }
+
+    /**
+     * Runs {@code task} to completion and returns the reply holding its final feedback. Its progress is not reported,
+     * as a request has only one reply.
+     */
+    private String runInBackground(long id, BackgroundTask task) {
+        try {
+            return ServerReplies.success(id, task.run(progress -> { }), null);
+        } catch (CommandException e) {
+            return ServerReplies.failure(id, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
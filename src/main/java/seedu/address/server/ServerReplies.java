@@ -0,0 +1,69 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.person.Person;
+import seedu.address.storage.interchange.JsonLinesPersonRecordWriter;
+
+/**
+ * Formats the replies of a {@code CommandServer}, each a single line holding one JSON object.
+ * <p>
+ * A successful reply holds the request's {@code id}, {@code "ok": true} and the command's {@code feedback}, and for
+ * read-only commands also the listed {@code persons}, each in the JSON Lines export format. A failed reply holds the
+ * {@code id}, {@code "ok": false} and the {@code error} message.
+ */
+final class ServerReplies {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ServerReplies() {
+    }
+
+    /**
+     * Returns the reply to a request that succeeded.
+     *
+     * @param persons The persons listed by the command, or null if it is not a query.
+     */
+    static String success(long id, String feedback, List<Person> persons) {
+        StringWriter reply = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(reply)) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeBooleanField("ok", true);
+            generator.writeStringField("feedback", feedback);
+            if (persons != null) {
+                generator.writeArrayFieldStart("persons");
+                for (Person person : persons) {
+                    JsonLinesPersonRecordWriter.writePerson(generator, person);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // a StringWriter never fails
+        }
+        return reply.toString();
+    }
+
+    /**
+     * Returns the reply to a request that failed with {@code message}.
+     */
+    static String failure(long id, String message) {
+        StringWriter reply = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(reply)) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", id);
+            generator.writeBooleanField("ok", false);
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // a StringWriter never fails
+        }
+        return reply.toString();
+    }
+}
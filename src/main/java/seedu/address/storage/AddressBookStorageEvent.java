@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A Java Flight Recorder event for reading or saving an address book file.
+ */
+@Name(AddressBookStorageEvent.NAME)
+@Label("Address Book Storage")
+@Category({"AssetSphere", "Storage"})
+@Description("Reading or saving an address book file")
+class AddressBookStorageEvent extends Event {
+    static final String NAME = "seedu.address.AddressBookStorage";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("File")
+    private String file;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    /**
+     * Ends this event and commits it as the {@code operation} of {@code file}, which holds {@code personCount}
+     * persons, if it is being recorded. The file is only measured if the event is committed.
+     */
+    void commit(String operation, Path file, int personCount) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.file = file.toString();
+            this.bytes = FileUtil.sizeOf(file);
+            this.personCount = personCount;
+            commit();
+        }
+    }
+}
@@ -30,4 +30,11 @@ public interface CommandHistoryStorage {
      * @throws IOException if the data could not be written to disk.
      */
     void saveCommandHistory(CommandHistory commandHistory) throws IOException;
+
+    /**
+     * Releases any file this storage keeps open for the command history it has read, which must not be used
+     * afterwards. Does nothing by default.
+     */
+    default void closeCommandHistory() {
+    }
 }
@@ -21,6 +21,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String OPERATION_READ = "read";
+    private static final String OPERATION_SAVE = "save";
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -45,14 +48,19 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        AddressBookStorageEvent event = new AddressBookStorageEvent();
+        event.begin();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
         if (!jsonAddressBook.isPresent()) {
+            event.commit(OPERATION_READ, filePath, 0);
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            event.commit(OPERATION_READ, filePath, addressBook.getPersonList().size());
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +81,11 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookStorageEvent event = new AddressBookStorageEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        event.commit(OPERATION_SAVE, filePath, addressBook.getPersonList().size());
     }
 
 }
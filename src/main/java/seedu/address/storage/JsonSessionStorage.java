@@ -5,10 +5,16 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -29,6 +35,10 @@ public class JsonSessionStorage implements SessionStorage {
     private static final DateTimeFormatter FILE_NAME_FORMATTER =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH-mm-ss-SSS");
 
+    private static final String FIELD_SAVED_AT = "savedAt";
+    private static final String OPERATION_READ = "read";
+    private static final String OPERATION_SAVE = "save";
+
     private final Path sessionDirectory;
 
     public JsonSessionStorage(Path sessionDirectory) {
@@ -42,10 +52,24 @@ public class JsonSessionStorage implements SessionStorage {
 
     @Override
     public Optional<SessionData> readSession() throws DataLoadingException {
+        return readSessionSavedSince(Instant.MIN);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the {@code savedAt} field at the start of each session file is read to order them, so only the latest
+     * session file is deserialised, unless it cannot be.
+     */
+    @Override
+    public Optional<SessionData> readSessionSavedSince(Instant time) throws DataLoadingException {
+        requireNonNull(time);
         if (!Files.exists(sessionDirectory) || !Files.isDirectory(sessionDirectory)) {
             return Optional.empty();
         }
 
+        SessionStorageEvent event = new SessionStorageEvent();
+        event.begin();
         List<Path> sessionFiles;
         try (Stream<Path> stream = Files.list(sessionDirectory)) {
             sessionFiles = stream.filter(Files::isRegularFile)
@@ -55,37 +79,74 @@ public class JsonSessionStorage implements SessionStorage {
             throw new DataLoadingException(e);
         }
 
-        SessionData latestSession = null;
+        Map<Path, Instant> savedTimes = new HashMap<>();
         for (Path file : sessionFiles) {
-            Optional<JsonSerializableSession> jsonSession = Optional.empty();
-            try {
-                jsonSession = JsonUtil.readJsonFile(file, JsonSerializableSession.class);
-            } catch (DataLoadingException e) {
-                logger.warning("Skipping corrupted session file (unreadable JSON) " + file + ": " + e.getMessage());
-                continue;
-            }
-            if (!jsonSession.isPresent()) {
-                continue;
-            }
-            try {
-                SessionData candidate = jsonSession.get().toModelType();
-                if (latestSession == null || candidate.getSavedAt().isAfter(latestSession.getSavedAt())) {
-                    latestSession = candidate;
-                }
-            } catch (Exception e) {
-                logger.warning("Skipping invalid session file (bad data) " + file + ": " + e.getMessage());
+            readSavedAt(file).filter(savedAt -> !savedAt.isBefore(time))
+                    .ifPresent(savedAt -> savedTimes.put(file, savedAt));
+        }
+        List<Path> candidates = new ArrayList<>(savedTimes.keySet());
+        candidates.sort(Comparator.comparing(savedTimes::get, Comparator.reverseOrder()));
+
+        SessionData latestSession = null;
+        for (Path file : candidates) {
+            Optional<SessionData> candidate = readSessionFile(file);
+            if (candidate.isPresent()) {
+                latestSession = candidate.get();
+                break;
             }
         }
 
+        event.commit(OPERATION_READ, sessionFiles,
+                latestSession == null ? 0 : latestSession.getAddressBook().getPersonList().size());
         return Optional.ofNullable(latestSession);
     }
 
+    /**
+     * Returns the time the session in {@code file} was saved at, read without deserialising the session, or an empty
+     * optional if the file or its {@code savedAt} field cannot be read.
+     */
+    private Optional<Instant> readSavedAt(Path file) {
+        try {
+            return JsonUtil.readJsonField(file, FIELD_SAVED_AT).map(Instant::parse);
+        } catch (DataLoadingException e) {
+            logger.warning("Skipping corrupted session file (unreadable JSON) " + file + ": " + e.getMessage());
+        } catch (DateTimeParseException e) {
+            logger.warning("Skipping invalid session file (bad data) " + file + ": " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the session in {@code file}, or an empty optional if it cannot be read.
+     */
+    private Optional<SessionData> readSessionFile(Path file) {
+        Optional<JsonSerializableSession> jsonSession;
+        try {
+            jsonSession = JsonUtil.readJsonFile(file, JsonSerializableSession.class);
+        } catch (DataLoadingException e) {
+            logger.warning("Skipping corrupted session file (unreadable JSON) " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+        if (!jsonSession.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jsonSession.get().toModelType());
+        } catch (Exception e) {
+            logger.warning("Skipping invalid session file (bad data) " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void saveSession(SessionData sessionData) throws IOException {
         requireNonNull(sessionData);
+        SessionStorageEvent event = new SessionStorageEvent();
+        event.begin();
         Files.createDirectories(sessionDirectory);
         Path target = sessionDirectory.resolve(createFileName(sessionData));
         JsonUtil.saveJsonFile(new JsonSerializableSession(sessionData), target);
+        event.commit(OPERATION_SAVE, List.of(target), sessionData.getAddressBook().getPersonList().size());
     }
 
     private String createFileName(SessionData sessionData) {
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.history.CommandHistory;
+
+/**
+ * A class to access command history stored in a memory-mapped ring file on the hard disk (see
+ * {@link RingFileCommandLog}).
+ * <p>
+ * The history read from this storage writes each command to the file as it is added, so it need not be saved, and
+ * holds as many commands as fit in the file rather than a fixed number of them. A history kept in the JSON format of
+ * {@link JsonCommandHistoryStorage} is imported the first time the ring file is created. The file stays mapped until
+ * {@link #closeCommandHistory()} is called.
+ */
+public class RingFileCommandHistoryStorage implements CommandHistoryStorage {
+    /** Bytes of commands a new ring file has room for, which holds tens of thousands of commands of typical length. */
+    public static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(RingFileCommandHistoryStorage.class);
+
+    private final Path filePath;
+    private final int capacity;
+    private final Optional<CommandHistoryStorage> legacyStorage;
+
+    private RingFileCommandLog openLog;
+    private CommandHistory openHistory;
+
+    /**
+     * Creates a storage for the ring file at {@code filePath}, which is created with room for {@link #DEFAULT_CAPACITY}
+     * bytes of commands.
+     */
+    public RingFileCommandHistoryStorage(Path filePath) {
+        this(filePath, DEFAULT_CAPACITY, Optional.empty());
+    }
+
+    /**
+     * Creates a storage for the ring file at {@code filePath}, which is created with room for {@code capacity} bytes
+     * of commands and starts with the commands read from {@code legacyStorage}, if any.
+     */
+    public RingFileCommandHistoryStorage(Path filePath, int capacity, Optional<CommandHistoryStorage> legacyStorage) {
+        requireNonNull(filePath);
+        requireNonNull(legacyStorage);
+        this.filePath = filePath;
+        this.capacity = capacity;
+        this.legacyStorage = legacyStorage;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The ring file is created if it does not exist, so the command history returned is never empty unless it cannot
+     * be created. The history returned keeps the file open, and later calls return the same history.
+     */
+    @Override
+    public synchronized Optional<CommandHistory> readCommandHistory() throws DataLoadingException {
+        if (openHistory != null) {
+            return Optional.of(openHistory);
+        }
+
+        boolean isNew = !FileUtil.isFileExists(filePath);
+        RingFileCommandLog log;
+        try {
+            log = RingFileCommandLog.open(filePath, capacity);
+        } catch (IOException e) {
+            logger.warning("Error reading from command history file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        CommandHistory history = new CommandHistory(log);
+        if (isNew) {
+            importLegacyHistory(history);
+        }
+        openLog = log;
+        openHistory = history;
+        return Optional.of(history);
+    }
+
+    private void importLegacyHistory(CommandHistory history) {
+        if (legacyStorage.isEmpty()) {
+            return;
+        }
+        try {
+            legacyStorage.get().readCommandHistory().ifPresent(legacyHistory -> {
+                logger.info("Importing command history from " + legacyStorage.get().getCommandHistoryFilePath());
+                history.reset(legacyHistory.getEntries());
+            });
+        } catch (DataLoadingException e) {
+            logger.warning("Command history at " + legacyStorage.get().getCommandHistoryFilePath()
+                    + " could not be imported: " + e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The history read from this storage is already in the file, so saving it does nothing. Any other history
+     * replaces the commands in the file, and in the history read from this storage.
+     */
+    @Override
+    public synchronized void saveCommandHistory(CommandHistory commandHistory) throws IOException {
+        requireNonNull(commandHistory);
+        if (commandHistory == openHistory) {
+            return;
+        }
+
+        if (openHistory == null) {
+            openLog = RingFileCommandLog.open(filePath, capacity);
+            openHistory = new CommandHistory(openLog);
+        }
+        openHistory.reset(commandHistory.getEntries());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Unmaps the ring file, so that it may be deleted or replaced, even on platforms that do not allow it while the
+     * file is mapped. Reading the history again maps the file anew.
+     */
+    @Override
+    public synchronized void closeCommandHistory() {
+        if (openLog != null) {
+            // The history locks itself while using its log, so it cannot be in the middle of an append
+            synchronized (openHistory) {
+                openLog.close();
+            }
+            openLog = null;
+            openHistory = null;
+        }
+    }
+}
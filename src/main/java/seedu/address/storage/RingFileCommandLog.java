@@ -0,0 +1,337 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.history.CommandLog;
+
+/**
+ * A {@link CommandLog} kept in a memory-mapped file of fixed size, used as a ring: each entry is written after the
+ * newest entry, wrapping around to the start of the file and overwriting the oldest entries once the end is reached.
+ * <p>
+ * Appending writes only the new entry and the header, and forces both to the disk, so each entry is kept even if the
+ * application does not stop normally. Entries are read straight from the file, so only the header is held in memory
+ * however many entries the file holds.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes, followed by the entries. Each entry is stored as its
+ * length in bytes, its text in UTF-8, and its length again, so that the entries can be walked in either direction.
+ * The last entry read is remembered, so reading the entries in order, or the entry beside the last one read, takes
+ * constant time.
+ * <p>
+ * The file stays mapped until the log is closed. The JDK only unmaps a file once its mapping is garbage collected, so
+ * closing unmaps it explicitly where the runtime allows, as a mapped file cannot be deleted on some platforms.
+ */
+class RingFileCommandLog implements CommandLog {
+    static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC = 0x41534348; // "ASCH"
+    private static final int VERSION = 1;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+    private static final int RECORD_OVERHEAD = 2 * LENGTH_SIZE;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int COUNT_OFFSET = 12;
+    private static final int OLDEST_OFFSET = 16;
+    private static final int END_OFFSET = 20;
+    private static final int WRAP_OFFSET = 24;
+
+    private static final Logger logger = LogsCenter.getLogger(RingFileCommandLog.class);
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private boolean isClosed;
+
+    // The entries take up [oldest, end) unless they wrap, in which case they take up [oldest, wrap) and then [0, end)
+    private int count;
+    private int oldest;
+    private int end;
+    private int wrap;
+
+    // The index and position of the last entry read
+    private int cursorIndex = -1;
+    private int cursorPosition;
+
+    private RingFileCommandLog(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.count = buffer.getInt(COUNT_OFFSET);
+        this.oldest = buffer.getInt(OLDEST_OFFSET);
+        this.end = buffer.getInt(END_OFFSET);
+        this.wrap = buffer.getInt(WRAP_OFFSET);
+    }
+
+    /**
+     * Opens the log in {@code filePath}, first creating an empty log with room for {@code capacity} bytes of entries
+     * if the file does not exist. An existing file keeps the capacity it was created with.
+     *
+     * @throws IOException if the file could not be mapped, or does not hold a valid log.
+     */
+    static RingFileCommandLog open(Path filePath, int capacity) throws IOException {
+        requireNonNull(filePath);
+        checkArgument(capacity > RECORD_OVERHEAD, "Capacity must be greater than " + RECORD_OVERHEAD + " bytes");
+
+        boolean isNew = !Files.exists(filePath);
+        if (isNew && filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long size = isNew ? (long) HEADER_SIZE + capacity : channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a command history file: " + filePath);
+            }
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (isNew) {
+                buffer.putInt(MAGIC_OFFSET, MAGIC);
+                buffer.putInt(VERSION_OFFSET, VERSION);
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.force(0, HEADER_SIZE);
+            }
+            checkHeader(buffer, filePath);
+            return new RingFileCommandLog(buffer);
+        }
+    }
+
+    private static void checkHeader(ByteBuffer buffer, Path filePath) throws IOException {
+        if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IOException("Not a command history file: " + filePath);
+        }
+        if (buffer.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Unsupported command history file version " + buffer.getInt(VERSION_OFFSET)
+                    + ": " + filePath);
+        }
+
+        int capacity = buffer.getInt(CAPACITY_OFFSET);
+        int count = buffer.getInt(COUNT_OFFSET);
+        int oldest = buffer.getInt(OLDEST_OFFSET);
+        int end = buffer.getInt(END_OFFSET);
+        int wrap = buffer.getInt(WRAP_OFFSET);
+        boolean isWrapped = wrap > 0;
+        boolean isValid = capacity == buffer.capacity() - HEADER_SIZE && count >= 0
+                && oldest >= 0 && end >= 0 && wrap >= 0 && wrap <= capacity
+                && (isWrapped ? end <= oldest && oldest < wrap : oldest <= end && end <= capacity);
+        if (!isValid) {
+            throw new IOException("Corrupted command history file header: " + filePath);
+        }
+    }
+
+    @Override
+    public void append(String entry) {
+        requireNonNull(entry);
+        requireOpen();
+        byte[] text = entry.getBytes(StandardCharsets.UTF_8);
+        int recordSize = text.length + RECORD_OVERHEAD;
+        checkArgument(recordSize <= capacity, "Entry is too long to be kept in the command history");
+
+        int position = makeRoom(recordSize);
+        buffer.putInt(HEADER_SIZE + position, text.length);
+        buffer.put(HEADER_SIZE + position + LENGTH_SIZE, text);
+        buffer.putInt(HEADER_SIZE + position + LENGTH_SIZE + text.length, text.length);
+        buffer.force(HEADER_SIZE + position, recordSize);
+
+        end = position + recordSize;
+        count++;
+        writeHeader();
+    }
+
+    /**
+     * Drops the oldest entries until {@code recordSize} bytes are free after the newest entry, wrapping around to the
+     * start of the file if they are not free before its end, and returns where the free bytes start.
+     * <p>
+     * If any entry is dropped, the header is written before returning, so that it never points at an entry that the
+     * new entry may overwrite.
+     */
+    private int makeRoom(int recordSize) {
+        boolean isChanged = false;
+        while (true) {
+            if (count == 0) {
+                oldest = 0;
+                end = 0;
+                wrap = 0;
+                break;
+            }
+            if (!isWrapped()) {
+                if (capacity - end >= recordSize) {
+                    break;
+                }
+                wrap = end;
+                end = 0;
+                isChanged = true;
+            }
+            if (oldest - end >= recordSize) {
+                break;
+            }
+            dropOldest();
+            isChanged = true;
+        }
+        if (isChanged) {
+            writeHeader();
+        }
+        return end;
+    }
+
+    private void dropOldest() {
+        oldest += recordSizeAt(oldest);
+        count--;
+        if (isWrapped() && oldest == wrap) {
+            oldest = 0;
+            wrap = 0;
+        }
+        if (cursorIndex >= 0) {
+            cursorIndex--;
+        }
+    }
+
+    @Override
+    public void clear() {
+        requireOpen();
+        count = 0;
+        oldest = 0;
+        end = 0;
+        wrap = 0;
+        cursorIndex = -1;
+        writeHeader();
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The entry is found by walking from the last entry read, or from the oldest or newest entry if one of them is
+     * closer.
+     */
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, count);
+        requireOpen();
+        if (cursorIndex < 0 || Math.abs(index - cursorIndex) > Math.min(index, count - 1 - index)) {
+            if (index < count - 1 - index) {
+                cursorIndex = 0;
+                cursorPosition = oldest;
+            } else {
+                cursorIndex = count - 1;
+                cursorPosition = previousPosition(end);
+            }
+        }
+        while (cursorIndex < index) {
+            cursorPosition = nextPosition(cursorPosition);
+            cursorIndex++;
+        }
+        while (cursorIndex > index) {
+            cursorPosition = previousPosition(cursorPosition);
+            cursorIndex--;
+        }
+
+        int length = lengthAt(cursorPosition);
+        byte[] text = new byte[length];
+        buffer.get(HEADER_SIZE + cursorPosition + LENGTH_SIZE, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the most entries the file can hold, which it holds if every entry is one byte long.
+     */
+    @Override
+    public int getMaxEntries() {
+        return capacity / (RECORD_OVERHEAD + 1);
+    }
+
+    /**
+     * Returns the number of bytes of entries the file can hold.
+     */
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Unmaps the file. Entries appended so far are already on the disk, so nothing is lost.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        unmap(buffer);
+    }
+
+    /**
+     * Frees the mapping of {@code buffer} at once through {@code sun.misc.Unsafe#invokeCleaner}, leaving it to the
+     * garbage collector if that is not available. The buffer must not be accessed afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine(() -> "Command history file left to be unmapped when garbage collected: " + e);
+        }
+    }
+
+    private void requireOpen() {
+        if (isClosed) {
+            throw new IllegalStateException("The command history file has been closed");
+        }
+    }
+
+    private boolean isWrapped() {
+        return wrap > 0;
+    }
+
+    private int nextPosition(int position) {
+        int next = position + recordSizeAt(position);
+        return isWrapped() && next == wrap ? 0 : next;
+    }
+
+    /**
+     * Returns the position of the entry that ends at {@code position}, or at the wrap point if {@code position} is
+     * the start of the file.
+     */
+    private int previousPosition(int position) {
+        int previousEnd = position == 0 ? wrap : position;
+        int length = buffer.getInt(HEADER_SIZE + previousEnd - LENGTH_SIZE);
+        return previousEnd - length - RECORD_OVERHEAD;
+    }
+
+    private int recordSizeAt(int position) {
+        return lengthAt(position) + RECORD_OVERHEAD;
+    }
+
+    private int lengthAt(int position) {
+        int length = buffer.getInt(HEADER_SIZE + position);
+        if (length < 0 || length > capacity - position - RECORD_OVERHEAD) {
+            throw new IllegalStateException("Corrupted command history entry at byte " + position);
+        }
+        return length;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(COUNT_OFFSET, count);
+        buffer.putInt(OLDEST_OFFSET, oldest);
+        buffer.putInt(END_OFFSET, end);
+        buffer.putInt(WRAP_OFFSET, wrap);
+        buffer.force(0, HEADER_SIZE);
+    }
+}
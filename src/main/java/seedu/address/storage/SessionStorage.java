@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -18,6 +19,12 @@ public interface SessionStorage {
     /** Reads the session snapshot with the latest timestamp, if any. */
     Optional<SessionData> readSession() throws DataLoadingException;
 
+    /**
+     * Reads the session snapshot with the latest timestamp, if any was saved at or after {@code time}. Snapshots
+     * saved before {@code time} are never read in full.
+     */
+    Optional<SessionData> readSessionSavedSince(Instant time) throws DataLoadingException;
+
     /** Persists a new session snapshot. */
     void saveSession(SessionData sessionData) throws IOException;
 }
@@ -0,0 +1,51 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A Java Flight Recorder event for reading the latest session snapshot or saving one.
+ */
+@Name(SessionStorageEvent.NAME)
+@Label("Session Storage")
+@Category({"AssetSphere", "Storage"})
+@Description("Reading the latest session snapshot from the session files, or saving a session snapshot")
+class SessionStorageEvent extends Event {
+    static final String NAME = "seedu.address.SessionStorage";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Files")
+    private int fileCount;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    /**
+     * Ends this event and commits it as the {@code operation} of {@code files}, whose session holds
+     * {@code personCount} persons, if it is being recorded. The files are only measured if the event is committed.
+     */
+    void commit(String operation, List<Path> files, int personCount) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.fileCount = files.size();
+            this.bytes = files.stream().mapToLong(FileUtil::sizeOf).sum();
+            this.personCount = personCount;
+            commit();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -42,6 +43,9 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, SessionSt
     @Override
     Optional<SessionData> readSession() throws DataLoadingException;
 
+    @Override
+    Optional<SessionData> readSessionSavedSince(Instant time) throws DataLoadingException;
+
     @Override
     Path getSessionDirectory();
 
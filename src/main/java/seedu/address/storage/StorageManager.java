@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -67,7 +68,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -78,7 +79,7 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
@@ -92,16 +93,21 @@ public class StorageManager implements Storage {
     @Override
     public Optional<CommandHistory> readCommandHistory()
             throws DataLoadingException {
-        logger.fine("Attempting to read command history from file: " + getCommandHistoryFilePath());
+        logger.fine(() -> "Attempting to read command history from file: " + getCommandHistoryFilePath());
         return commandHistoryStorage.readCommandHistory();
     }
 
     @Override
     public void saveCommandHistory(CommandHistory commandHistory) throws IOException {
-        logger.fine("Attempting to write command history to data file: " + getCommandHistoryFilePath());
+        logger.fine(() -> "Attempting to write command history to data file: " + getCommandHistoryFilePath());
         commandHistoryStorage.saveCommandHistory(commandHistory);
     }
 
+    @Override
+    public void closeCommandHistory() {
+        commandHistoryStorage.closeCommandHistory();
+    }
+
     // ================ Session methods ==============================
 
     @Override
@@ -109,6 +115,11 @@ public class StorageManager implements Storage {
         return sessionStorage.readSession();
     }
 
+    @Override
+    public Optional<SessionData> readSessionSavedSince(Instant time) throws DataLoadingException {
+        return sessionStorage.readSessionSavedSince(time);
+    }
+
     @Override
     public void saveSession(SessionData sessionData) throws IOException {
         sessionStorage.saveSession(sessionData);
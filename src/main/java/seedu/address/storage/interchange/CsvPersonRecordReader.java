@@ -0,0 +1,203 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Reads {@code PersonRecord}s from RFC 4180 style CSV. The first row must be a header naming each column; the
+ * {@code name}, {@code phone}, {@code email} and {@code address} columns are required, {@code tags} (separated by
+ * {@value #TAG_SEPARATOR}) and {@code info} are optional, and any other column is read as a custom field of the same
+ * name. Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class CsvPersonRecordReader implements PersonRecordReader {
+    public static final String TAG_SEPARATOR = ";";
+    public static final List<String> REQUIRED_COLUMNS = List.of("name", "phone", "email", "address");
+
+    private final BufferedReader reader;
+    private final String[] customFieldNames;
+    private int nameColumn = -1;
+    private int phoneColumn = -1;
+    private int emailColumn = -1;
+    private int addressColumn = -1;
+    private int tagsColumn = -1;
+    private int infoColumn = -1;
+
+    private int linesRead;
+    private int rowStartLine;
+
+    /**
+     * Constructs a {@code CsvPersonRecordReader} and reads the header row from {@code reader}.
+     *
+     * @throws IOException if the header is missing, incomplete or names a column more than once.
+     */
+    public CsvPersonRecordReader(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        this.reader = reader;
+
+        List<String> header = readRow();
+        if (header == null) {
+            throw new IOException("The file is empty: expected a header row.");
+        }
+
+        customFieldNames = new String[header.size()];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            String key = column.toLowerCase(Locale.ROOT);
+            if (column.isEmpty()) {
+                throw new IOException("Header column " + (i + 1) + " is blank.");
+            }
+            if (!seen.add(key)) {
+                throw new IOException("Header names column \"" + column + "\" more than once.");
+            }
+            assignColumn(key, column, i);
+        }
+
+        List<String> missing = new ArrayList<>();
+        int[] required = {nameColumn, phoneColumn, emailColumn, addressColumn};
+        for (int i = 0; i < required.length; i++) {
+            if (required[i] < 0) {
+                missing.add(REQUIRED_COLUMNS.get(i));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IOException("Header is missing required columns: " + String.join(", ", missing));
+        }
+    }
+
+    private void assignColumn(String key, String column, int index) throws IOException {
+        switch (key) {
+        case "name":
+            nameColumn = index;
+            break;
+        case "phone":
+            phoneColumn = index;
+            break;
+        case "email":
+            emailColumn = index;
+            break;
+        case "address":
+            addressColumn = index;
+            break;
+        case "tag":
+        case "tags":
+            tagsColumn = index;
+            break;
+        case "info":
+            infoColumn = index;
+            break;
+        default:
+            if (Person.RESERVED_CUSTOM_FIELD_NAMES.contains(key)) {
+                throw new IOException("Column \"" + column + "\" cannot be used as a custom field name.");
+            }
+            customFieldNames[index] = column;
+        }
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).isBlank());
+
+        Map<String, String> customFields = new LinkedHashMap<>();
+        for (int i = 0; i < customFieldNames.length && i < row.size(); i++) {
+            if (customFieldNames[i] != null && !row.get(i).isBlank()) {
+                customFields.put(customFieldNames[i], row.get(i).trim());
+            }
+        }
+
+        String tagsCell = cell(row, tagsColumn);
+        List<String> tags = tagsCell == null || tagsCell.isBlank()
+                ? List.of()
+                : Arrays.stream(tagsCell.split(TAG_SEPARATOR)).map(String::trim).filter(t -> !t.isEmpty()).toList();
+
+        return new PersonRecord(rowStartLine, cell(row, nameColumn), cell(row, phoneColumn), cell(row, emailColumn),
+                cell(row, addressColumn), tags, customFields, cell(row, infoColumn));
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private static String cell(List<String> row, int column) {
+        if (column < 0 || column >= row.size()) {
+            return null;
+        }
+        String value = row.get(column);
+        return value.isBlank() ? null : value;
+    }
+
+    /**
+     * Reads one CSV row, which may span several lines if a quoted field contains line breaks.
+     *
+     * @return The fields of the row, or null at the end of the input.
+     */
+    private List<String> readRow() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        linesRead++;
+        rowStartLine = linesRead;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // a quoted field continues onto the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field in row starting on line " + rowStartLine + ".");
+                }
+                linesRead++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes {@code Person}s as RFC 4180 style CSV that {@code CsvPersonRecordReader} can read back. The header names the
+ * {@code name}, {@code phone}, {@code email}, {@code address}, {@code tags} and {@code info} columns, followed by one
+ * column per custom field given on construction. Fields are quoted only when they need to be.
+ */
+public class CsvPersonRecordWriter implements PersonRecordWriter {
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private final List<String> customFieldNames;
+
+    /**
+     * Constructs a {@code CsvPersonRecordWriter} and writes the header row to {@code writer}.
+     */
+    public CsvPersonRecordWriter(Writer writer, List<String> customFieldNames) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(customFieldNames);
+        this.writer = writer;
+        this.customFieldNames = List.copyOf(customFieldNames);
+
+        List<String> header = new ArrayList<>(CsvPersonRecordReader.REQUIRED_COLUMNS);
+        header.add("tags");
+        header.add("info");
+        header.addAll(this.customFieldNames);
+        writeRow(header);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        List<String> row = new ArrayList<>(6 + customFieldNames.size());
+        row.add(person.getName().fullName);
+        row.add(person.getPhone().value);
+        row.add(person.getEmail().value);
+        row.add(person.getAddress().value);
+        row.add(person.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.joining(CsvPersonRecordReader.TAG_SEPARATOR)));
+        row.add(person.getInfo().value);
+        for (String fieldName : customFieldNames) {
+            row.add(person.getCustomFields().getOrDefault(fieldName, ""));
+        }
+        writeRow(row);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeRow(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuoting(field)) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        if (Character.isWhitespace(field.charAt(0)) || Character.isWhitespace(field.charAt(field.length() - 1))) {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage.interchange;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * File formats that persons can be imported from or exported to.
+ */
+public enum InterchangeFormat {
+    CSV("csv", "csv"),
+    VCARD("vcard", "vcf", "vcard"),
+    JSONL("jsonl", "jsonl", "ndjson");
+
+    private final String name;
+    private final List<String> extensions;
+
+    InterchangeFormat(String name, String... extensions) {
+        this.name = name;
+        this.extensions = List.of(extensions);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the format with the given user-facing {@code name}, ignoring case.
+     */
+    public static Optional<InterchangeFormat> fromName(String name) {
+        String normalised = name.trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(format -> format.name.equals(normalised)).findFirst();
+    }
+
+    /**
+     * Returns the format conventionally associated with the extension of {@code fileName}, ignoring case.
+     */
+    public static Optional<InterchangeFormat> fromFileName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        String extension = fileName.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(format -> format.extensions.contains(extension)).findFirst();
+    }
+}
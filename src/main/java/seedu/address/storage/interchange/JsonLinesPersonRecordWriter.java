@@ -0,0 +1,66 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes {@code Person}s as JSON Lines: one JSON object per line, holding the person's {@code name}, {@code phone},
+ * {@code email}, {@code address}, {@code tags}, {@code customFields} and {@code info}. Objects are generated directly
+ * onto the underlying writer without building a tree first.
+ */
+public class JsonLinesPersonRecordWriter implements PersonRecordWriter {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    /**
+     * Constructs a {@code JsonLinesPersonRecordWriter} over {@code writer}.
+     */
+    public JsonLinesPersonRecordWriter(Writer writer) throws IOException {
+        requireNonNull(writer);
+        generator = JSON_FACTORY.createGenerator(writer);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        writePerson(generator, person);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Generates {@code person} as one JSON object onto {@code generator}, in the format of a JSON Lines record.
+     */
+    public static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeArrayFieldStart("tags");
+        for (String tagName : person.getTags().stream().map(tag -> tag.tagName).sorted().toList()) {
+            generator.writeString(tagName);
+        }
+        generator.writeEndArray();
+        generator.writeObjectFieldStart("customFields");
+        for (Map.Entry<String, String> field : person.getCustomFields().entrySet()) {
+            generator.writeStringField(field.getKey(), field.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeStringField("info", person.getInfo().value);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
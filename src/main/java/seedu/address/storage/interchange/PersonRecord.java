@@ -0,0 +1,70 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An unvalidated person read from an interchange file, along with the line it starts on. Any field may be null when
+ * absent from the file.
+ */
+public class PersonRecord {
+    private final int lineNumber;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+    private final Map<String, String> customFields;
+    private final String info;
+
+    /**
+     * Constructs a {@code PersonRecord}. {@code tags} and {@code customFields} must not be null.
+     */
+    public PersonRecord(int lineNumber, String name, String phone, String email, String address,
+                        List<String> tags, Map<String, String> customFields, String info) {
+        requireNonNull(tags);
+        requireNonNull(customFields);
+        this.lineNumber = lineNumber;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.tags = tags;
+        this.customFields = customFields;
+        this.info = info;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Map<String, String> getCustomFields() {
+        return customFields;
+    }
+
+    public String getInfo() {
+        return info;
+    }
+}
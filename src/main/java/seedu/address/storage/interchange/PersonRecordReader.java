@@ -0,0 +1,49 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Streams {@code PersonRecord}s out of an interchange file one record at a time, so that files of any size can be
+ * read in bounded memory.
+ */
+public interface PersonRecordReader extends Closeable {
+
+    /**
+     * Reads the next record.
+     *
+     * @return The next record, or null if the end of the file has been reached.
+     * @throws IOException if the file cannot be read or is structurally malformed.
+     */
+    PersonRecord read() throws IOException;
+
+    /**
+     * Opens a reader over the file at {@code path} in the given {@code format}.
+     *
+     * @throws IOException if the file cannot be opened or does not start with a valid header.
+     */
+    static PersonRecordReader open(Path path, InterchangeFormat format) throws IOException {
+        requireNonNull(path);
+        requireNonNull(format);
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        try {
+            switch (format) {
+            case CSV:
+                return new CsvPersonRecordReader(reader);
+            case VCARD:
+                return new VcardPersonRecordReader(reader);
+            default:
+                throw new IOException("Importing from " + format.getName() + " is not supported.");
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+}
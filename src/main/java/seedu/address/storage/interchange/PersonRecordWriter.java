@@ -0,0 +1,56 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Streams {@code Person}s into an interchange file one person at a time, so that address books of any size can be
+ * written in bounded memory.
+ */
+public interface PersonRecordWriter extends Closeable {
+
+    /**
+     * Writes {@code person} as the next record.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    void write(Person person) throws IOException;
+
+    /**
+     * Opens a writer that creates or overwrites the file at {@code path} in the given {@code format}.
+     *
+     * @param customFieldNames Names of the custom fields to write, for formats that must declare them up front.
+     * @throws IOException if the file cannot be opened or its header cannot be written.
+     */
+    static PersonRecordWriter open(Path path, InterchangeFormat format, List<String> customFieldNames)
+            throws IOException {
+        requireNonNull(path);
+        requireNonNull(format);
+        requireNonNull(customFieldNames);
+        BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+        try {
+            switch (format) {
+            case CSV:
+                return new CsvPersonRecordWriter(writer, customFieldNames);
+            case VCARD:
+                return new VcardPersonRecordWriter(writer);
+            case JSONL:
+                return new JsonLinesPersonRecordWriter(writer);
+            default:
+                throw new IOException("Exporting to " + format.getName() + " is not supported.");
+            }
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+    }
+}
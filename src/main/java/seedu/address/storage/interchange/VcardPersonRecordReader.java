@@ -0,0 +1,212 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Reads {@code PersonRecord}s from vCard (versions 2.1 to 4.0) files. The formatted name ({@code FN}, falling back to
+ * {@code N}), the first {@code TEL}, {@code EMAIL} and {@code ADR}, all {@code CATEGORIES} and the {@code NOTE} are
+ * read into the person's name, phone, email, address, tags and info; {@code ORG} and {@code TITLE} are read into the
+ * {@value #ORGANISATION_FIELD} and {@value #TITLE_FIELD} custom fields. Other properties are ignored.
+ */
+public class VcardPersonRecordReader implements PersonRecordReader {
+    public static final String ORGANISATION_FIELD = "company";
+    public static final String TITLE_FIELD = "title";
+
+    private final BufferedReader reader;
+    private String lookahead;
+    private int linesRead;
+    private int logicalLineStart;
+
+    /**
+     * Constructs a {@code VcardPersonRecordReader} over {@code reader}.
+     */
+    public VcardPersonRecordReader(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        this.reader = reader;
+        lookahead = readPhysicalLine();
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        String line;
+        do {
+            line = readLogicalLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        if (!line.trim().equalsIgnoreCase("BEGIN:VCARD")) {
+            throw new IOException("Expected BEGIN:VCARD on line " + logicalLineStart + ".");
+        }
+        int cardStartLine = logicalLineStart;
+
+        String formattedName = null;
+        String structuredName = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String note = null;
+        List<String> tags = new ArrayList<>();
+        Map<String, String> customFields = new LinkedHashMap<>();
+
+        while (true) {
+            line = readLogicalLine();
+            if (line == null) {
+                throw new IOException("Unterminated vCard starting on line " + cardStartLine + ".");
+            }
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+
+            String property = propertyName(line.substring(0, colon));
+            String rawValue = line.substring(colon + 1);
+            switch (property) {
+            case "END":
+                return new PersonRecord(cardStartLine, formattedName != null ? formattedName : structuredName,
+                        phone, email, address, tags, customFields, note);
+            case "FN":
+                formattedName = blankToNull(unescape(rawValue));
+                break;
+            case "N":
+                structuredName = blankToNull(joinStructuredName(split(rawValue, ';')));
+                break;
+            case "TEL":
+                phone = phone != null ? phone : blankToNull(unescape(rawValue));
+                break;
+            case "EMAIL":
+                email = email != null ? email : blankToNull(unescape(rawValue));
+                break;
+            case "ADR":
+                address = address != null ? address : blankToNull(split(rawValue, ';').stream()
+                        .map(String::trim).filter(part -> !part.isEmpty()).collect(Collectors.joining(", ")));
+                break;
+            case "CATEGORIES":
+                split(rawValue, ',').stream().map(String::trim).filter(tag -> !tag.isEmpty()).forEach(tags::add);
+                break;
+            case "NOTE":
+                note = blankToNull(unescape(rawValue));
+                break;
+            case "ORG":
+                putIfPresent(customFields, ORGANISATION_FIELD, split(rawValue, ';').get(0));
+                break;
+            case "TITLE":
+                putIfPresent(customFields, TITLE_FIELD, unescape(rawValue));
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the upper-cased property name of a content line's name part, without its group and parameters, e.g.
+     * {@code TEL} for {@code item1.TEL;TYPE=cell}.
+     */
+    private static String propertyName(String namePart) {
+        int semicolon = namePart.indexOf(';');
+        String name = semicolon < 0 ? namePart : namePart.substring(0, semicolon);
+        int dot = name.lastIndexOf('.');
+        return name.substring(dot + 1).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Joins the given and family names of a structured {@code N} value (family;given;additional;prefix;suffix).
+     */
+    private static String joinStructuredName(List<String> components) {
+        List<String> ordered = new ArrayList<>();
+        for (int i : new int[] {3, 1, 2, 0, 4}) {
+            if (i < components.size() && !components.get(i).isBlank()) {
+                ordered.add(components.get(i).trim());
+            }
+        }
+        return String.join(" ", ordered);
+    }
+
+    private static void putIfPresent(Map<String, String> fields, String key, String value) {
+        if (!value.isBlank()) {
+            fields.put(key, value.trim());
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value.isBlank() ? null : value;
+    }
+
+    /**
+     * Splits a raw property value on unescaped occurrences of {@code separator}, unescaping each component.
+     */
+    private static List<String> split(String rawValue, char separator) {
+        List<String> components = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < rawValue.length(); i++) {
+            char c = rawValue.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == separator) {
+                components.add(unescape(rawValue.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        components.add(unescape(rawValue.substring(start)));
+        return components;
+    }
+
+    private static String unescape(String rawValue) {
+        if (rawValue.indexOf('\\') < 0) {
+            return rawValue;
+        }
+        StringBuilder value = new StringBuilder(rawValue.length());
+        for (int i = 0; i < rawValue.length(); i++) {
+            char c = rawValue.charAt(i);
+            if (c == '\\' && i + 1 < rawValue.length()) {
+                char escaped = rawValue.charAt(++i);
+                value.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                value.append(c);
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Reads one content line, joining folded continuation lines (those starting with a space or tab).
+     */
+    private String readLogicalLine() throws IOException {
+        if (lookahead == null) {
+            return null;
+        }
+        logicalLineStart = linesRead;
+        StringBuilder line = new StringBuilder(lookahead);
+        lookahead = readPhysicalLine();
+        while (lookahead != null && !lookahead.isEmpty()
+                && (lookahead.charAt(0) == ' ' || lookahead.charAt(0) == '\t')) {
+            line.append(lookahead, 1, lookahead.length());
+            lookahead = readPhysicalLine();
+        }
+        return line.toString();
+    }
+
+    private String readPhysicalLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            linesRead++;
+        }
+        return line;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage.interchange;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Writes {@code Person}s as vCard 3.0 cards that {@code VcardPersonRecordReader} can read back. Each person's name,
+ * phone, email, address, tags and info are written as {@code FN}, {@code TEL}, {@code EMAIL}, {@code ADR},
+ * {@code CATEGORIES} and {@code NOTE}, and the {@value VcardPersonRecordReader#ORGANISATION_FIELD} and
+ * {@value VcardPersonRecordReader#TITLE_FIELD} custom fields as {@code ORG} and {@code TITLE}. vCard has no place for
+ * other custom fields, so they are not written.
+ */
+public class VcardPersonRecordWriter implements PersonRecordWriter {
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /** Maximum number of characters on one physical line before it is folded. */
+    private static final int MAX_LINE_LENGTH = 75;
+
+    private final Writer writer;
+
+    /**
+     * Constructs a {@code VcardPersonRecordWriter} over {@code writer}.
+     */
+    public VcardPersonRecordWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        String name = escape(person.getName().fullName);
+        writeLine("BEGIN:VCARD");
+        writeLine("VERSION:3.0");
+        writeLine("FN:" + name);
+        writeLine("N:" + name + ";;;;");
+        writeLine("TEL:" + escape(person.getPhone().value));
+        writeLine("EMAIL:" + escape(person.getEmail().value));
+        writeLine("ADR:;;" + escape(person.getAddress().value) + ";;;;");
+        if (!person.getTags().isEmpty()) {
+            writeLine("CATEGORIES:" + person.getTags().stream().map(tag -> escape(tag.tagName)).sorted()
+                    .collect(Collectors.joining(",")));
+        }
+        if (!person.getInfo().value.isEmpty()) {
+            writeLine("NOTE:" + escape(person.getInfo().value));
+        }
+        String organisation = person.getCustomFields().get(VcardPersonRecordReader.ORGANISATION_FIELD);
+        if (organisation != null) {
+            writeLine("ORG:" + escape(organisation));
+        }
+        String title = person.getCustomFields().get(VcardPersonRecordReader.TITLE_FIELD);
+        if (title != null) {
+            writeLine("TITLE:" + escape(title));
+        }
+        writeLine("END:VCARD");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Writes one content line, folding it onto continuation lines that start with a space if it is too long.
+     */
+    private void writeLine(String line) throws IOException {
+        int start = 0;
+        int limit = MAX_LINE_LENGTH;
+        while (line.length() - start > limit) {
+            int end = start + limit;
+            if (Character.isHighSurrogate(line.charAt(end - 1))) {
+                end--;
+            }
+            writer.write(line, start, end - start);
+            writer.write(LINE_SEPARATOR);
+            writer.write(' ');
+            start = end;
+            limit = MAX_LINE_LENGTH - 1;
+        }
+        writer.write(line, start, line.length() - start);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\':
+            case ',':
+            case ';':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -8,6 +9,7 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.decoder.Bindings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.exceptions.AssemblyException;
 import seedu.address.model.history.CommandHistory;
@@ -76,12 +78,13 @@ public class CommandBox extends UiPart<Region> {
         textFieldAdapter.addTextChangeListener(() -> {
             setStyleToDefault();
             if (!navigatingHistory) {
-                historyNavigator.reset(historySupplier.getHistory().getEntries());
+                historyNavigator.reset(historySupplier.getHistory());
             }
         });
         // hook up key event handling on the real TextField directly
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleHistoryNavigation);
-        historyNavigator.reset(historySupplier.getHistory().getEntries());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleAutocompletion);
+        historyNavigator.reset(historySupplier.getHistory());
     }
 
     /**
@@ -99,11 +102,11 @@ public class CommandBox extends UiPart<Region> {
         textFieldAdapter.addTextChangeListener(() -> {
             setStyleToDefault();
             if (!navigatingHistory) {
-                historyNavigator.reset(historySupplier.getHistory().getEntries());
+                historyNavigator.reset(historySupplier.getHistory());
             }
         });
         // No TextField available in this test-friendly ctor, so no event filter to install.
-        historyNavigator.reset(historySupplier.getHistory().getEntries());
+        historyNavigator.reset(historySupplier.getHistory());
     }
 
     /**
@@ -119,10 +122,10 @@ public class CommandBox extends UiPart<Region> {
         try {
             commandExecutor.execute(commandText);
             setCommandText("");
-            historyNavigator.reset(historySupplier.getHistory().getEntries());
+            historyNavigator.reset(historySupplier.getHistory());
         } catch (CommandException | AssemblyException e) {
             setStyleToIndicateCommandFailure();
-            historyNavigator.reset(historySupplier.getHistory().getEntries());
+            historyNavigator.reset(historySupplier.getHistory());
         }
     }
 
@@ -144,6 +147,36 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    private void handleAutocompletion(KeyEvent event) {
+        if (event.getCode() == KeyCode.TAB) {
+            autocompleteImperative();
+            // keep focus in the command box even if there is nothing to complete
+            event.consume();
+        }
+    }
+
+    /**
+     * Completes the imperative being typed, as far as the imperatives it could begin agree. Does nothing once the
+     * imperative has been followed by a space, or if no imperative begins with the text typed.
+     *
+     * @return True if the text was completed, else false.
+     */
+    /* package-private */ boolean autocompleteImperative() {
+        String commandText = textFieldAdapter.getText();
+        if (commandText.isEmpty() || commandText.contains(" ")) {
+            return false;
+        }
+
+        Optional<String> completion = Bindings.completeImperative(commandText);
+        if (completion.isEmpty() || completion.get().equals(commandText)) {
+            return false;
+        }
+
+        textFieldAdapter.setText(completion.get());
+        textFieldAdapter.positionCaret(completion.get().length());
+        return true;
+    }
+
     /**
      * Sets the command text field to the given text.
      */
@@ -188,7 +221,7 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Supplies snapshots of the command history for navigation.
+     * Supplies the command history to navigate, which is read as it is navigated rather than copied.
      */
     @FunctionalInterface
     public interface HistorySupplier {
@@ -1,19 +1,21 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import seedu.address.model.history.CommandHistory;
+
 /**
  * Pure logic for navigating a list of command history entries.
  *
  * This class encapsulates the pointer behaviour used by {@link CommandBox} so it can be tested
- * without initializing JavaFX.
+ * without initializing JavaFX. Entries are read one at a time from the {@link CommandHistory} being
+ * navigated, so the history is never copied.
  */
 public class HistoryNavigator {
 
-    private List<String> history = new ArrayList<>();
+    private CommandHistory history = new CommandHistory();
     private int pointer = 0; // points to current index in history; pointer == history.size() means "after last" (empty)
 
     /**
@@ -21,8 +23,17 @@ public class HistoryNavigator {
      */
     public void reset(List<String> entries) {
         Objects.requireNonNull(entries);
-        this.history = new ArrayList<>(entries);
-        this.pointer = this.history.size();
+        reset(new CommandHistory(entries, Math.max(entries.size(), 1)));
+    }
+
+    /**
+     * Reset the navigator to navigate {@code history}, which is read as it is navigated rather than copied.
+     * The pointer moves to the end.
+     */
+    public void reset(CommandHistory history) {
+        Objects.requireNonNull(history);
+        this.history = history;
+        this.pointer = history.size();
     }
 
     /**
@@ -71,7 +82,7 @@ public class HistoryNavigator {
      * Returns an immutable snapshot of the current entries used by the navigator.
      */
     public List<String> getEntries() {
-        return List.copyOf(history);
+        return history.getEntries();
     }
 
     /**
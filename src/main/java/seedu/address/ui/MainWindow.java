@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,7 +17,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.exceptions.AssemblyException;
@@ -23,10 +30,23 @@ import seedu.address.logic.exceptions.AssemblyException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading %1$s...";
+    public static final String MESSAGE_BACKGROUND_TASK_FAILED = "Could not complete the command: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    /**
+     * Runs the background tasks of command results one at a time, off the JavaFX application thread. The thread does
+     * not keep the application running, so {@link #awaitBackgroundTasks()} must be called before it stops.
+     */
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Stage primaryStage;
     private Logic logic;
 
@@ -51,17 +71,17 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized by {@code guiSettings}. Commands cannot be
+     * entered until the window is given a {@code Logic} with {@link #showLogic(Logic)}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        setWindowDefaultSize(guiSettings);
 
         setAccelerators();
 
@@ -109,20 +129,32 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window that do not need a {@code Logic}, showing that the address book at
+     * {@code addressBookFilePath} is being loaded.
      */
-    void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
-
+    void fillInnerParts(Path addressBookFilePath) {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, addressBookFilePath));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(addressBookFilePath);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+    }
+
+    /**
+     * Fills up the remaining placeholders of this window with the persons and command box of {@code logic}, which
+     * commands are then executed with.
+     */
+    void showLogic(Logic logic) {
+        this.logic = logic;
+
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandHistorySnapshot);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandHistory);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        resultDisplay.setFeedbackToUser("");
     }
 
     /**
@@ -160,7 +192,10 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        // The window may be closed while the address book is still being loaded
+        if (logic != null) {
+            logic.setGuiSettings(guiSettings);
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -183,7 +218,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, AssemblyException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -194,11 +229,49 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            commandResult.getBackgroundTask().ifPresent(this::runInBackground);
+
             return commandResult;
         } catch (CommandException | AssemblyException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
     }
+
+    /**
+     * Runs {@code task} on the background executor, showing its progress and outcome in the result display.
+     */
+    private void runInBackground(BackgroundTask task) {
+        backgroundExecutor.execute(() -> {
+            String feedback;
+            try {
+                feedback = task.run(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+            } catch (CommandException e) {
+                logger.info("Background task failed: " + e.getMessage());
+                feedback = e.getMessage();
+            } catch (RuntimeException e) {
+                logger.warning("Background task failed unexpectedly: " + StringUtil.getDetails(e));
+                feedback = String.format(MESSAGE_BACKGROUND_TASK_FAILED, e);
+            }
+            String finalFeedback = feedback;
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(finalFeedback));
+        });
+    }
+
+    /**
+     * Stops accepting background tasks and waits for those already started to finish, so that a task writing a file
+     * is not cut short when the application stops.
+     */
+    void awaitBackgroundTasks() {
+        backgroundExecutor.shutdown();
+        try {
+            while (!backgroundExecutor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.info("Waiting for background tasks to finish...");
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for background tasks to finish");
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -33,7 +32,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -59,73 +59,64 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
     @FXML private FlowPane links;
 
+    /**
+     * Creates an empty {@code PersonCard} that can later be bound to a person with {@link #bind(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Rebinds this card to display {@code person} at {@code displayedIndex}, reusing the existing scene graph.
+     * Rebinding to the person and index already displayed is a no-op.
+     */
+    public void bind(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
         this.person = person;
+        this.displayedIndex = displayedIndex;
+        PersonViewModel viewModel = PersonViewModel.of(person);
         id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        address.setText(person.getAddress().value);
-        email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        name.setText(viewModel.getName());
+        phone.setText(viewModel.getPhone());
+        address.setText(viewModel.getAddress());
+        email.setText(viewModel.getEmail());
+
+        tags.getChildren().clear();
+        viewModel.getTags().forEach(tag -> tags.getChildren().add(new Label(tag)));
 
         links.getChildren().clear();
-        person.getLinks().stream()
-                .sorted((a, b) -> {
-                    int byName = a.getLinkName().compareToIgnoreCase(b.getLinkName());
-                    if (byName != 0) {
-                        return byName;
-                    }
-                    return a.getLinkee().getName().fullName
-                            .compareToIgnoreCase(b.getLinkee().getName().fullName);
-                })
-                .forEach(link -> {
-                    boolean isLinker = link.getLinker().isSamePerson(person);
-                    String otherName = isLinker
-                            ? link.getLinkee().getName().fullName
-                            : link.getLinker().getName().fullName;
-                    String arrow = isLinker ? "→" : "←";
-                    Label pill = new Label(link.getLinkName() + " " + arrow + " " + otherName);
-                    pill.getStyleClass().add("link-label");
-                    links.getChildren().add(pill);
-                });
-
-
-        if (links.getChildren().isEmpty()) {
-            hide(links);
-        }
+        viewModel.getLinks().forEach(link -> {
+            Label pill = new Label(link);
+            pill.getStyleClass().add("link-label");
+            links.getChildren().add(pill);
+        });
+
+        setShown(links, !links.getChildren().isEmpty());
 
         // ----- Custom fields (schema-less key:value) -----
         // We render arbitrary user-defined attributes as "key : value" rows.
         // If there are no rows, the entire section is hidden to keep the card compact.
-        // This PR is UI-only: preview data is supplied behind a feature flag so that master
-        // is not coupled to logic/persistence that does not exist yet.
 
         customFieldsBox.getChildren().clear();
+        viewModel.getCustomFields().forEach(field ->
+                customFieldsBox.getChildren().add(kvRow(field.getKey(), field.getValue())));
 
-        // Real Data
-        Map<String, String> fields = new java.util.LinkedHashMap<>(person.getCustomFields());
-
-        // Stable alphabetical order (case-insensitive) sp cards are predictable to scan.
-        var keys = new java.util.ArrayList<>(fields.keySet());
-        java.util.Collections.sort(keys, String.CASE_INSENSITIVE_ORDER);
-        for (String key : keys) {
-            String val = fields.get(key);
-            if (!val.isBlank()) {
-                customFieldsBox.getChildren().add(kvRow(key, val));
-            }
-        }
-
-        // Back-compat: if no fields were provided by the flag-specific provider above, nothing is shown.
-
-        if (customFieldsBox.getChildren().isEmpty()) {
-            hide(customFieldsBox); // hide LAST
-        }
+        setShown(customFieldsBox, !customFieldsBox.getChildren().isEmpty()); // hide LAST
     }
 
     /**
@@ -157,14 +148,16 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-    * Hides a node from both view and layout.
+    * Shows or hides a node from both view and layout.
     * <p>Using {@code visible=false} stops rendering; {@code managed=false} removes it from
-    * the parent's layout pass so no empty space is reserved.</p>
-    * @param n node to hide
+    * the parent's layout pass so no empty space is reserved. Cards are rebound to different
+    * persons, so a hidden section must be shown again when it has content.</p>
+    * @param n node to show or hide
+    * @param isShown whether the node should be shown
     */
-    private void hide(Node n) {
-        n.setManaged(false);
-        n.setVisible(false);
+    private void setShown(Node n, boolean isShown) {
+        n.setManaged(isShown);
+        n.setVisible(isShown);
     }
 
     /**
@@ -31,8 +31,14 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * <p>
+     * The {@code ListView} only creates enough cells to cover its viewport and recycles them while scrolling, so each
+     * cell owns a single {@code PersonCard} that is rebound to whichever person the cell currently shows. The number
+     * of cards is therefore bounded by the viewport rather than by the size of the address book.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +47,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.bind(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,172 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable, display-ready rendering of a {@code Person}: tags, links and custom fields are already sorted and
+ * formatted the way a {@code PersonCard} shows them.
+ * <p>
+ * Since {@code Person}s are immutable, a view model only needs to be computed once per person. View models are cached
+ * by person identity and held weakly, so an edited person gets a fresh view model while the stale one is collected
+ * together with the person it was computed from.
+ */
+public final class PersonViewModel {
+    private static final Comparator<Link> LINK_ORDER = (a, b) -> {
+        int byName = a.getLinkName().compareToIgnoreCase(b.getLinkName());
+        if (byName != 0) {
+            return byName;
+        }
+        return a.getLinkee().getName().fullName.compareToIgnoreCase(b.getLinkee().getName().fullName);
+    };
+
+    private static final WeakIdentityCache CACHE = new WeakIdentityCache();
+
+    private final String name;
+    private final String phone;
+    private final String address;
+    private final String email;
+    private final List<String> tags;
+    private final List<String> links;
+    private final List<Map.Entry<String, String>> customFields;
+
+    private PersonViewModel(Person person) {
+        name = person.getName().fullName;
+        phone = person.getPhone().value;
+        address = person.getAddress().value;
+        email = person.getEmail().value;
+
+        tags = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .toList();
+
+        links = person.getLinks().stream()
+                .sorted(LINK_ORDER)
+                .map(link -> {
+                    boolean isLinker = link.getLinker().isSamePerson(person);
+                    String otherName = isLinker
+                            ? link.getLinkee().getName().fullName
+                            : link.getLinker().getName().fullName;
+                    String arrow = isLinker ? "→" : "←";
+                    return link.getLinkName() + " " + arrow + " " + otherName;
+                })
+                .toList();
+
+        // Stable alphabetical order (case-insensitive) so cards are predictable to scan; blank values are not shown.
+        List<String> keys = new ArrayList<>(person.getCustomFields().keySet());
+        keys.sort(String.CASE_INSENSITIVE_ORDER);
+        List<Map.Entry<String, String>> fields = new ArrayList<>();
+        for (String key : keys) {
+            String value = person.getCustomFields().get(key);
+            if (!value.isBlank()) {
+                fields.add(Map.entry(key, value));
+            }
+        }
+        customFields = List.copyOf(fields);
+    }
+
+    /**
+     * Returns the view model of {@code person}, computing and caching it if this person has not been rendered before.
+     */
+    public static PersonViewModel of(Person person) {
+        requireNonNull(person);
+        return CACHE.computeIfAbsent(person);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /** Returns tag names in alphabetical order. */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /** Returns formatted link labels, e.g. {@code lawyer → Bob}, ordered by link name and then linkee name. */
+    public List<String> getLinks() {
+        return links;
+    }
+
+    /** Returns non-blank custom fields ordered case-insensitively by key. */
+    public List<Map.Entry<String, String>> getCustomFields() {
+        return customFields;
+    }
+
+    /**
+     * A cache from persons to their view models that compares persons by identity and does not keep them alive.
+     * Entries whose person has been garbage collected are purged on the next access.
+     */
+    private static class WeakIdentityCache {
+        private final Map<IdentityKey, PersonViewModel> map = new HashMap<>();
+        private final ReferenceQueue<Person> queue = new ReferenceQueue<>();
+
+        synchronized PersonViewModel computeIfAbsent(Person person) {
+            purge();
+            IdentityKey key = new IdentityKey(person, queue);
+            PersonViewModel viewModel = map.get(key);
+            if (viewModel == null) {
+                viewModel = new PersonViewModel(person);
+                map.put(key, viewModel);
+            }
+            return viewModel;
+        }
+
+        private void purge() {
+            for (Object stale = queue.poll(); stale != null; stale = queue.poll()) {
+                map.remove(stale);
+            }
+        }
+    }
+
+    /**
+     * A weak reference to a person that is equal only to references to the same person instance.
+     */
+    private static class IdentityKey extends WeakReference<Person> {
+        private final int hash;
+
+        IdentityKey(Person person, ReferenceQueue<Person> queue) {
+            super(person, queue);
+            hash = System.identityHashCode(person);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            Person person = get();
+            return person != null && person == ((IdentityKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -12,6 +17,7 @@ import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
+import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
@@ -32,14 +38,20 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
+    private final CompletionStage<Logic> logicLoading;
+    private final GuiSettings guiSettings;
+    private final Path addressBookFilePath;
     private Logic logic;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} that shows the main window, sized by {@code guiSettings}, as soon as it starts, and
+     * shows the address book at {@code addressBookFilePath} once {@code logicLoading} has loaded it.
      */
-    public UiManager(Logic logic) {
-        this.logic = logic;
+    public UiManager(CompletionStage<Logic> logicLoading, GuiSettings guiSettings, Path addressBookFilePath) {
+        this.logicLoading = requireNonNull(logicLoading);
+        this.guiSettings = requireNonNull(guiSettings);
+        this.addressBookFilePath = requireNonNull(addressBookFilePath);
     }
 
     @Override
@@ -50,10 +62,42 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, guiSettings);
             mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            mainWindow.fillInnerParts(addressBookFilePath);
+        } catch (Throwable e) {
+            logger.severe(StringUtil.getDetails(e));
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+            return;
+        }
+
+        logicLoading.whenComplete((loadedLogic, error) -> Platform.runLater(() -> showLogic(loadedLogic, error)));
+    }
+
+    @Override
+    public void stop() {
+        // The main window is not created if the UI is stopped before it starts
+        if (mainWindow != null) {
+            mainWindow.awaitBackgroundTasks();
+        }
+    }
+
+    /**
+     * Shows the persons of {@code loadedLogic} in the main window and lets commands be entered, or shuts down if it
+     * could not be loaded because of {@code error}.
+     */
+    private void showLogic(Logic loadedLogic, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause()
+                    : error;
+            showFatalErrorDialogAndShutdown("Fatal error during loading", cause);
+            return;
+        }
 
+        try {
+            logic = loadedLogic;
+            mainWindow.showLogic(loadedLogic);
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
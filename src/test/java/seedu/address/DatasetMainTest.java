@@ -0,0 +1,51 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class DatasetMainTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+
+    @Test
+    public void run_noFile_returnsUsageError() {
+        assertEquals(DatasetMain.EXIT_USAGE_ERROR, new DatasetMain().run(new String[] {"--persons=10"}, out));
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(DatasetMain.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_unknownOrInvalidSetting_returnsUsageError() {
+        String file = temporaryFolder.resolve("dataset.json").toString();
+
+        assertEquals(DatasetMain.EXIT_USAGE_ERROR, new DatasetMain().run(new String[] {"--size=10", file}, out));
+        assertEquals(DatasetMain.EXIT_USAGE_ERROR, new DatasetMain().run(new String[] {"--persons=ten", file}, out));
+        assertEquals(DatasetMain.EXIT_USAGE_ERROR, new DatasetMain().run(new String[] {"--links=-1", file}, out));
+    }
+
+    @Test
+    public void run_settings_savesAddressBook() throws Exception {
+        Path file = temporaryFolder.resolve("dataset.json");
+
+        int status = new DatasetMain().run(new String[] {"--persons=200", "--seed=9", "--links=1", "--tags=10",
+            "--info=30", file.toString()}, out);
+
+        assertEquals(DatasetMain.EXIT_SUCCESS, status);
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(file).readAddressBook().orElseThrow();
+        assertEquals(200, saved.getPersonList().size());
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith("Saved 200 persons and "));
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class HeadlessMainTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+
+    @Test
+    public void run_tooManyScripts_returnsUsageError() {
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR, new HeadlessMain().run(new String[] {"a.txt", "b.txt"}, out));
+        assertTrue(output.toString(StandardCharsets.UTF_8).startsWith(HeadlessMain.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_script_savesChangesAndReportsSummary() throws Exception {
+        Path configPath = writeConfig();
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.writeString(script, "clear\nadd \"Amy Bee\" 11111111 \"Block 1\" \"amy@example.com\"\n");
+
+        int status = new HeadlessMain().run(new String[] {"--config=" + configPath, script.toString()}, out);
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, status);
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().orElseThrow();
+        assertEquals(1, saved.getPersonList().size());
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("Executed 2 commands (0 failed)"));
+        assertTrue(printed.contains("2 saves."));
+    }
+
+    @Test
+    public void run_failingCommand_returnsCommandFailed() throws Exception {
+        Path configPath = writeConfig();
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.writeString(script, "delete 99999\n");
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED,
+                new HeadlessMain().run(new String[] {"--config=" + configPath, script.toString()}, out));
+    }
+
+    @Test
+    public void run_missingScript_returnsUsageError() throws Exception {
+        Path configPath = writeConfig();
+
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR, new HeadlessMain().run(
+                new String[] {"--config=" + configPath, temporaryFolder.resolve("missing.txt").toString()}, out));
+    }
+
+    /**
+     * Writes a config whose preferences keep every data file inside the temporary folder.
+     */
+    private Path writeConfig() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        userPrefs.setCommandHistoryFilePath(temporaryFolder.resolve("commandHistory.json"));
+        Path userPrefsPath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsPath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsPath);
+        Path configPath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+        return configPath;
+    }
+}
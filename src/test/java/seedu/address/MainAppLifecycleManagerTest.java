@@ -15,12 +15,17 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javafx.collections.ObservableList;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.Logic;
+import seedu.address.logic.PreparedCommand;
+import seedu.address.logic.QueryResult;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.exceptions.AssemblyException;
@@ -34,6 +39,7 @@ import seedu.address.model.person.Person;
 import seedu.address.session.SessionData;
 import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.RingFileCommandHistoryStorage;
 import seedu.address.storage.Storage;
 import seedu.address.testutil.TypicalPersons;
 
@@ -52,6 +58,27 @@ class MainAppLifecycleManagerTest {
         assertEquals(expected, lifecycleManager.deriveSessionDirectory(addressBookPath));
     }
 
+    @Test
+    void startFlightRecording_validSettings_writesRecordingOnStop(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("recordings").resolve("assetsphere.jfr");
+
+        Recording recording = lifecycleManager.startFlightRecording(file, 1).orElseThrow();
+        try {
+            assertEquals(MainAppLifecycleManager.FLIGHT_RECORDING_NAME, recording.getName());
+            assertEquals(1024 * 1024, recording.getMaxSize());
+            recording.stop();
+        } finally {
+            recording.close();
+        }
+
+        assertFalse(RecordingFile.readAllEvents(file).isEmpty());
+    }
+
+    @Test
+    void startFlightRecording_nonPositiveSize_returnsEmptyOptional(@TempDir Path tempDir) {
+        assertTrue(lifecycleManager.startFlightRecording(tempDir.resolve("assetsphere.jfr"), 0).isEmpty());
+    }
+
     private static class RecordingLogicMetadataOnlyStub implements Logic {
         private final CommandHistory history;
         private final Optional<SessionData> snapshot;
@@ -71,6 +98,11 @@ class MainAppLifecycleManagerTest {
             return history;
         }
 
+        @Override
+        public CommandHistory getCommandHistory() {
+            return history;
+        }
+
         @Override
         public Optional<SessionData> getSessionSnapshotIfDirty() {
             // Simulate address-book-only dirty = false
@@ -92,6 +124,26 @@ class MainAppLifecycleManagerTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public CommandResult execute(PreparedCommand command) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PreparedCommand prepare(String commandText) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<QueryResult> query(String commandText) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<QueryResult> query(PreparedCommand command) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new UnsupportedOperationException();
@@ -189,6 +241,19 @@ class MainAppLifecycleManagerTest {
         assertTrue(model.getAddressBook().getPersonList().isEmpty());
     }
 
+    @Test
+    void loadAddressBook_storageThrows_usesOlderSessionAddressBook() {
+        SessionData olderSession = sampleSession();
+        Storage storage = new AddressBookStorageThrowsStub() {
+            @Override
+            public Optional<SessionData> readSession() {
+                return Optional.of(olderSession);
+            }
+        };
+
+        assertEquals(olderSession.getAddressBook(), lifecycleManager.loadAddressBook(storage));
+    }
+
     @Test
     void persistOnStop_dirtySessionAndCommandHistory_savesBothAndMarksPersisted() throws Exception {
         SessionData expectedSession = sampleSession();
@@ -257,13 +322,28 @@ class MainAppLifecycleManagerTest {
     }
 
     @Test
-    void createCommandHistoryStorage_returnsJsonCommandHistoryStorage() {
-        Path p = Path.of("data", "commandhistory.json");
+    void createCommandHistoryStorage_returnsRingFileCommandHistoryStorage() {
+        Path p = Path.of("data", "commandhistory.ring");
         CommandHistoryStorage storage = lifecycleManager.createCommandHistoryStorage(p);
-        assertTrue(storage instanceof JsonCommandHistoryStorage);
+        assertTrue(storage instanceof RingFileCommandHistoryStorage);
         assertEquals(p, storage.getCommandHistoryFilePath());
     }
 
+    @Test
+    void createCommandHistoryStorage_jsonPath_importsJsonHistoryIntoRingFile(@TempDir Path tempDir) throws Exception {
+        Path jsonPath = tempDir.resolve("commandhistory.json");
+        new JsonCommandHistoryStorage(jsonPath).saveCommandHistory(new CommandHistory(List.of("list", "help")));
+
+        CommandHistoryStorage storage = lifecycleManager.createCommandHistoryStorage(jsonPath);
+
+        try {
+            assertEquals(tempDir.resolve("commandhistory.ring"), storage.getCommandHistoryFilePath());
+            assertEquals(List.of("list", "help"), storage.readCommandHistory().orElseThrow().getEntries());
+        } finally {
+            storage.closeCommandHistory();
+        }
+    }
+
     private SessionData sampleSession() {
         AddressBook addressBook = new AddressBook();
         addressBook.addPerson(TypicalPersons.CARL);
@@ -331,6 +411,11 @@ class MainAppLifecycleManagerTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Optional<SessionData> readSessionSavedSince(Instant time) throws DataLoadingException {
+            return readSession().filter(session -> !session.getSavedAt().isBefore(time));
+        }
+
         @Override
         public void saveSession(SessionData sessionData) throws IOException {
             throw new UnsupportedOperationException();
@@ -387,6 +472,11 @@ class MainAppLifecycleManagerTest {
         public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
             throw new DataLoadingException(new IOException("broken"));
         }
+
+        @Override
+        public Optional<SessionData> readSession() {
+            return Optional.empty();
+        }
     }
 
     private static class RecordingStorageStub extends BaseStorageStub {
@@ -447,6 +537,11 @@ class MainAppLifecycleManagerTest {
             return history;
         }
 
+        @Override
+        public CommandHistory getCommandHistory() {
+            return history;
+        }
+
         @Override
         public Optional<SessionData> getSessionSnapshotIfDirty() {
             return snapshot;
@@ -467,6 +562,26 @@ class MainAppLifecycleManagerTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public CommandResult execute(PreparedCommand command) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PreparedCommand prepare(String commandText) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<QueryResult> query(String commandText) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<QueryResult> query(PreparedCommand command) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new UnsupportedOperationException();
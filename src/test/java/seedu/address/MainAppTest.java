@@ -2,13 +2,27 @@ package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
 
 public class MainAppTest {
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void initConfig_validConfigPath_success() throws Exception {
         MainApp mainApp = new MainApp();
@@ -57,4 +71,23 @@ public class MainAppTest {
         MainApp mainApp = new MainApp();
         assertNotNull(mainApp);
     }
+
+    @Test
+    public void initLogic_afterStop_commandServerNotStarted() {
+        MainApp mainApp = new MainApp();
+        mainApp.config = new Config();
+        mainApp.config.setCommandServerPort(0);
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json")),
+                new JsonSessionStorage(temporaryFolder.resolve("sessions")));
+
+        // The window is closed while the address book is still loading
+        mainApp.stop();
+        mainApp.initLogic(new LogicManager(new ModelManager(), storage));
+
+        assertNull(mainApp.commandServer);
+        assertNull(mainApp.logic);
+    }
 }
@@ -0,0 +1,196 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.PreparedCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.exceptions.AssemblyException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ScriptRunnerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private ModelManager model;
+    private CountingStorageManager storage;
+    private ScriptRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        storage = new CountingStorageManager(temporaryFolder);
+        runner = new ScriptRunner(new LogicManager(model, storage), () -> storage.saveCount,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_mixedScript_reportsEveryCommand() throws Exception {
+        ScriptRunner.Report report = run("""
+                # comment lines and blank lines are skipped
+
+                add "Amy Bee" 11111111 "Block 1" "amy@example.com"
+                add "Bob Choo" 22222222 "Block 2" "bob@example.com"; list
+                delete 9
+                list
+                """);
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertEquals(2, report.getSaveCount());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        String printed = output.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.startsWith(ScriptRunner.COMMAND_PREFIX + "add \"Amy Bee\""));
+        assertTrue(printed.contains(ScriptRunner.COMMAND_PREFIX + "delete 9" + System.lineSeparator()
+                + ScriptRunner.FAILURE_PREFIX));
+        assertTrue(printed.endsWith(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()));
+        assertTrue(report.getLatencyPercentile(50) <= report.getLatencyPercentile(99));
+        assertTrue(report.getThroughput() > 0);
+    }
+
+    @Test
+    public void run_preparedAhead_sameOutputAsSequentialRun() throws Exception {
+        String script = """
+                add "Amy Bee" 11111111 "Block 1" "amy@example.com"
+                frobnicate 1
+                add "Bob Choo" 22222222 "Block 2" "bob@example.com"
+                delete 9; list
+                list
+                """;
+        run(script);
+        String expected = output.toString(StandardCharsets.UTF_8);
+
+        ModelManager pipelinedModel = new ModelManager();
+        ByteArrayOutputStream pipelinedOutput = new ByteArrayOutputStream();
+        ExecutorService preparer = Executors.newFixedThreadPool(4);
+        try {
+            ScriptRunner.Report report = new ScriptRunner(new LogicManager(pipelinedModel,
+                    new CountingStorageManager(temporaryFolder.resolve("pipelined"))), () -> 0,
+                    new PrintStream(pipelinedOutput, true, StandardCharsets.UTF_8), preparer, 3)
+                    .run(new BufferedReader(new StringReader(script)));
+
+            assertEquals(5, report.getCommandCount());
+            assertEquals(2, report.getFailureCount());
+        } finally {
+            preparer.shutdown();
+        }
+        assertEquals(expected, pipelinedOutput.toString(StandardCharsets.UTF_8));
+        assertEquals(model.getAddressBook(), pipelinedModel.getAddressBook());
+    }
+
+    @Test
+    public void run_prepareThrowsUnexpectedly_reportsLineAndCarriesOn() throws Exception {
+        LogicManager logic = new LogicManager(model, storage) {
+            @Override
+            public PreparedCommand prepare(String commandText) throws AssemblyException {
+                if (commandText.equals("boom")) {
+                    throw new IllegalStateException("boom");
+                }
+                return super.prepare(commandText);
+            }
+        };
+        ExecutorService preparer = Executors.newFixedThreadPool(2);
+        try {
+            ScriptRunner.Report report = new ScriptRunner(logic, () -> 0,
+                    new PrintStream(output, true, StandardCharsets.UTF_8), preparer, 3)
+                    .run(new BufferedReader(new StringReader("list\n\nboom\nlist\n")));
+
+            assertEquals(3, report.getCommandCount());
+            assertEquals(1, report.getFailureCount());
+        } finally {
+            preparer.shutdown();
+        }
+        String printed = output.toString(StandardCharsets.UTF_8);
+        String failure = String.format(ScriptRunner.MESSAGE_PREPARE_FAILED, 3, new IllegalStateException("boom"));
+        assertTrue(printed.contains(ScriptRunner.COMMAND_PREFIX + "boom" + System.lineSeparator()
+                + ScriptRunner.FAILURE_PREFIX + failure));
+        assertTrue(printed.endsWith(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()));
+    }
+
+    @Test
+    public void constructor_invalidLookahead_throwsIllegalArgumentException() {
+        LogicManager logic = new LogicManager(model, storage);
+        assertThrows(IllegalArgumentException.class, () -> new ScriptRunner(logic, () -> 0, System.out,
+                Runnable::run, 0));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        ScriptRunner.Report report = run("list\nexit\nclear\n");
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(0, report.getSaveCount());
+    }
+
+    @Test
+    public void run_emptyScript_reportsNothing() throws Exception {
+        ScriptRunner.Report report = run("");
+
+        assertEquals(0, report.getCommandCount());
+        assertEquals(0, report.getLatencyPercentile(99));
+        assertEquals(0.0, report.getThroughput());
+    }
+
+    @Test
+    public void getLatencyPercentile_nearestRank() {
+        ScriptRunner.Report report = new ScriptRunner.Report(4, 0, 100, new long[] {40, 10, 30, 20}, 0);
+
+        assertEquals(20, report.getLatencyPercentile(50));
+        assertEquals(40, report.getLatencyPercentile(99));
+        assertEquals(10, report.getLatencyPercentile(1));
+        assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> report.getLatencyPercentile(101));
+    }
+
+    @Test
+    public void getSummary() {
+        ScriptRunner.Report report = new ScriptRunner.Report(2, 1, 500_000_000, new long[] {1_000_000, 3_000_000}, 1);
+
+        assertEquals(String.format(ScriptRunner.Report.MESSAGE_SUMMARY, 2, 1, 0.5, 4.0, 1.0, 3.0, 1),
+                report.getSummary());
+    }
+
+    private ScriptRunner.Report run(String script) throws IOException {
+        return runner.run(new BufferedReader(new StringReader(script)));
+    }
+
+    private static class CountingStorageManager extends StorageManager {
+        private long saveCount;
+
+        CountingStorageManager(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")),
+                    new JsonCommandHistoryStorage(folder.resolve("commandHistory.json")),
+                    new JsonSessionStorage(folder.resolve("sessions")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            super.saveAddressBook(addressBook, filePath);
+            saveCount++;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.history.CommandHistory;
+import seedu.address.session.SessionData;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class StartupLoaderTest {
+    private static final Instant SESSION_TIME = Instant.parse("2025-10-15T00:00:00Z");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final StartupLoader loader = new StartupLoader(
+            new MainAppLifecycleManager(LogsCenter.getLogger(StartupLoaderTest.class)), Runnable::run);
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json")),
+                new JsonSessionStorage(temporaryFolder.resolve("sessions")));
+    }
+
+    @Test
+    public void load_noSession_usesAddressBookAndHistory() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveCommandHistory(new CommandHistory(List.of("list", "find Alice")));
+
+        Logic logic = loader.load(storage, new UserPrefs()).join();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(logic.getAddressBook()));
+        assertEquals(List.of("list", "find Alice"), logic.getCommandHistorySnapshot().getEntries());
+    }
+
+    @Test
+    public void load_sessionNewerThanDataFile_prefersSession() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), FileTime.from(SESSION_TIME.minusSeconds(60)));
+        AddressBook sessionBook = new AddressBook();
+        sessionBook.addPerson(ALICE);
+        storage.saveSession(new SessionData(SESSION_TIME, sessionBook, new GuiSettings()));
+
+        Logic logic = loader.load(storage, new UserPrefs()).join();
+
+        assertEquals(sessionBook, new AddressBook(logic.getAddressBook()));
+    }
+
+    @Test
+    public void load_dataFileNewerThanSession_prefersDataFile() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.setLastModifiedTime(storage.getAddressBookFilePath(), FileTime.from(SESSION_TIME.plusSeconds(60)));
+        AddressBook sessionBook = new AddressBook();
+        sessionBook.addPerson(ALICE);
+        storage.saveSession(new SessionData(SESSION_TIME, sessionBook, new GuiSettings()));
+
+        Logic logic = loader.load(storage, new UserPrefs()).join();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(logic.getAddressBook()));
+    }
+
+    @Test
+    public void load_concurrently_sameAsOneAtATime() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveCommandHistory(new CommandHistory(List.of("list")));
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Logic logic = new StartupLoader(new MainAppLifecycleManager(LogsCenter.getLogger(StartupLoaderTest.class)),
+                    executor).load(storage, new UserPrefs()).join();
+
+            assertEquals(getTypicalAddressBook(), new AddressBook(logic.getAddressBook()));
+            assertEquals(List.of("list"), logic.getCommandHistorySnapshot().getEntries());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, new RecordingHandler()));
+    }
+
+    @Test
+    public void flush_publishesQueuedRecordsInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertTrue(target.flushCount > 0);
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFull_dropsRecordsWithoutBlocking() throws InterruptedException {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                delivering.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(2, target);
+
+        // Once the flusher is stuck delivering the first record, only two more fit in the buffer
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        delivering.await();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        release.countDown();
+        handler.flush();
+
+        assertEquals(List.of("first", "8 log records were dropped as the log buffer was full.", "message 0",
+                "message 1"), target.messages);
+        handler.close();
+    }
+
+    @Test
+    public void close_publishesRemainingRecordsAndClosesTargets() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target);
+
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        handler.close();
+
+        assertEquals(List.of("before close"), target.messages);
+        assertEquals(1, target.closeCount);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target);
+        handler.setLevel(Level.WARNING);
+
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.flush();
+
+        assertEquals(List.of("warning"), target.messages);
+        handler.close();
+    }
+
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private volatile int flushCount = 0;
+        private volatile int closeCount = 0;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            closeCount++;
+        }
+    }
+}
@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", commandServerPort=" + config.getCommandServerPort()
+                + ", flightRecordingFile=" + config.getFlightRecordingFile()
+                + ", flightRecordingMaxMegabytes=" + config.getFlightRecordingMaxMegabytes() + "}";
         assertEquals(expected, config.toString());
     }
 
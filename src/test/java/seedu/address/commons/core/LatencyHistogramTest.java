@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void snapshot_nothingRecorded_zeroes() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getTotalCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(0));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(101, snapshot.getTotalCount());
+        assertEquals(0, snapshot.getValueAtPercentile(0.5));
+        assertEquals(50, snapshot.getValueAtPercentile(50));
+        assertEquals(98, snapshot.getValueAtPercentile(98));
+        assertEquals(100, snapshot.getValueAtPercentile(100));
+        assertEquals(100, snapshot.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinOneSixtyFourth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(46);
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long value = (long) Math.exp(random.nextDouble() * Math.log(LatencyHistogram.MAX_TRACKABLE_VALUE));
+            values.add(value);
+            histogram.record(value);
+        }
+        values.sort(null);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long expected = values.get((int) Math.ceil(percentile / 100 * values.size()) - 1);
+            long actual = snapshot.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected + expected / 64,
+                    "p" + percentile + ": expected " + expected + " but was " + actual);
+        }
+        assertEquals(values.get(values.size() - 1), snapshot.getMax());
+    }
+
+    @Test
+    public void record_beyondTrackableRange_keepsExactMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(Long.MAX_VALUE, histogram.snapshot().getMax());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.snapshot().getValueAtPercentile(50));
+    }
+
+    @Test
+    public void record_concurrently_countsEveryValue() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.snapshot().getTotalCount());
+        assertEquals(9_999, histogram.snapshot().getMax());
+    }
+
+    @Test
+    public void reset_discardsRecordedValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().getTotalCount());
+        assertEquals(0, histogram.snapshot().getMax());
+    }
+}
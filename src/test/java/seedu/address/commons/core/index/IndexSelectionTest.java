@@ -0,0 +1,59 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static IndexSelection.Range range(int first, int last) {
+        return new IndexSelection.Range(Index.fromOneBased(first), Index.fromOneBased(last));
+    }
+
+    @Test
+    public void ofRanges_overlappingAndUnordered_mergedIntoEqualSelections() {
+        IndexSelection selection = IndexSelection.ofRanges(List.of(range(6, 8), range(1, 2), range(3, 3), range(7, 9)));
+        assertEquals(IndexSelection.ofRanges(List.of(range(1, 3), range(6, 9))), selection);
+        assertEquals(IndexSelection.ofRanges(List.of(range(1, 3), range(6, 9))).hashCode(), selection.hashCode());
+        assertFalse(selection.equals(IndexSelection.all()));
+    }
+
+    @Test
+    public void ofRanges_invalidRanges_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> IndexSelection.ofRanges(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> range(3, 2));
+    }
+
+    @Test
+    public void getSingleIndex() {
+        assertEquals(Optional.of(Index.fromOneBased(2)), IndexSelection.of(Index.fromOneBased(2)).getSingleIndex());
+        assertEquals(Optional.empty(), IndexSelection.ofRanges(List.of(range(2, 3))).getSingleIndex());
+        assertEquals(Optional.empty(), IndexSelection.all().getSingleIndex());
+    }
+
+    @Test
+    public void select() {
+        List<String> list = List.of("a", "b", "c", "d", "e");
+
+        assertEquals(Optional.of(List.of("a", "c", "d")),
+                IndexSelection.ofRanges(List.of(range(3, 4), range(1, 1), range(4, 4))).select(list));
+        assertEquals(Optional.of(list), IndexSelection.all().select(list));
+
+        // out of range or nothing selected
+        assertEquals(Optional.empty(), IndexSelection.ofRanges(List.of(range(4, 6))).select(list));
+        assertEquals(Optional.empty(), IndexSelection.all().select(List.of()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertTrue(IndexSelection.ofRanges(List.of(range(10, 25), range(1, 1), range(4, 4))).toString()
+                .endsWith("{ranges=1,4,10-25}"));
+        assertTrue(IndexSelection.all().toString().endsWith("{ranges=all}"));
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.testutil.AtomicMoveUnsupportedFileSystem;
 import seedu.address.testutil.AtomicMoveUnsupportedFileSystemProvider;
 import seedu.address.testutil.SerializableTestClass;
@@ -104,6 +105,36 @@ public class JsonUtilTest {
         }
     }
 
+    @Test
+    public void readJsonField_fieldPresent_returnsValueWithoutReadingRest() throws Exception {
+        Path file = TestUtil.getFilePathInSandboxFolder("readField.json");
+        // The file is cut off after the field, so it could not be deserialised in full
+        FileUtil.writeToFile(file, "{\"skipped\":{\"nested\":[1,2]},\"savedAt\":\"2025-10-14T00:00:00Z\",\"rest\":[");
+
+        assertEquals(Optional.of("2025-10-14T00:00:00Z"), JsonUtil.readJsonField(file, "savedAt"));
+    }
+
+    @Test
+    public void readJsonField_fieldMissing_returnsEmpty() throws Exception {
+        Path file = TestUtil.getFilePathInSandboxFolder("readFieldMissing.json");
+        FileUtil.writeToFile(file, "{\"name\":\"value\",\"nested\":{\"savedAt\":\"2025-10-14T00:00:00Z\"}}");
+
+        assertEquals(Optional.empty(), JsonUtil.readJsonField(file, "savedAt"));
+    }
+
+    @Test
+    public void readJsonField_fileNotExist_returnsEmpty() throws Exception {
+        Path nonExistent = TestUtil.getFilePathInSandboxFolder("doesnotexist.json");
+        assertEquals(Optional.empty(), JsonUtil.readJsonField(nonExistent, "savedAt"));
+    }
+
+    @Test
+    public void readJsonField_notJsonObject_throwsDataLoadingException() throws Exception {
+        Path file = TestUtil.getFilePathInSandboxFolder("readFieldArray.json");
+        FileUtil.writeToFile(file, "[1, 2]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonField(file, "savedAt"));
+    }
+
     @Test
     public void saveJsonFile_nulls_throwsException() {
         try {
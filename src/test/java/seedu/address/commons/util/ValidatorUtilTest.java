@@ -0,0 +1,37 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidatorUtilTest {
+
+    @Test
+    public void characterClasses_matchRegexClasses() {
+        for (char c = 0; c < 0x3000; c++) {
+            String s = String.valueOf(c);
+            assertTrue(ValidatorUtil.isAsciiDigit(c) == s.matches("\\d"));
+            assertTrue(ValidatorUtil.isAsciiAlphanumeric(c) == s.matches("\\p{Alnum}"));
+            assertTrue(ValidatorUtil.isRegexWhitespace(c) == s.matches("\\s"));
+            assertTrue(ValidatorUtil.isLineTerminator(c) == !s.matches("."));
+        }
+    }
+
+    @Test
+    public void matchesEvery() {
+        // null string
+        assertThrows(NullPointerException.class, () -> ValidatorUtil.matchesEvery(null, 1, c -> true, c -> true));
+
+        // too short
+        assertFalse(ValidatorUtil.matchesEvery("", 0, c -> true, c -> true));
+        assertFalse(ValidatorUtil.matchesEvery("12", 3, c -> true, c -> true));
+
+        // first and rest checked separately
+        assertFalse(ValidatorUtil.matchesEvery(" a", 1, c -> c != ' ', c -> true));
+        assertFalse(ValidatorUtil.matchesEvery("a ", 1, c -> true, c -> c != ' '));
+        assertTrue(ValidatorUtil.matchesEvery("a b", 1, c -> c != ' ', c -> true));
+        assertTrue(ValidatorUtil.matchesEvery("123", 3, ValidatorUtil::isAsciiDigit, ValidatorUtil::isAsciiDigit));
+    }
+}
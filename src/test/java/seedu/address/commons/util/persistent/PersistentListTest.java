@@ -0,0 +1,114 @@
+package seedu.address.commons.util.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> list.iterator().next());
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<String> list = PersistentList.of("a", "b");
+        assertSame(list, PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+        assertThrows(NullPointerException.class, () -> PersistentList.of("a").plus(null));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of("a", "b", "c");
+
+        assertEquals(List.of("a", "x", "c"), original.with(1, "x"));
+        assertEquals(List.of("x", "a", "b", "c"), original.plus(0, "x"));
+        assertEquals(List.of("a", "b", "c", "x"), original.plus("x"));
+        assertEquals(List.of("a", "c"), original.minus(1));
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of("a", "b");
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("x"));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            int value = random.nextInt(1000);
+            if (operation == 0 || operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value);
+                actual = actual.plus(index, value);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, value);
+                actual = actual.with(index, value);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        Iterator<Integer> elements = actual.iterator();
+        for (Integer element : expected) {
+            assertEquals(element, elements.next());
+        }
+        assertFalse(elements.hasNext());
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of("a", "b");
+
+        assertTrue(list.equals(list));
+        assertTrue(list.equals(PersistentList.of("a", "b")));
+        assertTrue(list.equals(List.of("a", "b")));
+
+        assertFalse(list.equals(null));
+        assertFalse(list.equals("a"));
+        assertNotEquals(PersistentList.of("a"), list);
+        assertNotEquals(PersistentList.of("b", "a"), list);
+    }
+}
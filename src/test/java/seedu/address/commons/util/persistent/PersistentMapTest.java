@@ -0,0 +1,101 @@
+package seedu.address.commons.util.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    private final PersistentMap<String, String> map = PersistentMap.<String, String>empty()
+            .plus("b", "1").plus("a", "2").plus("c", "3");
+
+    @Test
+    public void iteration_followsInsertionOrder() {
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(map.keySet()));
+        assertEquals("{b=1, a=2, c=3}", map.toString());
+    }
+
+    @Test
+    public void plus_existingKey_keepsPosition() {
+        PersistentMap<String, String> updated = map.plus("a", "9");
+
+        assertEquals(List.of("b", "a", "c"), new ArrayList<>(updated.keySet()));
+        assertEquals("9", updated.get("a"));
+        assertEquals("2", map.get("a"));
+        assertSame(map, map.plus("a", "2"));
+    }
+
+    @Test
+    public void minus_relinksNeighbours() {
+        assertEquals(List.of("a", "c"), new ArrayList<>(map.minus("b").keySet()));
+        assertEquals(List.of("b", "c"), new ArrayList<>(map.minus("a").keySet()));
+        assertEquals(List.of("b", "a"), new ArrayList<>(map.minus("c").keySet()));
+        assertEquals(List.of("a", "c", "b"), new ArrayList<>(map.minus("b").plus("b", "4").keySet()));
+        assertTrue(map.minus("a").minus("b").minus("c").isEmpty());
+        assertSame(map, map.minus("d"));
+    }
+
+    @Test
+    public void nulls_notPermitted() {
+        assertThrows(NullPointerException.class, () -> map.plus(null, "1"));
+        assertThrows(NullPointerException.class, () -> map.plus("d", null));
+        assertNull(map.get(null));
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> map.put("d", "4"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> map.clear());
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue("4"));
+    }
+
+    @Test
+    public void copyOf_linkedHashMap_preservesOrder() {
+        Map<String, String> source = new LinkedHashMap<>();
+        source.put("z", "1");
+        source.put("Aa", "2");
+        source.put("BB", "3"); // same hash code as "Aa"
+
+        PersistentMap<String, String> copy = PersistentMap.copyOf(source);
+
+        assertEquals(source, copy);
+        assertEquals(new ArrayList<>(source.entrySet()), new ArrayList<>(copy.entrySet()));
+        assertSame(copy, PersistentMap.copyOf(copy));
+    }
+
+    @Test
+    public void randomUpdates_matchLinkedHashMap() {
+        Random random = new Random(2103);
+        Map<Integer, Integer> expected = new LinkedHashMap<>();
+        PersistentMap<Integer, Integer> actual = PersistentMap.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            Integer key = random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                actual = actual.minus(key);
+            } else {
+                Integer value = random.nextInt(5);
+                expected.put(key, value);
+                actual = actual.plus(key, value);
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.util.persistent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSetTest {
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentSet<String> original = PersistentSet.of("a", "b");
+
+        assertEquals(Set.of("a", "b", "c"), original.plus("c"));
+        assertEquals(Set.of("a"), original.minus("b"));
+        assertEquals(Set.of("b", "c"), original.plusAll(List.of("c")).minusAll(List.of("a")));
+        assertEquals(Set.of("a"), original.minusIf(element -> element.equals("b")));
+        assertEquals(Set.of("a", "b"), original);
+    }
+
+    @Test
+    public void updates_noChange_returnSameSet() {
+        PersistentSet<String> set = PersistentSet.of("a", "b");
+
+        assertSame(set, set.plus("a"));
+        assertSame(set, set.minus("c"));
+        assertSame(set, set.minusIf(element -> false));
+        assertSame(set, PersistentSet.copyOf(set));
+    }
+
+    @Test
+    public void nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentSet.copyOf(Arrays.asList("a", null)));
+        assertThrows(NullPointerException.class, () -> PersistentSet.of("a").plus(null));
+        assertFalse(PersistentSet.of("a").contains(null));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentSet<String> set = PersistentSet.of("a");
+        assertThrows(UnsupportedOperationException.class, () -> set.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void collidingHashes_behaveAsDistinctElements() {
+        // "Aa" and "BB" have the same hash code
+        PersistentSet<String> set = PersistentSet.of("Aa", "BB", "C");
+
+        assertTrue(set.contains("Aa"));
+        assertTrue(set.contains("BB"));
+        assertEquals(Set.of("BB", "C"), set.minus("Aa"));
+        assertEquals(Set.of("Aa", "C"), set.minus("BB"));
+        assertEquals(Set.of("C"), set.minus("Aa").minus("BB"));
+    }
+
+    @Test
+    public void randomUpdates_matchHashSet() {
+        Random random = new Random(2103);
+        Set<Integer> expected = new HashSet<>();
+        PersistentSet<Integer> actual = PersistentSet.empty();
+        List<PersistentSet<Integer>> versions = new ArrayList<>();
+        List<Set<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            // Wide values spread over every level of the trie, while the modulus makes removals hit
+            Integer value = random.nextInt(2000) * 0x10001;
+            if (random.nextInt(3) == 0) {
+                expected.remove(value);
+                actual = actual.minus(value);
+            } else {
+                expected.add(value);
+                actual = actual.plus(value);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(Set.copyOf(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        assertEquals(expected.size(), new ArrayList<>(actual).size());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -38,6 +39,8 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.exceptions.AssemblyException;
+import seedu.address.logic.stats.CommandStage;
+import seedu.address.logic.stats.CommandStats;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -69,6 +72,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -80,7 +84,7 @@ public class LogicManagerTest {
         JsonCommandHistoryStorage commandHistoryStorage =
                 new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json"));
         JsonSessionStorage sessionStorage = new JsonSessionStorage(temporaryFolder.resolve("sessions"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage,
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
                 commandHistoryStorage, sessionStorage);
         logic = new LogicManager(model, storage);
     }
@@ -124,6 +128,32 @@ public class LogicManagerTest {
         assertEquals(SAMPLE_ADD_COMMAND_INPUT_AMY.trim(), historySnapshot.getEntries().get(0));
     }
 
+    @Test
+    public void execute_successCommand_recordsEveryStage() throws Exception {
+        CommandStats stats = new CommandStats();
+        Logic timedLogic = new LogicManager(model, storage, Optional.empty(), stats);
+
+        timedLogic.execute(SAMPLE_ADD_COMMAND_INPUT_AMY);
+
+        for (CommandStage stage : CommandStage.values()) {
+            assertEquals(1, stats.getSnapshot(AddCommand.COMMAND_WORD, stage).orElseThrow().getTotalCount(),
+                    stage.getDisplayName());
+        }
+        assertEquals(1, stats.getSaveCount());
+        assertTrue(stats.getBytesWritten() > 0);
+    }
+
+    @Test
+    public void execute_prefixImperative_recordsUnderFullImperative() throws Exception {
+        CommandStats stats = new CommandStats();
+        Logic timedLogic = new LogicManager(model, storage, Optional.empty(), stats);
+
+        timedLogic.execute("lis");
+
+        assertTrue(stats.getSnapshot(ListCommand.COMMAND_WORD, CommandStage.EXECUTE).isPresent());
+        assertEquals(0, stats.getSaveCount());
+    }
+
     @Test
     public void execute_parseException_doesNotRecordHistory() {
         CommandHistory before = logic.getCommandHistorySnapshot();
@@ -613,6 +643,7 @@ public class LogicManagerTest {
      */
     private static class RecordingStorageManager extends StorageManager {
         private boolean saveCalled = false;
+        private int saveCount = 0;
 
         RecordingStorageManager(JsonAddressBookStorage ab,
                                 JsonUserPrefsStorage prefs,
@@ -624,6 +655,7 @@ public class LogicManagerTest {
         @Override
         public void saveAddressBook(seedu.address.model.ReadOnlyAddressBook addressBook) throws IOException {
             saveCalled = true; // record call
+            saveCount++;
             super.saveAddressBook(addressBook);
         }
 
@@ -821,5 +853,107 @@ public class LogicManagerTest {
         assertThrows(CommandException.class, () -> logic.execute("delete 9999"));
         assertTrue(!storage.saveCalled, "saveAddressBook() should NOT be called when command execution fails");
     }
-}
 
+    // ---------------------- Multi-command lines ----------------------
+
+    private RecordingStorageManager useRecordingStorage(String prefix) {
+        RecordingStorageManager storage = new RecordingStorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve(prefix + "_ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve(prefix + "_prefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve(prefix + "_hist.json")),
+                new JsonSessionStorage(temporaryFolder.resolve(prefix + "_sess"))
+        );
+        logic = new LogicManager(model, storage);
+        return storage;
+    }
+
+    @Test
+    public void execute_batch_appliesAllCommandsAndSavesOnce() throws Exception {
+        RecordingStorageManager storage = useRecordingStorage("batch");
+        String batch = SAMPLE_ADD_COMMAND_INPUT_AMY + "; " + SAMPLE_ADD_COMMAND_INPUT_BOB + " ;list";
+
+        CommandResult result = logic.execute(batch);
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, storage.saveCount);
+        assertEquals(List.of(batch), logic.getCommandHistorySnapshot().getEntries());
+        assertEquals(3, result.getFeedbackToUser().split("\n").length);
+        assertTrue(result.getFeedbackToUser().endsWith(ListCommand.MESSAGE_SUCCESS));
+    }
+
+    @Test
+    public void execute_batchWithFailingCommand_rollsBackEveryCommand() {
+        RecordingStorageManager storage = useRecordingStorage("batchFail");
+
+        assertCommandException(SAMPLE_ADD_COMMAND_INPUT_AMY + "; delete 9", String.format(
+                Messages.MESSAGE_BATCH_COMMAND_FAILED, 2, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_batchWithInvalidCommand_executesNothing() {
+        RecordingStorageManager storage = useRecordingStorage("batchInvalid");
+
+        assertThrows(AssemblyException.class, () -> logic.execute(SAMPLE_ADD_COMMAND_INPUT_AMY + "; uicfhmowqewca"));
+        assertThrows(AssemblyException.class, () -> logic.execute(SAMPLE_ADD_COMMAND_INPUT_AMY + ";"));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void execute_batchWithExitBeforeLastCommand_throwsCommandException() {
+        useRecordingStorage("batchExit");
+
+        assertCommandException(SAMPLE_ADD_COMMAND_INPUT_AMY + "; exit; list",
+                String.format(Messages.MESSAGE_BATCH_COMMAND_NOT_LAST, 2, 3));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void prepare_validCommand_executesOnlyWhenExecuted() throws Exception {
+        PreparedCommand prepared = logic.prepare(SAMPLE_ADD_COMMAND_INPUT_AMY);
+
+        assertFalse(prepared.isReadOnly());
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        logic.execute(prepared);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(List.of(SAMPLE_ADD_COMMAND_INPUT_AMY), logic.getCommandHistorySnapshot().getEntries());
+    }
+
+    @Test
+    public void prepare_invalidCommand_throwsAssemblyException() throws Exception {
+        assertThrows(AssemblyException.class, () -> logic.prepare("uicfhmowqewca"));
+        assertTrue(logic.prepare("list; history").isReadOnly());
+    }
+
+    // ---------------------- Queries ----------------------
+
+    @Test
+    public void query_readOnlyCommand_leavesModelUntouched() throws Exception {
+        model.addPerson(AMY);
+        model.addPerson(new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).build());
+        model.updateFilteredPersonList(person -> false);
+
+        QueryResult result = logic.query("find " + VALID_NAME_AMY.split(" ")[0] + "; history").orElseThrow();
+
+        assertEquals(List.of(AMY), result.getPersons());
+        assertTrue(result.getCommandResult().getFeedbackToUser().startsWith(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 1)));
+        assertEquals(0, model.getFilteredPersonList().size());
+        assertTrue(logic.getCommandHistorySnapshot().isEmpty());
+    }
+
+    @Test
+    public void query_commandNotReadOnly_executesNothing() throws Exception {
+        assertEquals(Optional.empty(), logic.query("list; " + SAMPLE_ADD_COMMAND_INPUT_AMY));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertTrue(logic.getCommandHistorySnapshot().isEmpty());
+    }
+
+    @Test
+    public void query_invalidCommand_throwsAssemblyException() {
+        assertThrows(AssemblyException.class, () -> logic.query("uicfhmowqewca"));
+    }
+}
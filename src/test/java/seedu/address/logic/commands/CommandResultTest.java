@@ -53,6 +53,17 @@ public class CommandResultTest {
         // with person vs without person -> returns false
         assertFalse(commandResult.equals(commandResultWithPerson));
         assertFalse(commandResultWithPerson.equals(commandResult));
+
+        // same background task -> returns true
+        BackgroundTask task = progressListener -> "done";
+        CommandResult commandResultWithTask = new CommandResult("feedback", task);
+        assertTrue(commandResultWithTask.equals(new CommandResult("feedback", task)));
+
+        // different background task -> returns false
+        assertFalse(commandResultWithTask.equals(new CommandResult("feedback", progressListener -> "done")));
+
+        // with task vs without task -> returns false
+        assertFalse(commandResult.equals(commandResultWithTask));
     }
 
     @Test
@@ -92,7 +103,7 @@ public class CommandResultTest {
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                 + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
                 + ", exit=" + commandResult.isExit() + ", showInfoEditor=" + commandResult.isShowInfoEditor()
-                + ", personToEdit=null}";
+                + ", personToEdit=null, backgroundTask=null}";
         assertEquals(expected, commandResult.toString());
     }
 
@@ -106,6 +117,25 @@ public class CommandResultTest {
         assertEquals(Optional.empty(), commandResult.getPersonToEdit());
     }
 
+    @Test
+    public void withFeedbackToUser_keepsOtherValues() {
+        Person person = new PersonBuilder().build();
+        CommandResult commandResult = new CommandResult("feedback", person);
+        CommandResult replaced = commandResult.withFeedbackToUser("other");
+        assertEquals("other", replaced.getFeedbackToUser());
+        assertEquals(commandResult.withFeedbackToUser("feedback"), commandResult);
+        assertEquals(Optional.of(person), replaced.getPersonToEdit());
+    }
+
+    @Test
+    public void isFeedbackOnly() {
+        assertTrue(new CommandResult("feedback").isFeedbackOnly());
+        assertFalse(new CommandResult("feedback", true, false).isFeedbackOnly());
+        assertFalse(new CommandResult("feedback", false, true).isFeedbackOnly());
+        assertFalse(new CommandResult("feedback", new PersonBuilder().build()).isFeedbackOnly());
+        assertFalse(new CommandResult("feedback", progressListener -> "done").isFeedbackOnly());
+    }
+
     @Test
     public void constructor_withFlags_setsCorrectValues() {
         CommandResult commandResult = new CommandResult("feedback", true, true);
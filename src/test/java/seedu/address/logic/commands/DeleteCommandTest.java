@@ -12,11 +12,13 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -55,6 +57,38 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_multipleIndices_deletesAllSelected() {
+        List<Person> persons = model.getFilteredPersonList();
+        Person first = persons.get(0);
+        Person third = persons.get(2);
+        Person fourth = persons.get(3);
+        IndexSelection indices = IndexSelection.ofRanges(List.of(
+                new IndexSelection.Range(Index.fromOneBased(1), Index.fromOneBased(1)),
+                new IndexSelection.Range(Index.fromOneBased(3), Index.fromOneBased(4))));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(first);
+        expectedModel.deletePerson(third);
+        expectedModel.deletePerson(fourth);
+
+        assertCommandSuccess(new DeleteCommand(indices), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_allIndicesFilteredList_deletesOnlyDisplayedPersons() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        Person displayed = model.getFilteredPersonList().get(0);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(displayed);
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(new DeleteCommand(IndexSelection.all()), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(displayed)), expectedModel);
+    }
+
     @Test
     public void execute_validIndexFilteredList_success() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -171,7 +205,8 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndices=" + IndexSelection.of(targetIndex)
+                + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
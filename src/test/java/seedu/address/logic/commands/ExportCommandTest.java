@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.storage.interchange.InterchangeFormat;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allPersons_writesSnapshotInBackground() throws Exception {
+        Path file = temporaryFolder.resolve("contacts.csv");
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ExportCommand(file, InterchangeFormat.CSV, Optional.empty()).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, file), result.getFeedbackToUser());
+        assertFalse(Files.exists(file));
+
+        // changes after the command has returned are not exported
+        model.setAddressBook(new AddressBook());
+
+        String feedback = result.getBackgroundTask().orElseThrow().run(progress -> { });
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, personCount, file), feedback);
+        assertEquals(personCount + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_withFilter_exportsMatchingPersons() throws Exception {
+        Path file = temporaryFolder.resolve("contacts.jsonl");
+        FieldContainsKeywordsPredicate predicate = new FieldContainsKeywordsPredicate(List.of("Alice"));
+
+        CommandResult result = new ExportCommand(file, InterchangeFormat.JSONL, Optional.of(predicate))
+                .execute(model);
+        String feedback = result.getBackgroundTask().orElseThrow().run(progress -> { });
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), feedback);
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void execute_manyPersons_reportsProgress() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < ExportCommand.PROGRESS_INTERVAL * 2; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        model.setAddressBook(addressBook);
+        Path file = temporaryFolder.resolve("contacts.vcf");
+
+        List<String> progress = new ArrayList<>();
+        new ExportCommand(file, InterchangeFormat.VCARD, Optional.empty()).execute(model)
+                .getBackgroundTask().orElseThrow().run(progress::add);
+
+        assertEquals(List.of(
+                String.format(ExportCommand.MESSAGE_PROGRESS, file, 50, ExportCommand.PROGRESS_INTERVAL),
+                String.format(ExportCommand.MESSAGE_PROGRESS, file, 100, ExportCommand.PROGRESS_INTERVAL * 2)),
+                progress);
+    }
+
+    @Test
+    public void execute_directory_throwsCommandException() {
+        ExportCommand command = new ExportCommand(temporaryFolder, InterchangeFormat.CSV, Optional.empty());
+        assertThrows(CommandException.class, String.format(ExportCommand.MESSAGE_IS_DIRECTORY, temporaryFolder), ()
+                -> command.execute(model));
+    }
+
+    @Test
+    public void execute_unwritableFile_taskThrowsCommandException() throws Exception {
+        Path file = temporaryFolder.resolve("missing").resolve("contacts.csv");
+        BackgroundTask task = new ExportCommand(file, InterchangeFormat.CSV, Optional.empty()).execute(model)
+                .getBackgroundTask().orElseThrow();
+        assertThrows(CommandException.class, () -> task.run(progress -> { }));
+    }
+
+    @Test
+    public void equals() {
+        Path file = Path.of("contacts.csv");
+        Optional<FieldContainsKeywordsPredicate> predicate =
+                Optional.of(new FieldContainsKeywordsPredicate(List.of("Alice")));
+        ExportCommand exportCommand = new ExportCommand(file, InterchangeFormat.CSV, predicate);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(file, InterchangeFormat.CSV, predicate)));
+        assertFalse(exportCommand.equals(null));
+        assertFalse(exportCommand.equals(new ExportCommand(file, InterchangeFormat.JSONL, predicate)));
+        assertFalse(exportCommand.equals(new ExportCommand(file, InterchangeFormat.CSV, Optional.empty())));
+        assertFalse(exportCommand.equals(new ExportCommand(Path.of("other.csv"), InterchangeFormat.CSV, predicate)));
+    }
+}
@@ -100,7 +100,7 @@ class FieldCommandTest {
     @Test
     void constructorNullIndexThrows() {
         Map<String, String> pairs = Map.of("k", "v");
-        assertThrows(NullPointerException.class, () -> new FieldCommand(null, pairs, List.of()));
+        assertThrows(NullPointerException.class, () -> new FieldCommand((Index) null, pairs, List.of()));
     }
 
     @Test
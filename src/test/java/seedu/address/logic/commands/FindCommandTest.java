@@ -12,13 +12,16 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.testutil.FlightRecorderUtil;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +77,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_whileRecording_emitsFindEvent() throws Throwable {
+        FindCommand command = new FindCommand(preparePredicate("Kurz Elle Kunz"));
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(FindEvent.NAME, () -> command.execute(model));
+
+        assertEquals(1, events.size());
+        assertEquals(model.getAddressBook().getPersonList().size(), events.get(0).getInt("candidateCount"));
+        assertEquals(3, events.get(0).getInt("matchCount"));
+    }
+
     @Test
     public void toStringMethod() {
         FieldContainsKeywordsPredicate predicate = new FieldContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -3,19 +3,24 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.history.CommandHistory;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.PersonSortOrder;
 
 public class HistoryCommandTest {
 
@@ -39,6 +44,21 @@ public class HistoryCommandTest {
         assertEquals(expected, result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_moreEntriesThanShown_showsNewestWithOlderCount() {
+        CommandHistory history = new CommandHistory(List.of(), HistoryCommand.MAX_ENTRIES_SHOWN + 10);
+        for (int i = 1; i <= HistoryCommand.MAX_ENTRIES_SHOWN + 3; i++) {
+            history.add("list " + i);
+        }
+        CommandResult result = new HistoryCommand().execute(new ModelStub(history));
+
+        String expectedHistory = IntStream.rangeClosed(4, HistoryCommand.MAX_ENTRIES_SHOWN + 3)
+                .mapToObj(number -> number + ". list " + number)
+                .collect(Collectors.joining(System.lineSeparator()));
+        assertEquals(String.format(HistoryCommand.MESSAGE_OLDER_ENTRIES_HIDDEN, 3, expectedHistory),
+                result.getFeedbackToUser());
+    }
+
     private static class ModelStub implements Model {
         private final CommandHistory history;
 
@@ -85,6 +105,16 @@ public class HistoryCommandTest {
             return new AddressBook();
         }
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            return AddressBookSnapshot.empty();
+        }
+
+        @Override
+        public AddressBookSnapshot getCommittedAddressBook() {
+            return AddressBookSnapshot.empty();
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -105,6 +135,26 @@ public class HistoryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commit() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollback() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -115,6 +165,11 @@ public class HistoryCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateSortedPersonList(PersonSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public CommandHistory getCommandHistory() {
             return history;
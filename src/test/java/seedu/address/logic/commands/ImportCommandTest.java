@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.storage.interchange.InterchangeFormat;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,tags\n";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path write(String fileName, String content) throws IOException {
+        Path file = temporaryFolder.resolve(fileName);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    public void execute_validCsv_importsAndReportsErrors() throws Exception {
+        Path file = write("contacts.csv", CSV_HEADER
+                + "Zara Tan,+65 9123-4567,zara@example.com,1 Zara Road,client;vip\n"
+                + "Alice Pauline,94351253,alice@example.com,Duplicate Street,\n"
+                + "Bad Phone,abc,bad@example.com,1 Bad Road,\n"
+                + "No Email,91234567,,1 Road,\n"
+                + "Zara Tan,91234567,zara2@example.com,Repeated in file,\n");
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ImportCommand(file, InterchangeFormat.CSV).execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file, 2, 2)), feedback);
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ERROR_LINE, 4, "")));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ERROR_LINE, 5,
+                String.format(ImportCommand.MESSAGE_MISSING_FIELD, "email"))));
+        assertEquals(sizeBefore + 1, model.getAddressBook().getPersonList().size());
+        assertTrue(model.getAddressBook().getPersonList().stream()
+                .anyMatch(p -> p.getName().equals(new Name("Zara Tan")) && p.getPhone().value.equals("6591234567")));
+    }
+
+    @Test
+    public void execute_validVcard_imports() throws Exception {
+        Path file = write("contacts.vcf", "BEGIN:VCARD\nFN:Yusuf Ali\nTEL:81234567\nEMAIL:yusuf@example.com\n"
+                + "ADR:;;2 Yusuf Street;;;;\nEND:VCARD\n");
+
+        new ImportCommand(file, InterchangeFormat.VCARD).execute(model);
+
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Yusuf Ali").build()));
+    }
+
+    @Test
+    public void execute_manyErrors_reportIsBounded() throws Exception {
+        String rows = IntStream.range(0, ImportCommand.MAX_REPORTED_ERRORS + 5)
+                .mapToObj(i -> "Person " + i + ",bad,p@example.com,Road\n")
+                .collect(Collectors.joining());
+        Path file = write("errors.csv", CSV_HEADER + rows);
+
+        String feedback = new ImportCommand(file, InterchangeFormat.CSV).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_largeCsv_importsAcrossChunks() throws Exception {
+        int count = ImportCommand.CHUNK_SIZE * 2 + 10;
+        String rows = IntStream.range(0, count)
+                .mapToObj(i -> "Bulk Person " + i + ",9" + i + "00,bulk" + i + "@example.com,Bulk Road\n")
+                .collect(Collectors.joining());
+        Path file = write("bulk.csv", CSV_HEADER + rows);
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+
+        new ImportCommand(file, InterchangeFormat.CSV).execute(model);
+
+        assertEquals(sizeBefore + count, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () -> new ImportCommand(file, InterchangeFormat.CSV).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand csvCommand = new ImportCommand(Path.of("a.csv"), InterchangeFormat.CSV);
+
+        assertTrue(csvCommand.equals(csvCommand));
+        assertTrue(csvCommand.equals(new ImportCommand(Path.of("a.csv"), InterchangeFormat.CSV)));
+        assertFalse(csvCommand.equals(null));
+        assertFalse(csvCommand.equals(new ImportCommand(Path.of("b.csv"), InterchangeFormat.CSV)));
+        assertFalse(csvCommand.equals(new ImportCommand(Path.of("a.csv"), InterchangeFormat.VCARD)));
+    }
+}
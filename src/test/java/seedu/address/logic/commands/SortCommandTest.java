@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.PersonSortOrder;
+import seedu.address.model.person.sort.SortCriterion;
+import seedu.address.model.person.sort.SortCriterion.Attribute;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortCommand.
+ */
+public class SortCommandTest {
+
+    private static final PersonSortOrder NAME_DESCENDING =
+            new PersonSortOrder(List.of(SortCriterion.of(Attribute.NAME, false)));
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nameDescending_sortsList() {
+        expectedModel.updateSortedPersonList(NAME_DESCENDING);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, NAME_DESCENDING.describe());
+        assertCommandSuccess(new SortCommand(NAME_DESCENDING), model, expectedMessage, expectedModel);
+        assertEquals(GEORGE, model.getFilteredPersonList().get(0));
+        assertEquals(ALICE, model.getFilteredPersonList().get(model.getFilteredPersonList().size() - 1));
+    }
+
+    @Test
+    public void execute_unsorted_restoresOriginalOrder() {
+        model.updateSortedPersonList(NAME_DESCENDING);
+        assertCommandSuccess(new SortCommand(PersonSortOrder.UNSORTED), model, SortCommand.MESSAGE_CLEARED,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_editAfterSort_keepsListSorted() {
+        model.updateSortedPersonList(NAME_DESCENDING);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        model.setPerson(ALICE, renamedAlice);
+        assertEquals(renamedAlice, model.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(NAME_DESCENDING);
+
+        // same object -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(new SortCommand(
+                new PersonSortOrder(List.of(SortCriterion.of(Attribute.NAME, false))))));
+
+        // different types -> returns false
+        assertFalse(sortCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortCommand.equals(new SortCommand(PersonSortOrder.UNSORTED)));
+    }
+}
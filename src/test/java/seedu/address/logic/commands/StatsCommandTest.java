@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.stats.CommandStage;
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_noStats_showsNoStatsMessage() {
+        CommandResult result = new StatsCommand(new CommandStats(), false).execute(new ModelManager());
+
+        assertEquals(StatsCommand.MESSAGE_NO_STATS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_stats_showsLatenciesAndSaves() {
+        CommandStats stats = new CommandStats();
+        stats.record("add", CommandStage.EXECUTE, 1_500_000);
+        stats.recordSave(2048);
+
+        CommandResult result = new StatsCommand(stats, false).execute(new ModelManager());
+
+        assertEquals(String.format(StatsCommand.MESSAGE_SUCCESS, stats.getSummaryLines().get(0), 1, 2048),
+                result.getFeedbackToUser());
+        assertEquals(1, stats.getSaveCount());
+    }
+
+    @Test
+    public void execute_reset_showsThenResetsStats() {
+        CommandStats stats = new CommandStats();
+        stats.record("add", CommandStage.EXECUTE, 1_500_000);
+
+        CommandResult result = new StatsCommand(stats, true).execute(new ModelManager());
+
+        assertTrue(result.getFeedbackToUser().contains("add execute: 1 timed"));
+        assertTrue(result.getFeedbackToUser().endsWith(StatsCommand.MESSAGE_RESET));
+        assertTrue(stats.getSummaryLines().isEmpty());
+    }
+
+    @Test
+    public void isReadOnly_onlyWithoutReset() {
+        assertTrue(new StatsCommand(new CommandStats(), false).isReadOnly());
+        assertFalse(new StatsCommand(new CommandStats(), true).isReadOnly());
+    }
+}
@@ -10,11 +10,13 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -54,6 +56,29 @@ public class TagCommandTest {
         assertTrue(result.getFeedbackToUser().contains("friends"));
     }
 
+    @Test
+    public void execute_allIndices_tagsEveryDisplayedPerson() throws CommandException {
+        Set<Tag> tagsToAdd = Set.of(new Tag("bulk"));
+        int personCount = model.getFilteredPersonList().size();
+
+        CommandResult result = new TagCommand(IndexSelection.all(), tagsToAdd, Set.of()).execute(model);
+
+        assertTrue(model.getFilteredPersonList().stream().allMatch(p -> p.getTags().contains(new Tag("bulk"))));
+        assertEquals(String.format(TagCommand.MESSAGE_CHANGE_TAGS_MULTIPLE_SUCCESS, personCount, "bulk", ""),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_selectionOutOfRange_throwsCommandException() {
+        int outOfRange = model.getFilteredPersonList().size() + 1;
+        IndexSelection indices = IndexSelection.ofRanges(List.of(
+                new IndexSelection.Range(INDEX_FIRST_PERSON, Index.fromOneBased(outOfRange))));
+        TagCommand tagCommand = new TagCommand(indices, Set.of(new Tag("bulk")), Set.of());
+
+        assertThrows(CommandException.class, () -> tagCommand.execute(model));
+        assertFalse(model.getFilteredPersonList().get(0).getTags().contains(new Tag("bulk")));
+    }
+
     @Test
     public void execute_addSingleTag_success() throws CommandException {
         Set<Tag> tagsToAdd = Set.of(new Tag("singleTag"));
@@ -166,7 +191,8 @@ public class TagCommandTest {
         Set<Tag> addTags = Set.of(new Tag("tag1"));
         Set<Tag> subTags = Set.of(new Tag("tag2"));
         TagCommand tagCommand = new TagCommand(targetIndex, addTags, subTags);
-        String expected = TagCommand.class.getCanonicalName() + "{index=" + targetIndex + ", addTags=" + addTags
+        String expected = TagCommand.class.getCanonicalName() + "{indices=" + IndexSelection.of(targetIndex)
+                + ", addTags=" + addTags
                 + ", subTags=" + subTags + "}";
         assertEquals(expected, tagCommand.toString());
     }
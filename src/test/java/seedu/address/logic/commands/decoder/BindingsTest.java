@@ -19,4 +19,21 @@ public class BindingsTest {
     public void bindings_resolveExactNoMatches_throwsResolutionException() {
         assertThrows(ResolutionException.class, () -> Bindings.resolveExactBinding((s) -> false));
     }
+
+    @Test
+    public void bindings_resolveExactPrefixAmbiguous_throwsResolutionException() {
+        assertThrows(ResolutionException.class, () -> Bindings.resolveExactBinding("ex"));
+        assertThrows(ResolutionException.class, () -> Bindings.resolveExactBinding(""));
+    }
+
+    @Test
+    public void bindings_resolveExactPrefixNoMatches_throwsResolutionException() {
+        assertThrows(ResolutionException.class, () -> Bindings.resolveExactBinding("frobnicate"));
+        assertThrows(ResolutionException.class, () -> Bindings.resolveExactBinding("lists"));
+    }
+
+    @Test
+    public void bindings_resolveExactImperativeAmbiguous_throwsResolutionException() {
+        assertThrows(ResolutionException.class, () -> Bindings.resolveExactImperative("s"));
+    }
 }
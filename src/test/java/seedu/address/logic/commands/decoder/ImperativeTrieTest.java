@@ -0,0 +1,42 @@
+package seedu.address.logic.commands.decoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class ImperativeTrieTest {
+    private final ImperativeTrie<String> trie = ImperativeTrie.of(
+            new String[] {"edit", "exit", "export", "in", "info", "list"}, Function.identity());
+
+    @Test
+    public void withPrefix_variousPrefixes_returnsMatchesInOrder() {
+        assertEquals(List.of("edit", "exit", "export", "in", "info", "list"), trie.withPrefix(""));
+        assertEquals(List.of("edit", "exit", "export"), trie.withPrefix("e"));
+        assertEquals(List.of("exit", "export"), trie.withPrefix("ex"));
+        assertEquals(List.of("export"), trie.withPrefix("exp"));
+        assertEquals(List.of("in", "info"), trie.withPrefix("in"));
+        assertEquals(List.of("list"), trie.withPrefix("list"));
+        assertEquals(List.of(), trie.withPrefix("lists"));
+        assertEquals(List.of(), trie.withPrefix("x"));
+        assertEquals(List.of(), trie.withPrefix("Edit"));
+    }
+
+    @Test
+    public void commonPrefix_variousPrefixes_extendsWhileUnambiguous() {
+        assertEquals(Optional.of(""), trie.commonPrefix(""));
+        assertEquals(Optional.of("e"), trie.commonPrefix("e"));
+        assertEquals(Optional.of("ex"), trie.commonPrefix("ex"));
+        assertEquals(Optional.of("export"), trie.commonPrefix("exp"));
+        assertEquals(Optional.of("list"), trie.commonPrefix("l"));
+
+        // stops at an imperative that is a prefix of another
+        assertEquals(Optional.of("in"), trie.commonPrefix("i"));
+        assertEquals(Optional.of("info"), trie.commonPrefix("inf"));
+
+        assertEquals(Optional.empty(), trie.commonPrefix("q"));
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
@@ -19,6 +20,15 @@ public class DeleteCommandExtractorTest {
                 DeleteCommandExtractor.extract(BareCommand.parse("delete 1")));
     }
 
+    @Test
+    public void parse_indexSelection_returnsDeleteCommand() throws LexerException, ParserException,
+            ValidationException {
+        assertEquals(new DeleteCommand(Validation.validateIndexSelection("1,3-5")),
+                DeleteCommandExtractor.extract(BareCommand.parse("delete 1,3-5")));
+        assertEquals(new DeleteCommand(IndexSelection.all()),
+                DeleteCommandExtractor.extract(BareCommand.parse("delete all")));
+    }
+
     @Test
     public void parse_invalidArgsInvalidIndex_throwsException() {
         assertThrows(ValidationException.class, () ->
@@ -27,5 +37,7 @@ public class DeleteCommandExtractorTest {
                 DeleteCommandExtractor.extract(BareCommand.parse("delete a")));
         assertThrows(ValidationException.class, () ->
                 DeleteCommandExtractor.extract(BareCommand.parse("delete 0")));
+        assertThrows(ValidationException.class, () ->
+                DeleteCommandExtractor.extract(BareCommand.parse("delete 4-2")));
     }
 }
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands.extractors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.LexerException;
+import seedu.address.logic.grammars.command.parser.ParserException;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.storage.interchange.InterchangeFormat;
+
+public class ExportCommandExtractorTest {
+
+    @Test
+    public void extract_noFilter_exportsAll() throws LexerException, ParserException, ValidationException {
+        assertEquals(new ExportCommand(Path.of("crm.jsonl"), InterchangeFormat.JSONL, Optional.empty()),
+                ExportCommandExtractor.extract(BareCommand.parse("export \"crm.jsonl\"")));
+        assertEquals(new ExportCommand(Path.of("crm.txt"), InterchangeFormat.VCARD, Optional.empty()),
+                ExportCommandExtractor.extract(BareCommand.parse("export \"crm.txt\" /format:vcard")));
+    }
+
+    @Test
+    public void extract_withFilter_buildsFindPredicate() throws LexerException, ParserException, ValidationException {
+        FieldContainsKeywordsPredicate predicate = new FieldContainsKeywordsPredicate(List.of("client"),
+                false, false, false, false, true, false, false, Set.of());
+        assertEquals(new ExportCommand(Path.of("crm.csv"), InterchangeFormat.CSV, Optional.of(predicate)),
+                ExportCommandExtractor.extract(BareCommand.parse("export \"crm.csv\" client /tag /format:csv")));
+    }
+
+    @Test
+    public void extract_fieldOptionWithoutKeyword_throwsValidationException() {
+        assertThrows(ValidationException.class, () ->
+                ExportCommandExtractor.extract(BareCommand.parse("export \"crm.csv\" /tag")));
+    }
+
+    @Test
+    public void extract_unknownFormat_throwsValidationException() {
+        assertThrows(ValidationException.class, String.format(ImportCommandExtractor.MESSAGE_UNKNOWN_FORMAT,
+                "xml", "csv, vcard, jsonl"), () ->
+                ExportCommandExtractor.extract(BareCommand.parse("export \"crm.csv\" /format:xml")));
+    }
+}
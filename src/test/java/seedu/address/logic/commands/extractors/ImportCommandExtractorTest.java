@@ -0,0 +1,53 @@
+package seedu.address.logic.commands.extractors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.LexerException;
+import seedu.address.logic.grammars.command.parser.ParserException;
+import seedu.address.storage.interchange.InterchangeFormat;
+
+public class ImportCommandExtractorTest {
+
+    @Test
+    public void extract_formatFromExtension() throws LexerException, ParserException, ValidationException {
+        assertEquals(new ImportCommand(Path.of("crm.csv"), InterchangeFormat.CSV),
+                ImportCommandExtractor.extract(BareCommand.parse("import \"crm.csv\"")));
+        assertEquals(new ImportCommand(Path.of("crm.VCF"), InterchangeFormat.VCARD),
+                ImportCommandExtractor.extract(BareCommand.parse("import \"crm.VCF\"")));
+    }
+
+    @Test
+    public void extract_formatOption_overridesExtension() throws LexerException, ParserException, ValidationException {
+        assertEquals(new ImportCommand(Path.of("crm.txt"), InterchangeFormat.VCARD),
+                ImportCommandExtractor.extract(BareCommand.parse("import \"crm.txt\" /format:vcard")));
+    }
+
+    @Test
+    public void extract_unknownFormat_throwsValidationException() {
+        assertThrows(ValidationException.class, String.format(ImportCommandExtractor.MESSAGE_FORMAT_UNSPECIFIED,
+                "crm.txt", "csv|vcard"), () -> ImportCommandExtractor.extract(BareCommand.parse("import \"crm.txt\"")));
+        assertThrows(ValidationException.class, String.format(ImportCommandExtractor.MESSAGE_UNKNOWN_FORMAT,
+                "xml", "csv, vcard"), () ->
+                ImportCommandExtractor.extract(BareCommand.parse("import \"crm.csv\" /format:xml")));
+    }
+
+    @Test
+    public void extract_exportOnlyFormat_throwsValidationException() {
+        assertThrows(ValidationException.class, String.format(ImportCommandExtractor.MESSAGE_UNKNOWN_FORMAT,
+                "jsonl", "csv, vcard"), () ->
+                ImportCommandExtractor.extract(BareCommand.parse("import \"crm.csv\" /format:jsonl")));
+    }
+
+    @Test
+    public void extract_missingFile_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> ImportCommandExtractor.extract(BareCommand.parse("import")));
+    }
+}
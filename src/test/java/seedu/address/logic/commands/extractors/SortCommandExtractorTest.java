@@ -0,0 +1,45 @@
+package seedu.address.logic.commands.extractors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.exceptions.ValidationException;
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.LexerException;
+import seedu.address.logic.grammars.command.parser.ParserException;
+import seedu.address.model.person.sort.PersonSortOrder;
+import seedu.address.model.person.sort.SortCriterion;
+import seedu.address.model.person.sort.SortCriterion.Attribute;
+
+public class SortCommandExtractorTest {
+
+    @Test
+    public void extract_noKeys_unsorted() throws LexerException, ParserException, ValidationException {
+        assertEquals(new SortCommand(PersonSortOrder.UNSORTED),
+                SortCommandExtractor.extract(BareCommand.parse("sort")));
+    }
+
+    @Test
+    public void extract_multipleKeys_preservesPrecedenceAndDirection()
+            throws LexerException, ParserException, ValidationException {
+        SortCommand expected = new SortCommand(new PersonSortOrder(List.of(
+                SortCriterion.of(Attribute.TAG_COUNT, false),
+                SortCriterion.of(Attribute.NAME, true),
+                SortCriterion.of(Attribute.PHONE, true),
+                SortCriterion.ofField("risk level", false))));
+
+        assertEquals(expected, SortCommandExtractor.extract(
+                BareCommand.parse("sort -tags name +phone -\"risk level\"")));
+    }
+
+    @Test
+    public void extract_duplicateKey_throwsValidationException() {
+        assertThrows(ValidationException.class, String.format(SortCommandExtractor.MESSAGE_DUPLICATE_KEY, "name"), ()
+                -> SortCommandExtractor.extract(BareCommand.parse("sort name -name")));
+    }
+}
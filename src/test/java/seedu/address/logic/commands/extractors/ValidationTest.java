@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.exceptions.ValidationException;
 import seedu.address.logic.grammars.command.BareCommand;
 import seedu.address.logic.grammars.command.BareCommand.BareCommandBuilder;
@@ -422,6 +423,46 @@ public class ValidationTest {
         }
     }
 
+    @Nested
+    class ValidateIndexSelectionTests {
+        @Test
+        public void validateIndexSelection_listsAndRanges_success() {
+            IndexSelection expected = IndexSelection.ofRanges(List.of(
+                    new IndexSelection.Range(Index.fromOneBased(1), Index.fromOneBased(1)),
+                    new IndexSelection.Range(Index.fromOneBased(4), Index.fromOneBased(4)),
+                    new IndexSelection.Range(Index.fromOneBased(10), Index.fromOneBased(250))));
+
+            assertEquals(expected, assertDoesNotThrow(() -> Validation.validateIndexSelection("1,4,10-250")));
+        }
+
+        @Test
+        public void validateIndexSelection_all_success() {
+            BareCommand cmd = new BareCommandBuilder()
+                    .setImperative("command")
+                    .addParameter("ALL")
+                    .build();
+
+            assertEquals(IndexSelection.all(), assertDoesNotThrow(() -> Validation.validateIndexSelection(cmd, 0)));
+        }
+
+        @Test
+        public void validateIndexSelection_singleIndex_equalsSingleSelection() {
+            assertEquals(IndexSelection.of(Index.fromOneBased(3)),
+                    assertDoesNotThrow(() -> Validation.validateIndexSelection("3")));
+        }
+
+        @Test
+        public void validateIndexSelection_invalidSelection_throwsException() {
+            assertThrows(ValidationException.class, () -> Validation.validateIndexSelection("0"));
+            assertThrows(ValidationException.class, () -> Validation.validateIndexSelection("1,,2"));
+            assertThrows(ValidationException.class, () -> Validation.validateIndexSelection("1-"));
+            assertThrows(ValidationException.class, () -> Validation.validateIndexSelection("some"));
+            ValidationException e = assertThrows(ValidationException.class, () ->
+                    Validation.validateIndexSelection("5-2"));
+            assertEquals(String.format(Validation.MESSAGE_INDEX_RANGE_REVERSED, "5-2"), e.getMessage());
+        }
+    }
+
     @Nested
     class ValidateNameTests {
         private static final String INVALID_NAME = "R@chel";
@@ -2,10 +2,13 @@ package seedu.address.logic.grammars.command.lexer;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.grammars.command.utils.Location;
+
 public class CommandLexerTest {
     @Test
     public void lex_word_success() {
@@ -22,6 +25,40 @@ public class CommandLexerTest {
         assertEquals(expected, tc.toString());
     }
 
+    @Test
+    public void lex_indexList_success() {
+        String ingest = "tag 1,4,10-25 -friend 2-x";
+
+        String expected = """
+                [00:03] WORD : tag
+                [04:13] WORD : 1,4,10-25
+                [14:15] MINUS : -
+                [15:21] WORD : friend
+                [22:23] WORD : 2
+                [23:24] MINUS : -
+                [24:25] WORD : x
+                [25:25] TERMINAL : \
+                """;
+
+        TokenisedCommand tc = assertDoesNotThrow(() -> CommandLexer.lexCommand(ingest));
+        assertEquals(expected, tc.toString());
+    }
+
+    @Test
+    public void lex_semicolon_success() {
+        String ingest = "list; clear";
+
+        String expected = """
+                [00:04] WORD : list
+                [04:05] SEMICOLON : ;
+                [06:11] WORD : clear
+                [11:11] TERMINAL : \
+                """;
+
+        TokenisedCommand tc = assertDoesNotThrow(() -> CommandLexer.lexCommand(ingest));
+        assertEquals(expected, tc.toString());
+    }
+
     @Test
     public void lex_text_success() {
         String ingest = "\"test test test\"";
@@ -101,4 +138,21 @@ public class CommandLexerTest {
 
         assertThrows(LexerException.class, () -> CommandLexer.lexCommand(ingest));
     }
+
+    @Test
+    public void lex_nonAsciiCharacter_throwsException() {
+        assertThrows(LexerException.class, () -> CommandLexer.lexCommand("find caf\u00e9"));
+        assertThrows(LexerException.class, () -> CommandLexer.lexCommand("list\t"));
+    }
+
+    @Test
+    public void lex_token_literalAndLocationFromOffsets() {
+        TokenisedCommand tc = assertDoesNotThrow(() -> CommandLexer.lexCommand("add /name:\"Ann Lee\""));
+
+        Token text = tc.getAtIndex(4);
+        assertEquals(TokenType.TEXT, text.getType());
+        assertEquals("Ann Lee", text.getLiteral());
+        assertSame(text.getLiteral(), text.getLiteral());
+        assertEquals(new Location(11, 18), text.getLocation());
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.grammars.command.lexer.CommandLexer;
@@ -195,4 +197,38 @@ public class CommandParserTest {
 
         assertThrows(ParserException.class, () -> CommandParser.parseCommand(CommandLexer.lexCommand(ingest)));
     }
+
+    @Test
+    public void parseCommandSequence_multipleCommands_success() {
+        String ingest = "test a /opt; test b ;test c";
+
+        List<AstNode.Command> commands = assertDoesNotThrow(() ->
+                CommandParser.parseCommandSequence(CommandLexer.lexCommand(ingest)));
+
+        assertEquals(3, commands.size());
+        String expectedLast = """
+                Command
+                ├─ Imperative
+                │  └─ Word ("test")
+                ├─ ParameterList
+                │  └─ Parameter
+                │     └─ NormalParameter
+                │        └─ Text ("c")
+                └─ OptionList\
+                """;
+        assertEquals(expectedLast, new AstPrinter().print(commands.get(2)));
+    }
+
+    @Test
+    public void parseCommandSequence_emptyCommand_throwsException() {
+        assertThrows(ParserException.class, () -> CommandParser.parseCommandSequence(CommandLexer.lexCommand("test;")));
+        assertThrows(ParserException.class, () -> CommandParser.parseCommandSequence(CommandLexer.lexCommand(";test")));
+        assertThrows(ParserException.class, () ->
+                CommandParser.parseCommandSequence(CommandLexer.lexCommand("test;;test")));
+    }
+
+    @Test
+    public void parseCommand_semicolon_throwsException() {
+        assertThrows(ParserException.class, () -> CommandParser.parseCommand(CommandLexer.lexCommand("test; test")));
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.address.logic.grammars.command.parser;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.grammars.command.BareCommand;
+import seedu.address.logic.grammars.command.lexer.CommandLexer;
+import seedu.address.logic.grammars.command.lexer.TokenisedCommand;
+import seedu.address.logic.grammars.command.parser.ast.visitors.CommandExtractor;
+
+public class FastCommandParserTest {
+    @Test
+    public void tryParseCommand_validCommands_sameAsAstParser() {
+        List<String> ingests = List.of(
+                "test",
+                "test param1 \"param 2\" +add -remove",
+                "test /flag /key:value /key:\"other value\" /flag",
+                "field 1,3-5 /github:\"octocat\" /email:\"a@b.com\"",
+                "tag 1 +friend -colleague /verbose");
+
+        for (String ingest : ingests) {
+            TokenisedCommand tokenisedCommand = assertDoesNotThrow(() -> CommandLexer.lexCommand(ingest));
+            Optional<BareCommand> fast = FastCommandParser.tryParseCommand(tokenisedCommand);
+            BareCommand full = assertDoesNotThrow(() ->
+                    new CommandExtractor().extract(CommandParser.parseCommand(tokenisedCommand)));
+
+            assertTrue(fast.isPresent(), ingest);
+            assertSameCommand(full, fast.get());
+        }
+    }
+
+    @Test
+    public void tryParseCommand_malformedCommands_empty() {
+        List<String> ingests = List.of(
+                "",
+                "\"text\" imperative",
+                "test + /opt",
+                "test - /opt",
+                "test param : /opt",
+                "test /\"name\"",
+                "test /opt:",
+                "test /opt param",
+                "test; test");
+
+        for (String ingest : ingests) {
+            TokenisedCommand tokenisedCommand = assertDoesNotThrow(() -> CommandLexer.lexCommand(ingest));
+            assertEquals(Optional.empty(), FastCommandParser.tryParseCommand(tokenisedCommand), ingest);
+        }
+    }
+
+    @Test
+    public void tryParseCommandSequence_validSequence_sameAsAstParser() {
+        TokenisedCommand tokenisedCommand = assertDoesNotThrow(() ->
+                CommandLexer.lexCommand("list; find alice /tag:friend; undo"));
+
+        List<BareCommand> fast = FastCommandParser.tryParseCommandSequence(tokenisedCommand).orElseThrow();
+        List<BareCommand> full = assertDoesNotThrow(() -> CommandParser.parseCommandSequence(tokenisedCommand))
+                .stream().map(root -> new CommandExtractor().extract(root)).toList();
+
+        assertEquals(full.size(), fast.size());
+        for (int i = 0; i < full.size(); i++) {
+            assertSameCommand(full.get(i), fast.get(i));
+        }
+    }
+
+    @Test
+    public void tryParseCommandSequence_malformedSequence_empty() {
+        for (String ingest : List.of("list;", "; list", "list;; undo", "list; /opt")) {
+            TokenisedCommand tokenisedCommand = assertDoesNotThrow(() -> CommandLexer.lexCommand(ingest));
+            assertEquals(Optional.empty(), FastCommandParser.tryParseCommandSequence(tokenisedCommand), ingest);
+        }
+    }
+
+    private static void assertSameCommand(BareCommand expected, BareCommand actual) {
+        assertEquals(expected.getImperative(), actual.getImperative());
+        assertEquals(expected.getAllParameters(), actual.getAllParameters());
+        assertEquals(expected.getAllOptions(), actual.getAllOptions());
+    }
+}
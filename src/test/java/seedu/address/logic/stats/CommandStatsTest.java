@@ -0,0 +1,72 @@
+package seedu.address.logic.stats;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandStatsTest {
+
+    @Test
+    public void getSummaryLines_recordedStages_orderedByImperativeThenStage() {
+        CommandStats stats = new CommandStats();
+        stats.record("tag", CommandStage.EXECUTE, 2_000_000);
+        stats.record("tag", CommandStage.LEX, 10_000);
+        stats.record("add", CommandStage.SAVE, 5_000_000);
+
+        assertEquals(List.of(
+                "add save: 1 timed, p50 5.000 ms, p90 5.000 ms, p99 5.000 ms, max 5.000 ms",
+                "tag lex: 1 timed, p50 0.010 ms, p90 0.010 ms, p99 0.010 ms, max 0.010 ms",
+                "tag execute: 1 timed, p50 2.000 ms, p90 2.000 ms, p99 2.000 ms, max 2.000 ms"),
+                stats.getSummaryLines());
+    }
+
+    @Test
+    public void getLatencyPercentile_byName_readsStage() {
+        CommandStats stats = new CommandStats();
+        for (int i = 1; i <= 100; i++) {
+            stats.record("find", CommandStage.EXECUTE, i);
+        }
+
+        assertEquals(90, stats.getLatencyPercentile("find", "execute", 90));
+        assertEquals(0, stats.getLatencyPercentile("find", "save", 90));
+        assertEquals(0, stats.getLatencyPercentile("list", "execute", 90));
+        assertThrows(IllegalArgumentException.class, () -> stats.getLatencyPercentile("find", "render", 90));
+    }
+
+    @Test
+    public void reset_discardsLatenciesAndCounters() {
+        CommandStats stats = new CommandStats();
+        stats.record("add", CommandStage.EXECUTE, 1_000);
+        stats.recordSave(512);
+        stats.recordSave(256);
+        assertEquals(2, stats.getSaveCount());
+        assertEquals(768, stats.getBytesWritten());
+
+        stats.reset();
+
+        assertEquals(0, stats.getSaveCount());
+        assertEquals(0, stats.getBytesWritten());
+        assertArrayEquals(new String[0], stats.getLatencySummary());
+    }
+
+    @Test
+    public void registerMBean_readableThroughPlatformServer() throws Exception {
+        CommandStats stats = CommandStats.getInstance();
+        stats.registerMBean();
+        // Registering again is harmless
+        stats.registerMBean();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CommandStats.MBEAN_NAME);
+        assertTrue(server.isRegistered(name));
+        assertEquals(stats.getSaveCount(), server.getAttribute(name, "SaveCount"));
+    }
+}
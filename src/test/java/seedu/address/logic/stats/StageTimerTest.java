@@ -0,0 +1,45 @@
+package seedu.address.logic.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.consumer.RecordedEvent;
+import seedu.address.testutil.FlightRecorderUtil;
+
+public class StageTimerTest {
+
+    @Test
+    public void record_recordsIntoStats() {
+        CommandStats stats = new CommandStats();
+
+        StageTimer.start().record(stats, "list", CommandStage.EXECUTE);
+
+        assertEquals(1, stats.getSnapshot("list", CommandStage.EXECUTE).orElseThrow().getTotalCount());
+    }
+
+    @Test
+    public void record_afterStop_recordsTimeUntilStop() throws Exception {
+        CommandStats stats = new CommandStats();
+        StageTimer timer = StageTimer.start().stop();
+        Thread.sleep(200);
+        timer.stop();
+
+        timer.record(stats, "list", CommandStage.LEX);
+
+        assertTrue(stats.getSnapshot("list", CommandStage.LEX).orElseThrow().getMax() < 200_000_000);
+    }
+
+    @Test
+    public void record_whileRecording_emitsCommandStageEvent() throws Throwable {
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(CommandStageEvent.NAME, () ->
+                StageTimer.start().record(new CommandStats(), "find", CommandStage.EXECUTE));
+
+        assertEquals(1, events.size());
+        assertEquals("find", events.get(0).getString("imperative"));
+        assertEquals("execute", events.get(0).getString("stage"));
+    }
+}
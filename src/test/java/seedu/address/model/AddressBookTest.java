@@ -83,6 +83,23 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getCommittedSnapshot_isSameVersionAs_onlyWithoutChangeInBetween() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot before = addressBook.getCommittedSnapshot();
+        assertTrue(addressBook.getCommittedSnapshot().isSameVersionAs(before));
+
+        addressBook.beginTransaction();
+        addressBook.removePerson(ALICE);
+        addressBook.rollbackTransaction();
+        assertTrue(addressBook.getCommittedSnapshot().isSameVersionAs(before));
+
+        // An edit that leaves the persons equal is still a new version
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        assertEquals(before, addressBook.getCommittedSnapshot());
+        assertFalse(addressBook.getCommittedSnapshot().isSameVersionAs(before));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -7,16 +7,21 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.history.CommandHistory;
 import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -150,4 +155,51 @@ public class ModelManagerTest {
         withHistory.setCommandHistory(history);
         assertFalse(modelManager.equals(withHistory));
     }
+
+    @Test
+    public void commit_multipleChanges_firesSingleChange() {
+        modelManager.addPerson(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.setPerson(ALICE, CARL);
+        // views stay readable while the transaction is open
+        assertEquals(List.of(CARL, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(changes.isEmpty());
+        modelManager.commit();
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(CARL, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void rollback_restoresAddressBook() {
+        modelManager.addPerson(ALICE);
+        AddressBook expected = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.rollback();
+
+        assertEquals(expected, modelManager.getAddressBook());
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getCommittedAddressBook_openTransaction_returnsLastCommittedState() {
+        modelManager.addPerson(ALICE);
+        AddressBookSnapshot committed = modelManager.getCommittedAddressBook();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        assertEquals(committed, modelManager.getCommittedAddressBook());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBookSnapshot().getPersons());
+        modelManager.commit();
+
+        assertEquals(List.of(ALICE), committed.getPersons());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getCommittedAddressBook().getPersons());
+    }
 }
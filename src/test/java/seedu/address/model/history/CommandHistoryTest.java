@@ -68,6 +68,60 @@ class CommandHistoryTest {
         assertThrows(UnsupportedOperationException.class, () -> entries.add("another"));
     }
 
+    @Test
+    void get_afterOldestEntriesDropped_returnsEntryAtIndex() {
+        CommandHistory history = new CommandHistory(List.of("first", "second", "third", "fourth"), 3);
+        history.add("fifth");
+
+        assertEquals("third", history.get(0));
+        assertEquals("fifth", history.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> history.get(3));
+    }
+
+    @Test
+    void copy_laterAdditions_notCopied() {
+        CommandHistory history = new CommandHistory(List.of("list"), 3);
+        CommandHistory copy = history.copy();
+        history.add("help");
+
+        assertEquals(new CommandHistory(List.of("list"), 3), copy);
+    }
+
+    @Test
+    void copy_largeHistory_copiesNewestEntriesOnly() {
+        CommandHistory history = new CommandHistory(List.of(), 1000);
+        for (int i = 0; i < 500; i++) {
+            history.add("command" + i);
+        }
+
+        CommandHistory copy = history.copy();
+
+        assertEquals(CommandHistory.DEFAULT_MAX_ENTRIES, copy.getMaxEntries());
+        assertEquals(history.getNewestEntries(CommandHistory.DEFAULT_MAX_ENTRIES), copy.getEntries());
+        assertEquals("command499", copy.get(copy.size() - 1));
+    }
+
+    @Test
+    void getNewestEntries() {
+        CommandHistory history = new CommandHistory(List.of("list", "help", "clear"));
+
+        assertEquals(List.of("help", "clear"), history.getNewestEntries(2));
+        assertEquals(List.of("list", "help", "clear"), history.getNewestEntries(5));
+        assertEquals(List.of(), history.getNewestEntries(0));
+        assertThrows(IllegalArgumentException.class, () -> history.getNewestEntries(-1));
+    }
+
+    @Test
+    void constructor_log_startsWithEntriesInLog() {
+        CommandLog log = new BoundedCommandLog(5, 0);
+        log.append("list");
+        CommandHistory history = new CommandHistory(log);
+        history.add("help");
+
+        assertEquals(List.of("list", "help"), history.getEntries());
+        assertEquals(5, history.getMaxEntries());
+    }
+
     @Test
     void equals_sameEntriesAndLimit_returnsTrue() {
         CommandHistory first = new CommandHistory(List.of("list", "add n/Amy"), 5);
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +55,11 @@ public class AddressTest {
         // different values -> returns false
         assertFalse(address.equals(new Address("Other Valid Address")));
     }
+
+    @Test
+    public void isValidAddress_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "a1 #,-\t\n\r\f\u000B\u0085\u2028\u2029\u00a0", 12)) {
+            assertEquals(test.matches(Address.VALIDATION_REGEX), Address.isValidAddress(test), test);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -85,4 +87,11 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "ab1@.-_+", 12)) {
+            assertEquals(test.matches(Email.VALIDATION_REGEX), Email.isValidEmail(test), test);
+        }
+    }
 }
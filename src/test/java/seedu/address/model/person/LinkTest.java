@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -161,4 +162,11 @@ public class LinkTest {
         assertTrue(s.contains("Bernice Yu"));
         assertTrue(s.contains("->")); // the arrow in the format
     }
+
+    @Test
+    public void isValidLinkName_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "aZ09 _#&/().-+*:\t", 12)) {
+            assertEquals(test.matches("[A-Za-z0-9][A-Za-z0-9 _#&/().-]*"), Link.isValidLinkName(test), test);
+        }
+    }
 }
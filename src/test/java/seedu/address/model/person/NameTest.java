@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +59,11 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void isValidName_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "aZ09 _-*\t\n\u00a0\u00e9", 12)) {
+            assertEquals(test.matches(Name.VALIDATION_REGEX), Name.isValidName(test), test);
+        }
+    }
 }
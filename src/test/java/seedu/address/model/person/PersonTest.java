@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -116,6 +117,17 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> withLink.getLinks().remove(ab));
     }
 
+    @Test
+    public void derivedPerson_sharesUnchangedCollections() {
+        Person derived = new seedu.address.model.person.builder.PersonBuilder(ALICE)
+                .withPhone(new Phone(VALID_PHONE_BOB))
+                .build();
+
+        assertSame(ALICE.getTags(), derived.getTags());
+        assertSame(ALICE.getCustomFields(), derived.getCustomFields());
+        assertSame(ALICE.getLinks(), derived.getLinks());
+    }
+
     @Test
     public void equals_differentLinks_returnsFalse() {
         // Base person (no links)
@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +59,11 @@ public class PhoneTest {
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
     }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "0123456789 a+\u0661", 12)) {
+            assertEquals(test.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(test), test);
+        }
+    }
 }
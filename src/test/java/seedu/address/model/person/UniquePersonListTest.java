@@ -2,19 +2,24 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -109,6 +114,63 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPersons_targetsAndEditedPersons_replacesEachTarget() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE), Arrays.asList(editedCarl, editedAlice));
+
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_targetsAfterRemovalAndAddition_findsShiftedPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        // Looking a person up builds the index of positions, which the removal and addition then shift
+        uniquePersonList.setPerson(CARL, CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        Person editedBob = new PersonBuilder(BOB).withTags().build();
+
+        uniquePersonList.setPersons(Arrays.asList(CARL, BOB), Arrays.asList(editedCarl, editedBob));
+
+        assertEquals(Arrays.asList(BENSON, editedCarl, editedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(CARL, CARL));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
+    }
+
+    @Test
+    public void setPersons_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(List.of(ALICE),
+                List.of(BOB)));
+    }
+
+    @Test
+    public void setPersons_listsOfDifferentSizes_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE);
+
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.setPersons(List.of(ALICE),
+                List.of()));
+    }
+
+    @Test
+    public void setPersons_rolledBack_findsRestoredPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.setPersons(List.of(ALICE), List.of(editedAlice));
+        uniquePersonList.rollbackTransaction();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertEquals(Arrays.asList(editedAlice, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -172,4 +234,119 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    @Test
+    public void rollbackTransaction_restoresPriorState() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(BOB, BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPersons(List.of(CARL));
+        uniquePersonList.rollbackTransaction();
+
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.isInTransaction());
+    }
+
+    @Test
+    public void setPersons_list_firesSingleReplaceAndReindexesNames() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) changes::add);
+
+        uniquePersonList.setPersons(List.of(CARL));
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Person> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(List.of(ALICE, BOB), change.getRemoved());
+        assertEquals(List.of(CARL), change.getAddedSubList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setPersons_inTransaction_rolledBackAsOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.setPersons(List.of(BOB, CARL));
+        uniquePersonList.setPersons(List.of());
+        uniquePersonList.rollbackTransaction();
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(ALICE), uniquePersonList.snapshot());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void rollbackTransaction_nested_undoesOnlyInnerChanges() {
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(BOB);
+        uniquePersonList.rollbackTransaction();
+        assertTrue(uniquePersonList.isInTransaction());
+        uniquePersonList.commitTransaction();
+
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_outsideTransaction_followsEveryChange() {
+        List<Person> empty = uniquePersonList.committedSnapshot();
+        uniquePersonList.add(ALICE);
+        List<Person> withAlice = uniquePersonList.committedSnapshot();
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        assertEquals(List.of(), empty);
+        assertEquals(List.of(ALICE), withAlice);
+        assertEquals(List.of(BOB), uniquePersonList.committedSnapshot());
+        assertEquals(uniquePersonList.snapshot(), uniquePersonList.committedSnapshot());
+    }
+
+    @Test
+    public void committedSnapshot_insideTransaction_publishedOnlyOnCommit() {
+        uniquePersonList.add(ALICE);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPersons(List.of(CARL, BENSON));
+        assertEquals(List.of(CARL, BENSON), uniquePersonList.snapshot());
+        assertEquals(List.of(ALICE), uniquePersonList.committedSnapshot());
+        uniquePersonList.commitTransaction();
+
+        assertEquals(List.of(CARL, BENSON), uniquePersonList.committedSnapshot());
+    }
+
+    @Test
+    public void committedSnapshot_rollback_keepsPriorSnapshot() {
+        uniquePersonList.add(ALICE);
+        List<Person> before = uniquePersonList.committedSnapshot();
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.rollbackTransaction();
+
+        assertSame(before, uniquePersonList.committedSnapshot());
+        assertSame(before, uniquePersonList.snapshot());
+    }
+
+    @Test
+    public void snapshot_modify_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> uniquePersonList.snapshot().remove(0));
+    }
+
+    @Test
+    public void commitTransaction_noOpenTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.rollbackTransaction());
+    }
 }
@@ -0,0 +1,74 @@
+package seedu.address.model.person.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    @Test
+    public void insert_returnsRank() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        assertEquals(0, tree.insert(5));
+        assertEquals(0, tree.insert(1));
+        assertEquals(2, tree.insert(9));
+        assertEquals(2, tree.insert(7));
+        assertEquals(List.of(1, 5, 7, 9), tree.toList());
+    }
+
+    @Test
+    public void insert_duplicate_throwsIllegalArgumentException() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.insert(1);
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(1));
+    }
+
+    @Test
+    public void remove_returnsPreviousRank() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        List.of(3, 1, 4, 2).forEach(tree::insert);
+        assertEquals(2, tree.remove(3));
+        assertEquals(-1, tree.remove(3));
+        assertEquals(List.of(1, 2, 4), tree.toList());
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        tree.insert(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(-1));
+    }
+
+    @Test
+    public void randomOperations_matchSortedList() {
+        Random random = new Random(2103);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt(500);
+            if (expected.contains(value)) {
+                expected.remove(Integer.valueOf(value));
+                tree.remove(value);
+            } else {
+                expected.add(value);
+                tree.insert(value);
+            }
+        }
+
+        expected.sort(Collections.reverseOrder());
+        assertEquals(expected.size(), tree.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), tree.get(i));
+            assertEquals(i, tree.rankOf(expected.get(i)));
+        }
+    }
+}
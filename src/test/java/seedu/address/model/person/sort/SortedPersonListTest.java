@@ -0,0 +1,98 @@
+package seedu.address.model.person.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.sort.SortCriterion.Attribute;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedPersonListTest {
+
+    private static final PersonSortOrder NAME_DESCENDING =
+            new PersonSortOrder(List.of(SortCriterion.of(Attribute.NAME, false)));
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(BENSON, DANIEL, ALICE);
+    private final SortedPersonList sortedList = new SortedPersonList(source);
+
+    @Test
+    public void unsorted_mirrorsSource() {
+        assertEquals(source, sortedList);
+        source.add(CARL);
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void setSortOrder_sortsAndRestores() {
+        sortedList.setSortOrder(NAME_DESCENDING);
+        assertEquals(List.of(DANIEL, BENSON, ALICE), sortedList);
+
+        sortedList.setSortOrder(PersonSortOrder.UNSORTED);
+        assertEquals(List.of(BENSON, DANIEL, ALICE), sortedList);
+    }
+
+    @Test
+    public void sourceChanges_viewStaysSorted() {
+        sortedList.setSortOrder(NAME_DESCENDING);
+        List<Person> mirror = new ArrayList<>(sortedList);
+        sortedList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        source.add(CARL);
+        assertEquals(List.of(DANIEL, CARL, BENSON, ALICE), sortedList);
+
+        source.remove(DANIEL);
+        assertEquals(List.of(CARL, BENSON, ALICE), sortedList);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        source.set(source.indexOf(ALICE), renamedAlice);
+        assertEquals(List.of(renamedAlice, CARL, BENSON), sortedList);
+
+        // listeners observe the same sequence of changes
+        assertEquals(sortedList, mirror);
+    }
+
+    @Test
+    public void multipleCriteria_tiesBrokenByLaterCriteria() {
+        Person taggedBenson = new PersonBuilder(BENSON).withTags("a", "b").build();
+        Person taggedCarl = new PersonBuilder(CARL).withTags("a", "b").build();
+        Person untaggedAlice = new PersonBuilder(ALICE).withTags().build();
+        ObservableList<Person> persons = FXCollections.observableArrayList(taggedCarl, untaggedAlice, taggedBenson);
+        SortedPersonList view = new SortedPersonList(persons);
+
+        view.setSortOrder(new PersonSortOrder(List.of(
+                SortCriterion.of(Attribute.TAG_COUNT, false),
+                SortCriterion.of(Attribute.NAME, true))));
+        assertEquals(List.of(taggedBenson, taggedCarl, untaggedAlice), view);
+    }
+
+    @Test
+    public void customField_missingValuesSortedLast() {
+        Person aliceWithField = new PersonBuilder(ALICE).withCustomFields(Map.of("rank", "b")).build();
+        Person bensonWithField = new PersonBuilder(BENSON).withCustomFields(Map.of("rank", "a")).build();
+        ObservableList<Person> persons = FXCollections.observableArrayList(CARL, aliceWithField, bensonWithField);
+        SortedPersonList view = new SortedPersonList(persons);
+
+        view.setSortOrder(new PersonSortOrder(List.of(SortCriterion.ofField("rank", false))));
+        assertEquals(List.of(aliceWithField, bensonWithField, CARL), view);
+
+        view.setSortOrder(new PersonSortOrder(List.of(SortCriterion.ofField("rank", true))));
+        assertEquals(List.of(bensonWithField, aliceWithField, CARL), view);
+    }
+}
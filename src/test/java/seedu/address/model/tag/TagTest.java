@@ -1,6 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getRandomStrings;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +25,10 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_randomStrings_sameAsValidationRegex() {
+        for (String test : getRandomStrings(2103, 5000, "aZ09 _-\u00e9", 12)) {
+            assertEquals(test.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(test), test);
+        }
+    }
 }
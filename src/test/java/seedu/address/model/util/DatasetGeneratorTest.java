@@ -0,0 +1,123 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class DatasetGeneratorTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void withSettings_invalidSettings_throwsIllegalArgumentException() {
+        DatasetGenerator generator = new DatasetGenerator(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.withPersonCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withTags(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withLinks(-0.5, 1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withInfoLength(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCustomField("risk", 1.5, "High"));
+        assertThrows(IllegalArgumentException.class, () -> generator.withCustomField("risk", 0.5));
+    }
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        AddressBook first = new DatasetGenerator(42).withPersonCount(500).withLinks(2, 1).withInfoLength(50)
+                .generate();
+        AddressBook second = new DatasetGenerator(42).withPersonCount(500).withLinks(2, 1).withInfoLength(50)
+                .generate();
+        AddressBook otherSeed = new DatasetGenerator(43).withPersonCount(500).withLinks(2, 1).withInfoLength(50)
+                .generate();
+
+        assertEquals(first, second);
+        assertNotEquals(first, otherSeed);
+    }
+
+    @Test
+    public void generate_morePersonsThanNames_numbersRepeatedNames() {
+        AddressBook addressBook = new DatasetGenerator(1).withPersonCount(3000).generate();
+
+        // The address book rejects persons with the same name, so every person was added
+        assertEquals(3000, addressBook.getPersonList().size());
+        assertTrue(addressBook.getPersonList().stream()
+                .anyMatch(person -> person.getName().fullName.matches(".* \\d+")));
+    }
+
+    @Test
+    public void generate_links_heldByBothPersonsAtChosenDensity() {
+        AddressBook addressBook = new DatasetGenerator(7).withPersonCount(1000).withLinks(2, 1.2).generate();
+
+        List<Person> persons = addressBook.getPersonList();
+        long linkEnds = 0;
+        int mostLinks = 0;
+        for (Person person : persons) {
+            linkEnds += person.getLinks().size();
+            mostLinks = Math.max(mostLinks, person.getLinks().size());
+            for (Link link : person.getLinks()) {
+                assertTrue(link.getLinker().isSamePerson(person) || link.getLinkee().isSamePerson(person));
+            }
+        }
+
+        // Links repeated by chance are only held once, so slightly fewer than 2000 remain
+        long linkCount = linkEnds / 2;
+        assertTrue(linkCount > 1900 && linkCount <= 2000, "links: " + linkCount);
+        // Skewed linkees make some persons far more linked than the average of 4 link ends each
+        assertTrue(mostLinks > 40, "most links: " + mostLinks);
+    }
+
+    @Test
+    public void generate_zipfTags_fewTagsOnMostPersons() {
+        AddressBook addressBook = new DatasetGenerator(3).withPersonCount(2000).withTags(100, 1.0, 3).generate();
+
+        Map<Tag, Integer> tagCounts = new HashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.getTags().size() <= 3);
+            person.getTags().forEach(tag -> tagCounts.merge(tag, 1, Integer::sum));
+        }
+
+        assertTrue(tagCounts.get(new Tag("client")) > 10 * tagCounts.getOrDefault(new Tag("crypto4"), 1));
+    }
+
+    @Test
+    public void generate_customFieldsAndInfo_followSettings() {
+        AddressBook addressBook = new DatasetGenerator(5).withPersonCount(1000).withoutCustomFields()
+                .withCustomField("tier", 1.0, "Gold", "Silver").withInfoLength(200).generate();
+
+        long totalInfoLength = 0;
+        for (Person person : addressBook.getPersonList()) {
+            assertEquals(1, person.getCustomFields().size());
+            assertTrue(List.of("Gold", "Silver").contains(person.getCustomFields().get("tier")));
+            totalInfoLength += person.getInfo().value.length();
+        }
+
+        long averageInfoLength = totalInfoLength / 1000;
+        assertTrue(averageInfoLength > 180 && averageInfoLength < 220, "average info length: " + averageInfoLength);
+    }
+
+    @Test
+    public void generate_savedThroughStorage_readsBackEqual() throws Exception {
+        AddressBook addressBook = new DatasetGenerator(11).withPersonCount(300).withLinks(1, 1).withInfoLength(20)
+                .generate();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temporaryFolder.resolve("dataset.json"));
+
+        storage.saveAddressBook(addressBook);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().orElseThrow();
+
+        assertEquals(addressBook, new AddressBook(readBack));
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonCommandHistoryStorage;
+import seedu.address.storage.JsonSessionStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandServerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private Model model;
+    private CommandServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonCommandHistoryStorage(temporaryFolder.resolve("commandHistory.json")),
+                new JsonSessionStorage(temporaryFolder.resolve("sessions")));
+        server = CommandServer.start(new LogicManager(model, storage), writer, 0, 2);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+        writer.shutdownNow();
+    }
+
+    @Test
+    public void query_returnsPersonsWithoutChangingDisplayedList() throws Exception {
+        try (Client client = new Client()) {
+            JsonNode reply = client.request("find Alice");
+
+            assertEquals(1, reply.get("id").asLong());
+            assertTrue(reply.get("ok").asBoolean());
+            assertEquals(1, reply.get("persons").size());
+            assertEquals("Alice Pauline", reply.get("persons").get(0).get("name").asText());
+            assertEquals(getTypicalAddressBook().getPersonList().size(), model.getFilteredPersonList().size());
+        }
+    }
+
+    @Test
+    public void mutation_executedOnWriter() throws Exception {
+        int size = model.getAddressBook().getPersonList().size();
+        try (Client client = new Client()) {
+            JsonNode reply = client.request("delete 1");
+
+            assertTrue(reply.get("ok").asBoolean());
+            assertFalse(reply.has("persons"));
+            assertEquals(size - 1, model.getAddressBook().getPersonList().size());
+            // A later query sees the deletion
+            assertEquals(size - 1, client.request("list").get("persons").size());
+        }
+    }
+
+    @Test
+    public void failingCommands_replyWithError() throws Exception {
+        try (Client client = new Client()) {
+            JsonNode reply = client.request("delete 999");
+            assertFalse(reply.get("ok").asBoolean());
+            assertEquals(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, reply.get("error").asText());
+
+            assertFalse(client.request("uicfhmowqewca").get("ok").asBoolean());
+        }
+    }
+
+    @Test
+    public void export_repliesOnceFileIsWritten() throws Exception {
+        // Command lines cannot name a directory, so the file is written to the working directory
+        Path exportFile = Path.of("commandServerTestExport.csv");
+        try (Client client = new Client()) {
+            JsonNode reply = client.request("export \"" + exportFile + "\"");
+
+            assertTrue(reply.get("ok").asBoolean());
+            assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, model.getAddressBook().getPersonList().size(),
+                    exportFile), reply.get("feedback").asText());
+            assertTrue(Files.exists(exportFile));
+        } finally {
+            Files.deleteIfExists(exportFile);
+        }
+    }
+
+    @Test
+    public void windowOnlyCommands_replyWithError() throws Exception {
+        try (Client client = new Client()) {
+            for (String commandText : new String[] {"help", "exit"}) {
+                JsonNode reply = client.request(commandText);
+                assertFalse(reply.get("ok").asBoolean());
+                assertEquals(CommandServer.MESSAGE_WINDOW_ONLY, reply.get("error").asText());
+            }
+        }
+    }
+
+    @Test
+    public void slowRequest_earlierReplyNotHeldBack() throws Exception {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        writer.execute(() -> {
+            try {
+                writerBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try (Client client = new Client()) {
+            client.send("find Alice");
+            client.send("delete 1");
+
+            // The deletion waits on the blocked writer, but the reply to the query before it must still arrive
+            JsonNode reply = client.receive();
+            assertEquals(1, reply.get("id").asLong());
+            assertTrue(reply.get("ok").asBoolean());
+
+            writerBlocked.countDown();
+            assertEquals(2, client.receive().get("id").asLong());
+        } finally {
+            writerBlocked.countDown();
+        }
+    }
+
+    @Test
+    public void pipelinedRequests_repliedInOrder() throws Exception {
+        try (Client client = new Client()) {
+            for (int i = 0; i < 20; i++) {
+                client.send(i % 2 == 0 ? "list" : "tag 1 +pipelined" + i);
+            }
+            for (int i = 1; i <= 20; i++) {
+                JsonNode reply = client.receive();
+                assertEquals(i, reply.get("id").asLong());
+                assertTrue(reply.get("ok").asBoolean());
+            }
+        }
+    }
+
+    @Test
+    public void clientNotReadingReplies_doesNotStallOthers() throws Exception {
+        try (Client slow = new Client(); Client fast = new Client()) {
+            Thread flood = new Thread(() -> {
+                for (int i = 0; i < 100_000 && !Thread.currentThread().isInterrupted(); i++) {
+                    slow.send("list");
+                }
+            });
+            flood.setDaemon(true);
+            flood.start();
+
+            for (int i = 0; i < 5; i++) {
+                assertTrue(fast.request("list").get("ok").asBoolean());
+            }
+            assertTrue(fast.request("delete 1").get("ok").asBoolean());
+            flood.interrupt();
+        }
+    }
+
+    /**
+     * A client connected to the server under test.
+     */
+    private class Client implements AutoCloseable {
+        private final Socket socket;
+        private final PrintWriter out;
+        private final BufferedReader in;
+
+        Client() throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+            socket.setSoTimeout(TIMEOUT_MILLIS);
+            out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        void send(String commandText) {
+            out.println(commandText);
+        }
+
+        JsonNode receive() throws IOException {
+            return MAPPER.readTree(in.readLine());
+        }
+
+        JsonNode request(String commandText) throws IOException {
+            send(commandText);
+            return receive();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
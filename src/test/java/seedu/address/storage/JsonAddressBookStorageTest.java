@@ -9,15 +9,20 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.FlightRecorderUtil;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,26 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_whileRecording_emitsStorageEvents() throws Throwable {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(AddressBookStorageEvent.NAME, () -> {
+            jsonAddressBookStorage.saveAddressBook(original);
+            jsonAddressBookStorage.readAddressBook();
+        });
+
+        assertEquals(List.of("save", "read"),
+                events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()));
+        for (RecordedEvent event : events) {
+            assertEquals(filePath.toString(), event.getString("file"));
+            assertEquals(Files.size(filePath), event.getLong("bytes"));
+            assertEquals(original.getPersonList().size(), event.getInt("personCount"));
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -9,15 +9,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.consumer.RecordedEvent;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.session.SessionData;
+import seedu.address.testutil.FlightRecorderUtil;
 import seedu.address.testutil.PersonBuilder;
 
 class JsonSessionStorageTest {
@@ -58,6 +62,27 @@ class JsonSessionStorageTest {
         assertEquals(newer.getSavedAt(), result.get().getSavedAt());
     }
 
+    @Test
+    void readAndSaveSession_whileRecording_emitsStorageEvents() throws Throwable {
+        Path sessionDir = tempDir.resolve("sessions");
+        JsonSessionStorage storage = new JsonSessionStorage(sessionDir);
+        SessionData older = createSessionData(Instant.parse("2025-10-14T00:00:00Z"), "Alice Tan");
+        SessionData newer = createSessionData(Instant.parse("2025-10-15T00:00:00Z"), "Bob Lee");
+
+        List<RecordedEvent> events = FlightRecorderUtil.recordEvents(SessionStorageEvent.NAME, () -> {
+            storage.saveSession(older);
+            storage.saveSession(newer);
+            storage.readSession();
+        });
+
+        assertEquals(List.of("save", "save", "read"),
+                events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()));
+        RecordedEvent read = events.get(2);
+        assertEquals(2, read.getInt("fileCount"));
+        assertEquals(events.get(0).getLong("bytes") + events.get(1).getLong("bytes"), read.getLong("bytes"));
+        assertEquals(1, read.getInt("personCount"));
+    }
+
     @Test
     void readSession_skipsInvalidSessionFiles() throws Exception {
         Path sessionDir = tempDir.resolve("sessions");
@@ -90,6 +115,31 @@ class JsonSessionStorageTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void readSessionSavedSince_olderSessionsExcluded() throws Exception {
+        Path sessionDir = tempDir.resolve("sessions");
+        JsonSessionStorage storage = new JsonSessionStorage(sessionDir);
+        storage.saveSession(createSessionData(Instant.parse("2025-10-14T00:00:00Z"), "Alice Tan"));
+        SessionData newer = createSessionData(Instant.parse("2025-10-16T00:00:00Z"), "Bob Lee");
+        storage.saveSession(newer);
+
+        assertEquals(Optional.of(newer), storage.readSessionSavedSince(Instant.parse("2025-10-16T00:00:00Z")));
+        assertFalse(storage.readSessionSavedSince(Instant.parse("2025-10-17T00:00:00Z")).isPresent());
+    }
+
+    @Test
+    void readSessionSavedSince_latestSessionCorrupted_fallsBackToNextLatest() throws Exception {
+        Path sessionDir = tempDir.resolve("sessions");
+        JsonSessionStorage storage = new JsonSessionStorage(sessionDir);
+        SessionData valid = createSessionData(Instant.parse("2025-10-14T00:00:00Z"), "Alice Tan");
+        storage.saveSession(valid);
+        // The savedAt field can be read, but the rest of the file is cut off
+        Files.writeString(sessionDir.resolve("session-truncated.json"),
+                "{\"savedAt\":\"2025-10-16T00:00:00Z\",\"addressBook\":{\"persons\":[");
+
+        assertEquals(Optional.of(valid), storage.readSessionSavedSince(Instant.parse("2025-10-01T00:00:00Z")));
+    }
+
     @Test
     void saveSession_createsDirectoryAndFile() throws IOException {
         Path sessionDir = tempDir.resolve("nested").resolve("sessions");
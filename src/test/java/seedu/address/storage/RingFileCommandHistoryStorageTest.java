@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.history.CommandHistory;
+
+class RingFileCommandHistoryStorageTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Closed after each test, as a mapped file cannot be deleted on every platform
+    private final List<RingFileCommandHistoryStorage> storages = new ArrayList<>();
+
+    @AfterEach
+    void closeStorages() {
+        storages.forEach(RingFileCommandHistoryStorage::closeCommandHistory);
+    }
+
+    @Test
+    void readCommandHistory_missingFile_createsEmptyHistory() throws DataLoadingException {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandHistoryStorage storage = storage(filePath);
+
+        Optional<CommandHistory> result = storage.readCommandHistory();
+
+        assertTrue(result.orElseThrow().isEmpty());
+        assertTrue(Files.exists(filePath));
+        assertSame(result.get(), storage.readCommandHistory().orElseThrow());
+    }
+
+    @Test
+    void readCommandHistory_commandsAdded_keptWithoutSaving() throws DataLoadingException {
+        Path filePath = tempDir.resolve("history.ring");
+        CommandHistory history = storage(filePath).readCommandHistory().orElseThrow();
+        history.add("list");
+        history.add(" find alice ");
+
+        CommandHistory reread = storage(filePath).readCommandHistory().orElseThrow();
+
+        assertEquals(List.of("list", "find alice"), reread.getEntries());
+    }
+
+    @Test
+    void readCommandHistory_invalidFile_throwsDataLoadingException() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        Files.writeString(filePath, "not a ring file");
+
+        assertThrows(DataLoadingException.class, storage(filePath)::readCommandHistory);
+    }
+
+    @Test
+    void readCommandHistory_newFile_importsLegacyHistory() throws Exception {
+        JsonCommandHistoryStorage legacyStorage = new JsonCommandHistoryStorage(tempDir.resolve("history.json"));
+        legacyStorage.saveCommandHistory(new CommandHistory(List.of("list", "help")));
+        Path filePath = tempDir.resolve("history.ring");
+
+        CommandHistory history = storage(filePath, 1024, Optional.of(legacyStorage))
+                .readCommandHistory().orElseThrow();
+        history.add("clear");
+        // The legacy history is only imported when the ring file is created
+        CommandHistory reread = storage(filePath, 1024, Optional.of(legacyStorage))
+                .readCommandHistory().orElseThrow();
+
+        assertEquals(List.of("list", "help", "clear"), reread.getEntries());
+    }
+
+    @Test
+    void saveCommandHistory_otherHistory_replacesCommands() throws Exception {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandHistoryStorage storage = storage(filePath);
+        CommandHistory history = storage.readCommandHistory().orElseThrow();
+        history.add("list");
+
+        storage.saveCommandHistory(new CommandHistory(List.of("help", "clear")));
+
+        assertEquals(List.of("help", "clear"), history.getEntries());
+        assertEquals(List.of("help", "clear"),
+                storage(filePath).readCommandHistory().orElseThrow().getEntries());
+    }
+
+    @Test
+    void saveCommandHistory_historyReadFromStorage_keepsCommands() throws Exception {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandHistoryStorage storage = storage(filePath);
+        CommandHistory history = storage.readCommandHistory().orElseThrow();
+        history.add("list");
+
+        storage.saveCommandHistory(history);
+
+        assertEquals(List.of("list"),
+                storage(filePath).readCommandHistory().orElseThrow().getEntries());
+    }
+
+    @Test
+    void saveCommandHistory_nullHistory_throwsNullPointerException() {
+        RingFileCommandHistoryStorage storage = storage(tempDir.resolve("history.ring"));
+
+        assertThrows(NullPointerException.class, () -> storage.saveCommandHistory(null));
+    }
+
+    @Test
+    void closeCommandHistory_thenRead_mapsFileAgain() throws Exception {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandHistoryStorage storage = storage(filePath);
+        CommandHistory history = storage.readCommandHistory().orElseThrow();
+        history.add("list");
+
+        storage.closeCommandHistory();
+
+        assertThrows(IllegalStateException.class, () -> history.add("help"));
+        CommandHistory reread = storage.readCommandHistory().orElseThrow();
+        assertEquals(List.of("list"), reread.getEntries());
+        assertNotSame(history, reread);
+    }
+
+    private RingFileCommandHistoryStorage storage(Path filePath) {
+        return storage(filePath, RingFileCommandHistoryStorage.DEFAULT_CAPACITY, Optional.empty());
+    }
+
+    private RingFileCommandHistoryStorage storage(Path filePath, int capacity,
+            Optional<CommandHistoryStorage> legacyStorage) {
+        RingFileCommandHistoryStorage storage = new RingFileCommandHistoryStorage(filePath, capacity, legacyStorage);
+        storages.add(storage);
+        return storage;
+    }
+}
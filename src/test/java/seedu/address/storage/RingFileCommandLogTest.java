@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RingFileCommandLogTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Closed after each test, as a mapped file cannot be deleted on every platform
+    private final List<RingFileCommandLog> openLogs = new ArrayList<>();
+
+    @AfterEach
+    void closeLogs() {
+        openLogs.forEach(RingFileCommandLog::close);
+    }
+
+    @Test
+    void open_newFile_createsEmptyLogOfCapacity() throws IOException {
+        Path filePath = tempDir.resolve("nested").resolve("history.ring");
+
+        RingFileCommandLog log = open(filePath, 1024);
+
+        assertEquals(0, log.size());
+        assertEquals(1024, log.getCapacity());
+        assertEquals(RingFileCommandLog.HEADER_SIZE + 1024, Files.size(filePath));
+    }
+
+    @Test
+    void open_existingFile_keepsEntriesAndCapacity() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandLog log = open(filePath, 1024);
+        log.append("list");
+        log.append("find alice");
+
+        RingFileCommandLog reopened = open(filePath, 4096);
+
+        assertEquals(List.of("list", "find alice"), entriesOf(reopened));
+        assertEquals(1024, reopened.getCapacity());
+    }
+
+    @Test
+    void open_notRingFile_throwsIoException() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        Files.writeString(filePath, "{\"commands\":[\"list\"]}".repeat(4));
+
+        assertThrows(IOException.class, () -> open(filePath, 1024));
+    }
+
+    @Test
+    void open_corruptedHeader_throwsIoException() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        open(filePath, 1024).append("list");
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Point the end of the entries past the end of the file
+        bytes[20] = 0x7f;
+        Files.write(filePath, bytes);
+
+        assertThrows(IOException.class, () -> open(filePath, 1024));
+    }
+
+    @Test
+    void append_pastEndOfFile_dropsOldestEntriesAndWraps() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        // Each entry takes 8 bytes of lengths and 10 bytes of text, so 5 of them fit in 100 bytes
+        RingFileCommandLog log = open(filePath, 100);
+        List<String> appended = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            String entry = String.format("command%03d", i);
+            log.append(entry);
+            appended.add(entry);
+
+            List<String> expected = appended.subList(Math.max(0, appended.size() - 5), appended.size());
+            assertEquals(expected, entriesOf(log));
+        }
+
+        assertEquals(appended.subList(18, 23), entriesOf(open(filePath, 100)));
+    }
+
+    @Test
+    void append_entriesOfDifferentLengths_keepsNewestThatFit() throws IOException {
+        RingFileCommandLog log = open(tempDir.resolve("history.ring"), 64);
+        log.append("a");
+        log.append("bb");
+        log.append("c".repeat(30));
+        log.append("dddd");
+
+        // 9 + 10 + 38 bytes were used, so "a" and "bb" make room for the 12 bytes of "dddd"
+        assertEquals(List.of("c".repeat(30), "dddd"), entriesOf(log));
+
+        log.append("e".repeat(56));
+        assertEquals(List.of("e".repeat(56)), entriesOf(log));
+    }
+
+    @Test
+    void append_nonAsciiEntry_readsBackSameText() throws IOException {
+        RingFileCommandLog log = open(tempDir.resolve("history.ring"), 1024);
+        log.append("find Zoë 李");
+
+        assertEquals("find Zoë 李", log.get(0));
+    }
+
+    @Test
+    void append_entryLongerThanFile_throwsIllegalArgumentException() throws IOException {
+        RingFileCommandLog log = open(tempDir.resolve("history.ring"), 64);
+
+        assertThrows(IllegalArgumentException.class, () -> log.append("x".repeat(57)));
+    }
+
+    @Test
+    void get_backwardsAndRandomOrder_returnsEntryAtIndex() throws IOException {
+        RingFileCommandLog log = open(tempDir.resolve("history.ring"), 150);
+        for (int i = 0; i < 20; i++) {
+            log.append("entry" + i);
+        }
+        List<String> forwards = entriesOf(log);
+
+        for (int i = log.size() - 1; i >= 0; i--) {
+            assertEquals(forwards.get(i), log.get(i));
+        }
+        for (int i : new int[] {3, 0, log.size() - 1, 1, 4}) {
+            assertEquals(forwards.get(i), log.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> log.get(log.size()));
+    }
+
+    @Test
+    void clear_removesEntries() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandLog log = open(filePath, 1024);
+        log.append("list");
+        log.clear();
+        log.append("help");
+
+        assertEquals(List.of("help"), entriesOf(open(filePath, 1024)));
+    }
+
+    @Test
+    void close_thenUsed_throwsIllegalStateExceptionAndFileCanBeDeleted() throws IOException {
+        Path filePath = tempDir.resolve("history.ring");
+        RingFileCommandLog log = open(filePath, 1024);
+        log.append("list");
+
+        log.close();
+        log.close();
+
+        assertThrows(IllegalStateException.class, () -> log.append("help"));
+        assertThrows(IllegalStateException.class, () -> log.get(0));
+        assertThrows(IllegalStateException.class, log::clear);
+        assertEquals(List.of("list"), entriesOf(open(filePath, 1024)));
+        openLogs.forEach(RingFileCommandLog::close);
+        Files.delete(filePath);
+    }
+
+    private RingFileCommandLog open(Path filePath, int capacity) throws IOException {
+        RingFileCommandLog log = RingFileCommandLog.open(filePath, capacity);
+        openLogs.add(log);
+        return log;
+    }
+
+    private static List<String> entriesOf(RingFileCommandLog log) {
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < log.size(); i++) {
+            entries.add(log.get(i));
+        }
+        return entries;
+    }
+}
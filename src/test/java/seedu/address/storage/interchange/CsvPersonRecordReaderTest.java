@@ -0,0 +1,68 @@
+package seedu.address.storage.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvPersonRecordReaderTest {
+
+    private static CsvPersonRecordReader reader(String csv) throws IOException {
+        return new CsvPersonRecordReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    public void read_validRows_success() throws IOException {
+        CsvPersonRecordReader reader = reader("Name,Phone,Email,Address,Tags,Company\n"
+                + "Alice Pauline,94351253,alice@example.com,\"123, Jurong West\",friends;vip,ACME\n"
+                + "\n"
+                + "Benson Meier,98765432,benson@example.com,\"Multi\nline \"\"quoted\"\"\",,\n");
+
+        PersonRecord alice = reader.read();
+        assertEquals(2, alice.getLineNumber());
+        assertEquals("Alice Pauline", alice.getName());
+        assertEquals("123, Jurong West", alice.getAddress());
+        assertEquals(List.of("friends", "vip"), alice.getTags());
+        assertEquals(Map.of("Company", "ACME"), alice.getCustomFields());
+
+        PersonRecord benson = reader.read();
+        assertEquals(4, benson.getLineNumber());
+        assertEquals("Multi\nline \"quoted\"", benson.getAddress());
+        assertEquals(List.of(), benson.getTags());
+        assertEquals(Map.of(), benson.getCustomFields());
+
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_shortRow_missingFieldsNull() throws IOException {
+        PersonRecord record = reader("name,phone,email,address\nAlice,123\n").read();
+        assertEquals("123", record.getPhone());
+        assertNull(record.getEmail());
+        assertNull(record.getAddress());
+    }
+
+    @Test
+    public void constructor_missingRequiredColumns_throwsIoException() {
+        assertThrows(IOException.class, "Header is missing required columns: email, address", () ->
+                reader("name,phone\n"));
+    }
+
+    @Test
+    public void constructor_reservedColumn_throwsIoException() {
+        assertThrows(IOException.class, () -> reader("name,phone,email,address,to\n"));
+    }
+
+    @Test
+    public void read_unterminatedQuote_throwsIoException() throws IOException {
+        CsvPersonRecordReader reader = reader("name,phone,email,address\nAlice,123,a@b.com,\"unterminated\n");
+        assertThrows(IOException.class, reader::read);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonRecordWriterTest {
+
+    @Test
+    public void write_persons_readBackByReader() throws IOException {
+        Person person = new PersonBuilder().withName("Alice Pauline").withAddress("123, \"Jurong\" West")
+                .withTags("vip", "friends").withCustomFields(Map.of("company", "ACME")).build();
+        Person plain = new PersonBuilder().withName("Benson Meier").build();
+
+        StringWriter output = new StringWriter();
+        try (CsvPersonRecordWriter writer = new CsvPersonRecordWriter(output, List.of("company"))) {
+            writer.write(person);
+            writer.write(plain);
+        }
+
+        assertEquals("name,phone,email,address,tags,info,company",
+                output.toString().substring(0, output.toString().indexOf("\r\n")));
+
+        CsvPersonRecordReader reader = new CsvPersonRecordReader(
+                new BufferedReader(new StringReader(output.toString())));
+        PersonRecord record = reader.read();
+        assertEquals("Alice Pauline", record.getName());
+        assertEquals("123, \"Jurong\" West", record.getAddress());
+        assertEquals(List.of("friends", "vip"), record.getTags());
+        assertEquals(Map.of("company", "ACME"), record.getCustomFields());
+
+        PersonRecord plainRecord = reader.read();
+        assertEquals("Benson Meier", plainRecord.getName());
+        assertEquals(List.of(), plainRecord.getTags());
+        assertNull(reader.read());
+    }
+}
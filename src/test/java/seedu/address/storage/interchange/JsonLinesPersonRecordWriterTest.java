@@ -0,0 +1,36 @@
+package seedu.address.storage.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonLinesPersonRecordWriterTest {
+
+    @Test
+    public void write_persons_onePersonPerLine() throws IOException {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withAddress("12 \"Quoted\" Road").withTags("vip", "friends")
+                .withCustomFields(Map.of("company", "ACME")).build();
+        Person plain = new PersonBuilder().withName("Benson Meier").build();
+
+        StringWriter output = new StringWriter();
+        try (JsonLinesPersonRecordWriter writer = new JsonLinesPersonRecordWriter(output)) {
+            writer.write(person);
+            writer.write(plain);
+        }
+
+        List<String> lines = output.toString().lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals("{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                + "\"address\":\"12 \\\"Quoted\\\" Road\",\"tags\":[\"friends\",\"vip\"],"
+                + "\"customFields\":{\"company\":\"ACME\"},\"info\":\"\"}", lines.get(0));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class VcardPersonRecordReaderTest {
+
+    private static VcardPersonRecordReader reader(String vcard) throws IOException {
+        return new VcardPersonRecordReader(new BufferedReader(new StringReader(vcard)));
+    }
+
+    @Test
+    public void read_validCards_success() throws IOException {
+        VcardPersonRecordReader reader = reader("BEGIN:VCARD\n"
+                + "VERSION:3.0\n"
+                + "N:Pauline;Alice;;;\n"
+                + "item1.TEL;TYPE=cell:+65 9435 1253\n"
+                + "TEL;TYPE=work:61234567\n"
+                + "EMAIL:alice@example.com\n"
+                + "ADR;TYPE=home:;;123 Jurong West\\, Ave 6;Singapore;;640123;\n"
+                + "CATEGORIES:friends,vip\n"
+                + "ORG:ACME;Research\n"
+                + "NOTE:Prefers email.\\nCall after 5pm.\n"
+                + "END:VCARD\n"
+                + "\n"
+                + "BEGIN:VCARD\n"
+                + "FN:Benson\n"
+                + "  Meier\n"
+                + "END:VCARD\n");
+
+        PersonRecord alice = reader.read();
+        assertEquals(1, alice.getLineNumber());
+        assertEquals("Alice Pauline", alice.getName());
+        assertEquals("+65 9435 1253", alice.getPhone());
+        assertEquals("alice@example.com", alice.getEmail());
+        assertEquals("123 Jurong West, Ave 6, Singapore, 640123", alice.getAddress());
+        assertEquals(List.of("friends", "vip"), alice.getTags());
+        assertEquals(Map.of(VcardPersonRecordReader.ORGANISATION_FIELD, "ACME"), alice.getCustomFields());
+        assertEquals("Prefers email.\nCall after 5pm.", alice.getInfo());
+
+        PersonRecord benson = reader.read();
+        assertEquals(13, benson.getLineNumber());
+        assertEquals("Benson Meier", benson.getName());
+        assertNull(benson.getPhone());
+
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_unterminatedCard_throwsIoException() throws IOException {
+        VcardPersonRecordReader reader = reader("BEGIN:VCARD\nFN:Alice\n");
+        assertThrows(IOException.class, "Unterminated vCard starting on line 1.", reader::read);
+    }
+
+    @Test
+    public void read_contentOutsideCard_throwsIoException() throws IOException {
+        VcardPersonRecordReader reader = reader("FN:Alice\n");
+        assertThrows(IOException.class, reader::read);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.storage.interchange;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VcardPersonRecordWriterTest {
+
+    @Test
+    public void write_person_readBackByReader() throws IOException {
+        String longAddress = "Block 123; Jurong West Street 45, #10-1234, a rather long address that needs folding";
+        Person person = new PersonBuilder().withName("Alice Pauline").withAddress(longAddress)
+                .withTags("vip", "friends").withCustomFields(Map.of("company", "ACME", "title", "CEO")).build();
+
+        StringWriter output = new StringWriter();
+        try (VcardPersonRecordWriter writer = new VcardPersonRecordWriter(output)) {
+            writer.write(person);
+        }
+        assertTrue(output.toString().lines().allMatch(line -> line.length() <= 75));
+
+        VcardPersonRecordReader reader = new VcardPersonRecordReader(
+                new BufferedReader(new StringReader(output.toString())));
+        PersonRecord record = reader.read();
+        assertEquals("Alice Pauline", record.getName());
+        assertEquals(person.getPhone().value, record.getPhone());
+        assertEquals(person.getEmail().value, record.getEmail());
+        assertEquals(longAddress, record.getAddress());
+        assertEquals(List.of("friends", "vip"), record.getTags());
+        assertEquals(Map.of("company", "ACME", "title", "CEO"), record.getCustomFields());
+        assertNull(reader.read());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.testutil;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.function.Executable;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * A utility class for testing Java Flight Recorder events.
+ */
+public class FlightRecorderUtil {
+
+    /**
+     * Runs {@code executable} while recording events named {@code eventName}, and returns the events recorded.
+     */
+    public static List<RecordedEvent> recordEvents(String eventName, Executable executable) throws Throwable {
+        Path file = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            executable.execute();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
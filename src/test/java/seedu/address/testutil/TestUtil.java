@@ -4,6 +4,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
@@ -32,6 +35,24 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Returns {@code count} strings of up to {@code maxLength} characters drawn from {@code alphabet}, generated
+     * deterministically from {@code seed}.
+     */
+    public static List<String> getRandomStrings(long seed, int count, String alphabet, int maxLength) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */
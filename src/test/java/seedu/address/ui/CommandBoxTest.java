@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -324,4 +326,62 @@ public class CommandBoxTest {
         assert (contains);
     }
 
+    @Test
+    public void autocompleteImperative_variousPrefixes_completesAsFarAsUnambiguous() {
+        int[] caret = new int[1];
+        TextFieldAdapter adapter = new TextFieldAdapter() {
+            private String text = "";
+            private final java.util.List<String> style = new java.util.ArrayList<>();
+
+            @Override
+            public void addTextChangeListener(Runnable listener) {
+                // no-op for this test
+            }
+
+            @Override
+            public java.util.List<String> getStyleClass() {
+                return style;
+            }
+
+            @Override
+            public void setText(String text) {
+                this.text = text;
+            }
+
+            @Override
+            public void positionCaret(int pos) {
+                caret[0] = pos;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+        CommandBox box = new CommandBox((s) -> null, () -> new CommandHistory(), adapter);
+
+        // unique prefix completes to the imperative and a space
+        adapter.setText("hi");
+        assertTrue(box.autocompleteImperative());
+        assertEquals("history ", adapter.getText());
+        assertEquals(8, caret[0]);
+
+        // ambiguous prefixes complete only as far as the imperatives agree
+        adapter.setText("ex");
+        assertFalse(box.autocompleteImperative());
+        adapter.setText("e");
+        assertFalse(box.autocompleteImperative());
+        adapter.setText("im");
+        assertTrue(box.autocompleteImperative());
+        assertEquals("import ", adapter.getText());
+        assertEquals(7, caret[0]);
+
+        // unknown imperatives and arguments are left alone
+        adapter.setText("zz");
+        assertFalse(box.autocompleteImperative());
+        adapter.setText("");
+        assertFalse(box.autocompleteImperative());
+        adapter.setText("find al");
+        assertFalse(box.autocompleteImperative());
+    }
 }
@@ -8,6 +8,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.history.CommandHistory;
+
 class HistoryNavigatorTest {
 
     @Test
@@ -74,6 +76,22 @@ class HistoryNavigatorTest {
         assertEquals(List.of("x"), nav.getEntries());
     }
 
+    @Test
+    void resetWithHistory_readsEntriesOfHistory() {
+        CommandHistory history = new CommandHistory(List.of("one", "two"));
+        HistoryNavigator nav = new HistoryNavigator();
+        nav.reset(history);
+        assertEquals(2, nav.getPointer());
+
+        assertEquals("two", nav.previous().orElseThrow());
+        assertEquals("one", nav.previous().orElseThrow());
+        assertEquals("two", nav.next().orElseThrow());
+
+        // entries added after the reset are seen, as the history is not copied
+        history.add("three");
+        assertEquals(List.of("one", "two", "three"), nav.getEntries());
+    }
+
     @Test
     void previous_whenPointerGreaterThanSize_clampsAndReturnsLast() throws Exception {
         HistoryNavigator nav = new HistoryNavigator();
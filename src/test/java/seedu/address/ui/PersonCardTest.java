@@ -0,0 +1,109 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import seedu.address.model.person.Link;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCardTest {
+    private static final List<String> SECTIONS = List.of("#tags", "#links", "#customFieldsBox");
+    private static final List<String> LABELS = List.of("#id", "#name", "#phone", "#address", "#email");
+
+    private static boolean isToolkitAvailable;
+
+    private final Person plain = new PersonBuilder().withName("Plain Person").build();
+    private final Person detailed = detailedPerson(plain);
+
+    @BeforeAll
+    public static void startToolkit() {
+        try {
+            Platform.startup(() -> {});
+            isToolkitAvailable = true;
+        } catch (IllegalStateException e) {
+            // Already started by an earlier test
+            isToolkitAvailable = true;
+        } catch (UnsupportedOperationException e) {
+            // No display to start the toolkit on, so controls cannot be created
+            isToolkitAvailable = false;
+        }
+    }
+
+    @Test
+    public void bind_plainThenDetailed_matchesFreshCard() {
+        assumeTrue(isToolkitAvailable);
+        PersonCard card = new PersonCard(plain, 1);
+        assertFalse(card.getRoot().lookup("#links").isVisible());
+        assertFalse(card.getRoot().lookup("#customFieldsBox").isManaged());
+
+        card.bind(detailed, 2);
+        assertSameDisplay(new PersonCard(detailed, 2), card);
+    }
+
+    @Test
+    public void bind_detailedThenPlain_matchesFreshCard() {
+        assumeTrue(isToolkitAvailable);
+        PersonCard card = new PersonCard(detailed, 1);
+        assertTrue(card.getRoot().lookup("#links").isVisible());
+        assertTrue(card.getRoot().lookup("#customFieldsBox").isManaged());
+
+        card.bind(plain, 2);
+        assertSameDisplay(new PersonCard(plain, 2), card);
+    }
+
+    /**
+     * Returns a person different from {@code other}, with tags, a link to {@code other} and custom fields.
+     */
+    private static Person detailedPerson(Person other) {
+        Person base = new PersonBuilder().withName("Detailed Person").withTags("client", "vip")
+                .withCustomFields(Map.of("company", "Goldman Sachs", "asset-class", "gold")).build();
+        return new seedu.address.model.person.builder.PersonBuilder(base)
+                .withLinks(Set.of(new Link(base, other, "lawyer")))
+                .build();
+    }
+
+    /**
+     * Asserts that {@code actual} shows the same sections and text as {@code expected}.
+     */
+    private static void assertSameDisplay(PersonCard expected, PersonCard actual) {
+        for (String section : SECTIONS) {
+            Node expectedNode = expected.getRoot().lookup(section);
+            Node actualNode = actual.getRoot().lookup(section);
+            assertEquals(expectedNode.isVisible(), actualNode.isVisible(), section);
+            assertEquals(expectedNode.isManaged(), actualNode.isManaged(), section);
+            assertEquals(texts(expectedNode), texts(actualNode), section);
+        }
+        for (String label : LABELS) {
+            assertEquals(texts(expected.getRoot().lookup(label)), texts(actual.getRoot().lookup(label)), label);
+        }
+    }
+
+    /**
+     * Returns the text of every label in {@code node}, in the order they are laid out.
+     */
+    private static List<String> texts(Node node) {
+        if (node instanceof Label label) {
+            return List.of(label.getText());
+        }
+        if (node instanceof Parent parent) {
+            return parent.getChildrenUnmodifiable().stream()
+                    .flatMap(child -> texts(child).stream())
+                    .toList();
+        }
+        return List.of();
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonViewModelTest {
+
+    @Test
+    public void of_samePerson_returnsCachedViewModel() {
+        Person person = new PersonBuilder().build();
+        assertSame(PersonViewModel.of(person), PersonViewModel.of(person));
+    }
+
+    @Test
+    public void of_equalButDistinctPerson_computesNewViewModel() {
+        Person person = new PersonBuilder().build();
+        Person copy = new PersonBuilder(person).build();
+        assertNotSame(PersonViewModel.of(person), PersonViewModel.of(copy));
+    }
+
+    @Test
+    public void of_sortsTagsAndFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("zeta", "last");
+        fields.put("Alpha", "first");
+        fields.put("blank", " ");
+        Person person = new PersonBuilder().withTags("vip", "client", "friend").withCustomFields(fields).build();
+
+        PersonViewModel viewModel = PersonViewModel.of(person);
+        assertEquals(List.of("client", "friend", "vip"), viewModel.getTags());
+        assertEquals(List.of(Map.entry("Alpha", "first"), Map.entry("zeta", "last")), viewModel.getCustomFields());
+        assertEquals(person.getName().fullName, viewModel.getName());
+        assertEquals(person.getPhone().value, viewModel.getPhone());
+    }
+}